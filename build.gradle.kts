@@ -78,6 +78,22 @@ application {
     )
 }
 
+tasks.register<JavaExec>("backtest") {
+    group = "application"
+    description = "Runs the strategy parameter sweep from the backtest section of the config"
+    mainClass.set("com.velocitytrade.backtest.BacktestMain")
+    classpath = sourceSets["main"].runtimeClasspath
+    jvmArgs("-Xms2g", "-Xmx2g")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "application"
+    description = "Runs the open-loop tick-to-trade load test from the load_test section of the config"
+    mainClass.set("com.velocitytrade.loadtest.LoadTestMain")
+    classpath = sourceSets["main"].runtimeClasspath
+    jvmArgs("-Xms2g", "-Xmx2g", "-XX:+UseZGC", "-XX:+AlwaysPreTouch")
+}
+
 tasks.named<Test>("test") {
     useJUnitPlatform()
 
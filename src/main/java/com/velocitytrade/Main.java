@@ -1,9 +1,16 @@
 package com.velocitytrade;
 
+import com.velocitytrade.config.ConfigLoader.PricingConfig;
+import com.velocitytrade.ipc.ShmRingReader;
+import com.velocitytrade.ipc.ShmRingWriter;
+import com.velocitytrade.ipc.TickMessage;
+import com.velocitytrade.marketdata.PriceScale;
 import lombok.extern.slf4j.Slf4j;
 
 import java.net.*;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * VelocityTrade - Microsecond Precision Trading Platform
@@ -13,6 +20,12 @@ public class Main {
 
     private static final String MULTICAST_GROUP = "239.255.0.1";
     private static final int MULTICAST_PORT = 5000;
+    private static final String SHM_CHECK_FILE = "velocitytrade-startup-check";
+
+    // Startup checks send prices in the default pricing convention, same as the live wire format
+    private static final PriceScale PRICE_SCALE = PriceScale.of(new PricingConfig().getPrice_scale(),
+            new PricingConfig().getDefault_tick_size());
+    private static final long CHECK_PRICE = PRICE_SCALE.toUnits(150.00);
 
     public static void main(String[] args) {
         log.info("VelocityTrade v1.0.0 - Starting...");
@@ -23,6 +36,9 @@ public class Main {
         // Test UDP networking
         testUdpNetworking();
 
+        // Test same-host shared-memory transport
+        testSharedMemoryIpc();
+
         log.info("VelocityTrade - Startup Complete");
     }
 
@@ -113,8 +129,8 @@ public class Main {
                         long orderId = bb.getLong();
                         long sequence = bb.getLong();
 
-                        log.info("Received: seq={}, type={}, price={}, qty={}",
-                                sequence, (char) msgType, price, quantity);
+                        log.info("Received: seq={}, type={}, price={} ({} units), qty={}",
+                                sequence, (char) msgType, PRICE_SCALE.toDouble(price), price, quantity);
                         messagesReceived++;
                     } catch (SocketTimeoutException e) {
                         log.warn("Timeout waiting for message #{}", i);
@@ -161,7 +177,7 @@ public class Main {
                     buffer.put((byte) 'A');  // Message type
                     buffer.putInt(0);  // Symbol ID
                     buffer.put((byte) 'B');  // Side
-                    buffer.putLong(15000);  // Price
+                    buffer.putLong(CHECK_PRICE);  // Price, fixed-point units
                     buffer.putInt(100);  // Quantity
                     buffer.putLong(i);  // Order ID
                     buffer.putLong(i);  // Sequence
@@ -194,4 +210,40 @@ public class Main {
             log.error("Test interrupted", e);
         }
     }
+
+    private static void testSharedMemoryIpc() {
+        log.info("Testing shared-memory IPC...");
+
+        Path dir = Files.isDirectory(Path.of("/dev/shm")) ? Path.of("/dev/shm") : Path.of(System.getProperty("java.io.tmpdir"));
+        Path path = dir.resolve(SHM_CHECK_FILE);
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 1024, 64)) {
+            ShmRingReader reader = new ShmRingReader(path);
+            long[] totalLatency = {0};
+            int messages = 1000;
+            int received = 0;
+
+            for (int i = 0; i < messages; i++) {
+                TickMessage.publish(writer, 0, CHECK_PRICE, CHECK_PRICE - PRICE_SCALE.tickUnits(),
+                        CHECK_PRICE + PRICE_SCALE.tickUnits(), System.nanoTime());
+                received += reader.poll((buffer, offset, length, sequence) ->
+                        totalLatency[0] += System.nanoTime() - TickMessage.timestamp(buffer, offset), 1);
+            }
+
+            if (received == messages) {
+                log.info("Shared-memory IPC: OK ({} messages via {}, avg {} ns)",
+                        received, path, totalLatency[0] / received);
+            } else {
+                log.warn("Shared-memory IPC: PARTIAL ({}/{} messages received)", received, messages);
+            }
+        } catch (Exception e) {
+            log.warn("Shared-memory IPC test failed: {}", e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(path);
+            } catch (Exception e) {
+                log.debug("Could not remove {}", path);
+            }
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.velocitytrade.backtest;
+
+import com.velocitytrade.config.ConfigLoader;
+import com.velocitytrade.config.ConfigLoader.AppConfig;
+import com.velocitytrade.config.ConfigLoader.PricingConfig;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.util.MappedCsvSymbolLoader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameter sweep over the {@code backtest} section of the config, on the CSV symbol universe.
+ * <p>
+ * Usage: {@code BacktestMain [config.yaml]}, or {@code ./gradlew backtest}.
+ */
+@Slf4j
+public class BacktestMain {
+
+    public static void main(String[] args) throws IOException {
+        AppConfig config = ConfigLoader.loadConfig(args.length > 0 ? args[0] : "config/application.yaml");
+        if (config.getBacktest() == null) {
+            throw new IllegalArgumentException("No backtest section in config");
+        }
+
+        SymbolRegistry registry = SymbolRegistry.of(
+                new MappedCsvSymbolLoader(config.getMarket_data().getCsv().getFilepath()).loadStore());
+        PricingConfig pricing = config.getPricing() != null ? config.getPricing() : new PricingConfig();
+        PriceScales scales = PriceScales.of(registry, pricing.getPrice_scale(), pricing.getDefault_tick_size(),
+                pricing.getTick_sizes());
+
+        List<Map<String, Double>> parameterSets = BacktestRunner.parameterSets(config);
+        List<BacktestResult> results = new BacktestRunner(config, registry, scales).run(parameterSets);
+
+        log.info("Backtest of {} parameter sets, best P&L first:\n{}", results.size(),
+                BacktestRunner.summaryTable(results));
+    }
+}
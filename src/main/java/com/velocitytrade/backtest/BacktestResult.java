@@ -0,0 +1,14 @@
+package com.velocitytrade.backtest;
+
+import java.util.Map;
+
+/**
+ * Outcome of one simulation. P&L and drawdown are in currency, marked to the final mid.
+ *
+ * @param riskRejects orders clamped or refused by {@link RiskLimits}
+ * @param halted      whether the daily loss limit stopped the simulation early
+ */
+public record BacktestResult(Map<String, Double> parameters, double totalPnl, double realizedPnl,
+                             double maxDrawdown, long trades, long sharesTraded, long riskRejects,
+                             boolean halted, long ticks, long elapsedNanos) {
+}
@@ -0,0 +1,152 @@
+package com.velocitytrade.backtest;
+
+import com.velocitytrade.config.ConfigLoader.AppConfig;
+import com.velocitytrade.config.ConfigLoader.BacktestConfig;
+import com.velocitytrade.marketdata.PriceGenerator;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one {@link Simulation} per parameter set on a bounded fork-join pool and ranks the results.
+ * <p>
+ * Every simulation replays the same seed, so parameter sets are compared on identical price paths, and
+ * results do not depend on the pool size. Simulations share only immutable inputs.
+ */
+@Slf4j
+public class BacktestRunner {
+    private final SymbolRegistry registry;
+    private final PriceScales scales;
+    private final RiskLimits limits;
+    private final String strategy;
+    private final long seed;
+    private final int ticksPerSymbol;
+    private final int parallelism;
+    private final double[] liquidity;
+
+    public BacktestRunner(AppConfig config, SymbolRegistry registry, PriceScales scales) {
+        this(registry, scales, RiskLimits.fromConfig(config.getRisk()), config.getBacktest().getStrategy(),
+                config.getBacktest().getSeed(), config.getBacktest().getTicks_per_symbol(),
+                config.getBacktest().getParallelism());
+    }
+
+    /**
+     * @param parallelism worker threads; 0 for one per available processor
+     */
+    public BacktestRunner(SymbolRegistry registry, PriceScales scales, RiskLimits limits, String strategy,
+                          long seed, int ticksPerSymbol, int parallelism) {
+        if (ticksPerSymbol < 1 || parallelism < 0) {
+            throw new IllegalArgumentException("Invalid backtest settings: " + ticksPerSymbol
+                    + " ticks per symbol, parallelism " + parallelism);
+        }
+        if (registry.size() == 0) {
+            throw new IllegalArgumentException("Backtest needs at least one symbol");
+        }
+
+        this.registry = registry;
+        this.scales = scales;
+        this.limits = limits;
+        this.strategy = strategy;
+        this.seed = seed;
+        this.ticksPerSymbol = ticksPerSymbol;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        Random random = new Random(seed);
+        this.liquidity = new double[registry.idLimit()];
+        for (int id = 0; id < registry.idLimit(); id++) {
+            if (registry.contains(id)) {
+                liquidity[id] = PriceGenerator.estimateLiquidity(registry.symbol(id), random);
+            }
+        }
+    }
+
+    /**
+     * Every grid combination layered over the configured strategy parameters.
+     */
+    public static List<Map<String, Double>> parameterSets(AppConfig config) {
+        BacktestConfig backtest = config.getBacktest();
+        return Parameters.grid(Parameters.base(backtest.getStrategy(), config.getStrategies()), backtest.getGrid());
+    }
+
+    /**
+     * @return one result per parameter set, best total P&L first
+     */
+    public List<BacktestResult> run(List<Map<String, Double>> parameterSets) {
+        List<Simulation> simulations = new ArrayList<>(parameterSets.size());
+        for (Map<String, Double> parameters : parameterSets) {
+            // Fail fast on a bad parameter set rather than inside a worker
+            BacktestStrategies.create(strategy, parameters, registry.idLimit());
+            simulations.add(new Simulation(registry, scales, liquidity, strategy,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(parameters)), limits, seed, ticksPerSymbol));
+        }
+
+        log.info("Backtest: {} {} simulations x {} symbols x {} ticks on {} workers",
+                simulations.size(), strategy, registry.size(), ticksPerSymbol, parallelism);
+
+        long start = System.nanoTime();
+        List<BacktestResult> results = new ArrayList<>(simulations.size());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<BacktestResult> future : pool.invokeAll(simulations)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Backtest interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long ticks = results.stream().mapToLong(BacktestResult::ticks).sum();
+        log.info("Backtest complete: {} ticks in {} ms ({} ticks/sec)", ticks,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), elapsed > 0 ? ticks * 1_000_000_000L / elapsed : ticks);
+
+        results.sort(Comparator.comparingDouble(BacktestResult::totalPnl).reversed());
+        return results;
+    }
+
+    /**
+     * Fixed-width table of the results, one row per simulation in the given order.
+     */
+    public static String summaryTable(List<BacktestResult> results) {
+        List<String> names = results.isEmpty() ? List.of() : new ArrayList<>(results.get(0).parameters().keySet());
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%4s", "#"));
+        for (String name : names) {
+            table.append(String.format(" %22s", name));
+        }
+        table.append(String.format(" %14s %14s %12s %8s %10s %7s %6s%n",
+                "total_pnl", "realized_pnl", "max_dd", "trades", "shares", "rejects", "halted"));
+
+        int rank = 1;
+        for (BacktestResult result : results) {
+            table.append(String.format("%4d", rank++));
+            for (String name : names) {
+                table.append(String.format(" %22s", result.parameters().get(name)));
+            }
+            table.append(String.format(" %14.2f %14.2f %12.2f %8d %10d %7d %6s%n",
+                    result.totalPnl(), result.realizedPnl(), result.maxDrawdown(), result.trades(),
+                    result.sharesTraded(), result.riskRejects(), result.halted() ? "yes" : "no"));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.velocitytrade.backtest;
+
+import java.util.Map;
+
+public final class BacktestStrategies {
+    public static final String MOMENTUM = "momentum";
+    public static final String ARBITRAGE = "arbitrage";
+
+    private BacktestStrategies() {
+    }
+
+    /**
+     * A fresh, unshared strategy instance for one simulation.
+     */
+    public static BacktestStrategy create(String strategy, Map<String, Double> parameters, int idLimit) {
+        return switch (strategy) {
+            case MOMENTUM -> MomentumStrategy.fromParameters(parameters, idLimit);
+            case ARBITRAGE -> MeanReversionStrategy.fromParameters(parameters, idLimit);
+            default -> throw new IllegalArgumentException("Unknown backtest strategy: " + strategy);
+        };
+    }
+}
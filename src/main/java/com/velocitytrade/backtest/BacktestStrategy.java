@@ -0,0 +1,16 @@
+package com.velocitytrade.backtest;
+
+/**
+ * Signal side of a strategy under simulation: given each tick and the current holding, the position it
+ * wants. Execution, risk limits and P&L belong to the {@link Simulation}. One instance per simulation.
+ */
+public interface BacktestStrategy {
+
+    /**
+     * @param mid          fixed-point mid price
+     * @param position     current signed position in shares
+     * @param averagePrice average cost of the position in price units, 0 when flat
+     * @return desired signed position in shares
+     */
+    long targetPosition(int symbolId, long mid, long position, double averagePrice);
+}
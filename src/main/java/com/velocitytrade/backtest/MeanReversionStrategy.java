@@ -0,0 +1,82 @@
+package com.velocitytrade.backtest;
+
+import java.util.Map;
+
+/**
+ * Z-score mean reversion on each symbol's own mid over {@code lookback_window} ticks: fades moves beyond
+ * {@code entry_threshold_zscore} and exits once back inside {@code exit_threshold_zscore}. This is the
+ * single-symbol form of the {@code arbitrage} settings until pair data is available.
+ */
+public class MeanReversionStrategy implements BacktestStrategy {
+    private final int lookback;
+    private final double entryZ;
+    private final double exitZ;
+    private final long positionSize;
+
+    private final double[] window;  // lookback mids per symbol, row-major by symbol id
+    private final int[] counts;
+    private final double[] sums;
+    private final double[] sumsOfSquares;
+
+    public MeanReversionStrategy(int idLimit, int lookback, double entryZ, double exitZ, long positionSize) {
+        if (lookback < 2) {
+            throw new IllegalArgumentException("lookback_window must be at least 2: " + lookback);
+        }
+
+        this.lookback = lookback;
+        this.entryZ = entryZ;
+        this.exitZ = exitZ;
+        this.positionSize = positionSize;
+        this.window = new double[idLimit * lookback];
+        this.counts = new int[idLimit];
+        this.sums = new double[idLimit];
+        this.sumsOfSquares = new double[idLimit];
+    }
+
+    public static MeanReversionStrategy fromParameters(Map<String, Double> parameters, int idLimit) {
+        return new MeanReversionStrategy(idLimit,
+                Parameters.require(parameters, "lookback_window").intValue(),
+                Parameters.require(parameters, "entry_threshold_zscore"),
+                Parameters.require(parameters, "exit_threshold_zscore"),
+                Parameters.require(parameters, "position_size").longValue());
+    }
+
+    @Override
+    public long targetPosition(int symbolId, long mid, long position, double averagePrice) {
+        int count = counts[symbolId];
+        int slot = symbolId * lookback + count % lookback;
+        double price = mid;
+
+        if (count >= lookback) {
+            double evicted = window[slot];
+            sums[symbolId] -= evicted;
+            sumsOfSquares[symbolId] -= evicted * evicted;
+        }
+        window[slot] = price;
+        sums[symbolId] += price;
+        sumsOfSquares[symbolId] += price * price;
+        counts[symbolId] = count + 1;
+
+        if (count + 1 < lookback) {
+            return position;
+        }
+
+        double mean = sums[symbolId] / lookback;
+        double variance = sumsOfSquares[symbolId] / lookback - mean * mean;
+        if (variance <= 0) {
+            return position;
+        }
+        double z = (price - mean) / Math.sqrt(variance);
+
+        if (position != 0) {
+            return Math.abs(z) < exitZ ? 0 : position;
+        }
+        if (z > entryZ) {
+            return -positionSize;
+        }
+        if (z < -entryZ) {
+            return positionSize;
+        }
+        return 0;
+    }
+}
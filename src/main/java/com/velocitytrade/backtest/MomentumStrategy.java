@@ -0,0 +1,55 @@
+package com.velocitytrade.backtest;
+
+import java.util.Map;
+
+/**
+ * Enters in the direction of a tick-to-tick move larger than {@code momentum_threshold} and exits on
+ * {@code stop_loss} or {@code take_profit}, both as fractions of the entry price.
+ */
+public class MomentumStrategy implements BacktestStrategy {
+    private final double momentumThreshold;
+    private final double stopLoss;
+    private final double takeProfit;
+    private final long positionSize;
+    private final long[] lastMids;
+
+    public MomentumStrategy(int idLimit, double momentumThreshold, double stopLoss, double takeProfit,
+                            long positionSize) {
+        this.momentumThreshold = momentumThreshold;
+        this.stopLoss = stopLoss;
+        this.takeProfit = takeProfit;
+        this.positionSize = positionSize;
+        this.lastMids = new long[idLimit];
+    }
+
+    public static MomentumStrategy fromParameters(Map<String, Double> parameters, int idLimit) {
+        return new MomentumStrategy(idLimit,
+                Parameters.require(parameters, "momentum_threshold"),
+                Parameters.require(parameters, "stop_loss"),
+                Parameters.require(parameters, "take_profit"),
+                Parameters.require(parameters, "position_size").longValue());
+    }
+
+    @Override
+    public long targetPosition(int symbolId, long mid, long position, double averagePrice) {
+        long last = lastMids[symbolId];
+        lastMids[symbolId] = mid;
+
+        if (position != 0) {
+            double move = (mid - averagePrice) / averagePrice * Long.signum(position);
+            return move <= -stopLoss || move >= takeProfit ? 0 : position;
+        }
+        if (last == 0) {
+            return 0;
+        }
+
+        double change = (double) (mid - last) / last;
+        if (change > momentumThreshold) {
+            return positionSize;
+        }
+        if (change < -momentumThreshold) {
+            return -positionSize;
+        }
+        return 0;
+    }
+}
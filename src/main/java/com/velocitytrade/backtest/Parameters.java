@@ -0,0 +1,77 @@
+package com.velocitytrade.backtest;
+
+import com.velocitytrade.config.ConfigLoader.ArbitrageConfig;
+import com.velocitytrade.config.ConfigLoader.MomentumConfig;
+import com.velocitytrade.config.ConfigLoader.StrategiesConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strategy parameter sets: named doubles, keyed like the {@code strategies} section of the config.
+ */
+public final class Parameters {
+
+    private Parameters() {
+    }
+
+    public static Double require(Map<String, Double> parameters, String name) {
+        Double value = parameters.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing strategy parameter: " + name);
+        }
+        return value;
+    }
+
+    /**
+     * Configured values of a strategy, used as the base that grid values override.
+     */
+    public static Map<String, Double> base(String strategy, StrategiesConfig config) {
+        Map<String, Double> parameters = new LinkedHashMap<>();
+        switch (strategy) {
+            case BacktestStrategies.MOMENTUM -> {
+                MomentumConfig momentum = config.getMomentum();
+                parameters.put("momentum_threshold", momentum.getMomentum_threshold());
+                parameters.put("stop_loss", momentum.getStop_loss());
+                parameters.put("take_profit", momentum.getTake_profit());
+                parameters.put("position_size", (double) momentum.getPosition_size());
+            }
+            case BacktestStrategies.ARBITRAGE -> {
+                ArbitrageConfig arbitrage = config.getArbitrage();
+                parameters.put("lookback_window", (double) arbitrage.getLookback_window());
+                parameters.put("entry_threshold_zscore", arbitrage.getEntry_threshold_zscore());
+                parameters.put("exit_threshold_zscore", arbitrage.getExit_threshold_zscore());
+                parameters.put("position_size", (double) arbitrage.getPosition_size());
+            }
+            default -> throw new IllegalArgumentException("Unknown backtest strategy: " + strategy);
+        }
+        return parameters;
+    }
+
+    /**
+     * Cartesian product of the grid, each combination layered over {@code base}, in grid order.
+     */
+    public static List<Map<String, Double>> grid(Map<String, Double> base, Map<String, List<Double>> grid) {
+        List<Map<String, Double>> combinations = new ArrayList<>();
+        combinations.add(new LinkedHashMap<>(base));
+
+        for (Map.Entry<String, List<Double>> axis : grid.entrySet()) {
+            if (axis.getValue().isEmpty()) {
+                throw new IllegalArgumentException("Empty grid axis: " + axis.getKey());
+            }
+
+            List<Map<String, Double>> expanded = new ArrayList<>(combinations.size() * axis.getValue().size());
+            for (Map<String, Double> combination : combinations) {
+                for (Double value : axis.getValue()) {
+                    Map<String, Double> next = new LinkedHashMap<>(combination);
+                    next.put(axis.getKey(), value);
+                    expanded.add(next);
+                }
+            }
+            combinations = expanded;
+        }
+        return combinations;
+    }
+}
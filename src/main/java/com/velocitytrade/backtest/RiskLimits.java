@@ -0,0 +1,30 @@
+package com.velocitytrade.backtest;
+
+import com.velocitytrade.config.ConfigLoader.RiskConfig;
+
+/**
+ * Pre-trade limits applied inside each simulation, in shares and currency.
+ *
+ * @param maxDailyLoss loss at which the simulation flattens and stops trading; 0 disables the stop
+ */
+public record RiskLimits(long maxPositionPerSymbol, double maxOrderValue, double maxDailyLoss) {
+    public static final RiskLimits NONE = new RiskLimits(Long.MAX_VALUE, Double.MAX_VALUE, 0);
+
+    public static RiskLimits fromConfig(RiskConfig config) {
+        if (config == null) {
+            return NONE;
+        }
+        return new RiskLimits(
+                config.getMax_position_per_symbol() > 0 ? config.getMax_position_per_symbol() : Long.MAX_VALUE,
+                config.getMax_order_value() > 0 ? config.getMax_order_value() : Double.MAX_VALUE,
+                config.getMax_daily_loss());
+    }
+
+    public long clampPosition(long target) {
+        return Math.max(-maxPositionPerSymbol, Math.min(maxPositionPerSymbol, target));
+    }
+
+    public boolean isLossBreached(double pnl) {
+        return maxDailyLoss > 0 && pnl <= -maxDailyLoss;
+    }
+}
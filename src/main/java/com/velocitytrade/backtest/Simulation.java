@@ -0,0 +1,158 @@
+package com.velocitytrade.backtest;
+
+import com.velocitytrade.gateway.OrderEntryProtocol;
+import com.velocitytrade.marketdata.FixedPriceQuote;
+import com.velocitytrade.marketdata.PriceGenerator;
+import com.velocitytrade.marketdata.PriceScale;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.oms.PositionBook;
+
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One backtest run: a seeded price path for every symbol, fed tick by tick to a strategy that trades at
+ * the touch (buys at the ask, sells at the bid) through {@link RiskLimits}.
+ * <p>
+ * The generator, strategy, positions and equity are created per call and never leave it; the registry,
+ * scales and liquidity are only read. Simulated time walks one trading session from the open, so the
+ * generator's intraday volatility profile is reproducible from the seed.
+ */
+public class Simulation implements Callable<BacktestResult> {
+    private static final LocalTime SESSION_OPEN = LocalTime.of(9, 30);
+    private static final long SESSION_NANOS = TimeUnit.MINUTES.toNanos(390);
+
+    private final SymbolRegistry registry;
+    private final PriceScales scales;
+    private final double[] liquidity;
+    private final String strategy;
+    private final Map<String, Double> parameters;
+    private final RiskLimits limits;
+    private final long seed;
+    private final int ticksPerSymbol;
+
+    /**
+     * @param liquidity per symbol id; shared read-only between simulations
+     */
+    public Simulation(SymbolRegistry registry, PriceScales scales, double[] liquidity, String strategy,
+                      Map<String, Double> parameters, RiskLimits limits, long seed, int ticksPerSymbol) {
+        this.registry = registry;
+        this.scales = scales;
+        this.liquidity = liquidity;
+        this.strategy = strategy;
+        this.parameters = parameters;
+        this.limits = limits;
+        this.seed = seed;
+        this.ticksPerSymbol = ticksPerSymbol;
+    }
+
+    @Override
+    public BacktestResult call() {
+        long start = System.nanoTime();
+        int idLimit = registry.idLimit();
+
+        PriceGenerator generator = new PriceGenerator(seed);
+        BacktestStrategy signals = BacktestStrategies.create(strategy, parameters, idLimit);
+        PositionBook positions = new PositionBook(idLimit);
+
+        int[] symbolIds = new int[registry.size()];
+        long[] mids = new long[idLimit];
+        long[] bids = new long[idLimit];
+        long[] asks = new long[idLimit];
+        double[] equity = new double[idLimit];
+        int symbols = 0;
+        for (int id = 0; id < idLimit; id++) {
+            if (registry.contains(id)) {
+                symbolIds[symbols++] = id;
+                mids[id] = scales.toUnits(id, registry.initialPrice(id));
+            }
+        }
+
+        long stepNanos = Math.max(1, SESSION_NANOS / Math.max(1, ticksPerSymbol));
+        double totalEquity = 0;
+        double peakEquity = 0;
+        double maxDrawdown = 0;
+        long trades = 0;
+        long sharesTraded = 0;
+        long riskRejects = 0;
+        long ticks = 0;
+        boolean halted = false;
+
+        for (int t = 0; t < ticksPerSymbol && !halted; t++) {
+            LocalTime time = SESSION_OPEN.plusNanos(t * stepNanos);
+
+            for (int i = 0; i < symbols; i++) {
+                int id = symbolIds[i];
+                PriceScale scale = scales.forSymbol(id);
+                FixedPriceQuote quote = generator.nextQuote(mids[id], registry.volatility(id), liquidity[id],
+                        scale, time);
+                mids[id] = quote.mid();
+                bids[id] = quote.bid();
+                asks[id] = quote.ask();
+                ticks++;
+
+                long position = positions.position(id);
+                long wanted = signals.targetPosition(id, quote.mid(), position, positions.averagePrice(id));
+                long target = limits.clampPosition(wanted);
+                if (target != wanted) {
+                    riskRejects++;
+                }
+
+                long delta = target - position;
+                if (delta != 0) {
+                    long price = delta > 0 ? quote.ask() : quote.bid();
+                    if (Math.abs(delta) * scale.toDouble(price) > limits.maxOrderValue()) {
+                        riskRejects++;
+                    } else {
+                        positions.onFill(id, delta > 0 ? OrderEntryProtocol.SIDE_BUY : OrderEntryProtocol.SIDE_SELL,
+                                (int) Math.abs(delta), price);
+                        trades++;
+                        sharesTraded += Math.abs(delta);
+                    }
+                }
+
+                double symbolEquity = (positions.realizedPnl(id) + positions.unrealizedPnl(id, quote.mid()))
+                        / scale.scale();
+                totalEquity += symbolEquity - equity[id];
+                equity[id] = symbolEquity;
+
+                peakEquity = Math.max(peakEquity, totalEquity);
+                maxDrawdown = Math.max(maxDrawdown, peakEquity - totalEquity);
+
+                if (limits.isLossBreached(totalEquity)) {
+                    halted = true;
+                    break;
+                }
+            }
+        }
+
+        if (halted) {
+            for (int i = 0; i < symbols; i++) {
+                int id = symbolIds[i];
+                long position = positions.position(id);
+                if (position != 0) {
+                    positions.onFill(id, position < 0 ? OrderEntryProtocol.SIDE_BUY : OrderEntryProtocol.SIDE_SELL,
+                            (int) Math.abs(position), position < 0 ? asks[id] : bids[id]);
+                    trades++;
+                    sharesTraded += Math.abs(position);
+                }
+            }
+        }
+
+        double realized = 0;
+        double total = 0;
+        for (int i = 0; i < symbols; i++) {
+            int id = symbolIds[i];
+            long scale = scales.forSymbol(id).scale();
+            realized += positions.realizedPnl(id) / scale;
+            total += (positions.realizedPnl(id) + positions.unrealizedPnl(id, mids[id])) / scale;
+        }
+        maxDrawdown = Math.max(maxDrawdown, peakEquity - total);
+
+        return new BacktestResult(parameters, total, realized, maxDrawdown, trades, sharesTraded, riskRejects,
+                halted, ticks, System.nanoTime() - start);
+    }
+}
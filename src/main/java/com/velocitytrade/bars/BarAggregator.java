@@ -0,0 +1,154 @@
+package com.velocitytrade.bars;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incremental OHLCV bars for several timeframes at once.
+ * <p>
+ * Per timeframe, the open bar of every symbol lives in id-indexed primitive arrays; a tick updates
+ * each timeframe's bar in place, so the cost per tick is constant and allocation-free. A bar closes
+ * when its symbol's first tick of a later bucket arrives, or on {@link #closeElapsed(long)} for
+ * symbols that have gone quiet. Out-of-order ticks within the open bar's bucket are folded into it; ticks
+ * for an earlier bucket, whose bar has already been written out, are counted as late and dropped. Not
+ * thread-safe; fed from the tick thread.
+ */
+public class BarAggregator {
+    private static final long NO_BAR = Long.MIN_VALUE;
+
+    private final Timeframe[] timeframes;
+    private final BarSink sink;
+
+    private final long[][] starts;
+    private final long[][] opens;
+    private final long[][] highs;
+    private final long[][] lows;
+    private final long[][] closes;
+    private final long[][] volumes;
+    private final int[][] counts;
+
+    private long barsClosed;
+    private long lateTicks;
+
+    public BarAggregator(int idLimit, List<Timeframe> timeframes, BarSink sink) {
+        if (timeframes.isEmpty()) {
+            throw new IllegalArgumentException("At least one timeframe is required");
+        }
+
+        this.timeframes = timeframes.toArray(new Timeframe[0]);
+        this.sink = sink;
+
+        int n = this.timeframes.length;
+        this.starts = new long[n][idLimit];
+        this.opens = new long[n][idLimit];
+        this.highs = new long[n][idLimit];
+        this.lows = new long[n][idLimit];
+        this.closes = new long[n][idLimit];
+        this.volumes = new long[n][idLimit];
+        this.counts = new int[n][idLimit];
+
+        for (long[] start : starts) {
+            Arrays.fill(start, NO_BAR);
+        }
+    }
+
+    /**
+     * @param price  fixed-point price units
+     * @param volume traded quantity; 0 for quote-only ticks
+     */
+    public void onTick(int symbolId, long price, long volume, long timeMillis) {
+        for (int tf = 0; tf < timeframes.length; tf++) {
+            long bucket = timeframes[tf].bucketStart(timeMillis);
+            long start = starts[tf][symbolId];
+
+            if (bucket > start) {
+                if (counts[tf][symbolId] > 0) {
+                    close(tf, symbolId);
+                }
+                starts[tf][symbolId] = bucket;
+                opens[tf][symbolId] = price;
+                highs[tf][symbolId] = price;
+                lows[tf][symbolId] = price;
+                closes[tf][symbolId] = price;
+                volumes[tf][symbolId] = volume;
+                counts[tf][symbolId] = 1;
+            } else if (bucket < start || counts[tf][symbolId] == 0) {
+                lateTicks++;
+            } else {
+                if (price > highs[tf][symbolId]) {
+                    highs[tf][symbolId] = price;
+                }
+                if (price < lows[tf][symbolId]) {
+                    lows[tf][symbolId] = price;
+                }
+                closes[tf][symbolId] = price;
+                volumes[tf][symbolId] += volume;
+                counts[tf][symbolId]++;
+            }
+        }
+    }
+
+    /**
+     * Closes every open bar whose period ended at or before {@code nowMillis}. Scans all symbols, so call
+     * it from a timer (e.g. once per smallest timeframe), not per tick.
+     *
+     * @return bars closed
+     */
+    public int closeElapsed(long nowMillis) {
+        int closed = 0;
+        for (int tf = 0; tf < timeframes.length; tf++) {
+            long millis = timeframes[tf].millis();
+            long[] start = starts[tf];
+            for (int id = 0; id < start.length; id++) {
+                if (counts[tf][id] > 0 && start[id] + millis <= nowMillis) {
+                    close(tf, id);
+                    closed++;
+                }
+            }
+        }
+        return closed;
+    }
+
+    public int timeframeCount() {
+        return timeframes.length;
+    }
+
+    public Timeframe timeframe(int index) {
+        return timeframes[index];
+    }
+
+    public boolean hasOpenBar(int timeframe, int symbolId) {
+        return counts[timeframe][symbolId] > 0;
+    }
+
+    public long openBarStart(int timeframe, int symbolId) {
+        return starts[timeframe][symbolId];
+    }
+
+    public long openBarHigh(int timeframe, int symbolId) {
+        return highs[timeframe][symbolId];
+    }
+
+    public long openBarLow(int timeframe, int symbolId) {
+        return lows[timeframe][symbolId];
+    }
+
+    public long openBarClose(int timeframe, int symbolId) {
+        return closes[timeframe][symbolId];
+    }
+
+    public long getBarsClosed() {
+        return barsClosed;
+    }
+
+    public long getLateTicks() {
+        return lateTicks;
+    }
+
+    private void close(int tf, int id) {
+        sink.onBar(tf, id, starts[tf][id], opens[tf][id], highs[tf][id], lows[tf][id], closes[tf][id],
+                volumes[tf][id], counts[tf][id]);
+        counts[tf][id] = 0;
+        barsClosed++;
+    }
+}
@@ -0,0 +1,61 @@
+package com.velocitytrade.bars;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+/**
+ * Layout of one columnar bar segment, native byte order.
+ * <pre>
+ * header (64 bytes) = magic:i32 | version:i32 | capacity:i32 | pad:i32 | timeframeMillis:i64 | rows:i64
+ * columns           = start[capacity]:i64 | open | high | low | close | volume (i64 each)
+ *                     | symbolId[capacity]:i32 | count[capacity]:i32
+ * </pre>
+ * Each column is contiguous, so a scan over closes touches only close prices. {@code rows} is published
+ * with a release store after the row's columns are written.
+ */
+final class BarFile {
+    static final int MAGIC = 0x56544252;  // "VTBR"
+    static final int VERSION = 1;
+
+    static final int CAPACITY_OFFSET = 8;
+    static final int TIMEFRAME_OFFSET = 16;
+    static final int ROWS_OFFSET = 24;
+    static final int HEADER_BYTES = 64;
+
+    static final int START = 0;
+    static final int OPEN = 1;
+    static final int HIGH = 2;
+    static final int LOW = 3;
+    static final int CLOSE = 4;
+    static final int VOLUME = 5;
+    static final int LONG_COLUMNS = 6;
+
+    static final String EXTENSION = ".bars";
+
+    static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private BarFile() {
+    }
+
+    static long fileSize(int capacity) {
+        return HEADER_BYTES + (long) capacity * (LONG_COLUMNS * Long.BYTES + 2 * Integer.BYTES);
+    }
+
+    static int longColumnOffset(int column, int capacity) {
+        return HEADER_BYTES + column * capacity * Long.BYTES;
+    }
+
+    static int symbolColumnOffset(int capacity) {
+        return HEADER_BYTES + LONG_COLUMNS * capacity * Long.BYTES;
+    }
+
+    static int countColumnOffset(int capacity) {
+        return symbolColumnOffset(capacity) + capacity * Integer.BYTES;
+    }
+
+    static Path segmentPath(Path directory, Timeframe timeframe, int index) {
+        return directory.resolve(String.format("%s-%06d%s", timeframe.name(), index, EXTENSION));
+    }
+}
@@ -0,0 +1,141 @@
+package com.velocitytrade.bars;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.velocitytrade.bars.BarFile.*;
+
+/**
+ * Read-only view of one bar segment. Column views cover the rows published when they are taken, so
+ * scans can run while the writer appends.
+ */
+public final class BarSegment {
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private BarSegment(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = buffer.getInt(CAPACITY_OFFSET);
+    }
+
+    public static BarSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a bar segment (too small): " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.nativeOrder());
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || channel.size() != fileSize(buffer.getInt(CAPACITY_OFFSET))) {
+                throw new IOException("Not a bar segment: " + path);
+            }
+            return new BarSegment(path, buffer);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long timeframeMillis() {
+        return buffer.getLong(TIMEFRAME_OFFSET);
+    }
+
+    public int rows() {
+        return (int) (long) LONG.getAcquire(buffer, ROWS_OFFSET);
+    }
+
+    public int symbolId(int row) {
+        return buffer.getInt(symbolColumnOffset(capacity) + row * Integer.BYTES);
+    }
+
+    public long start(int row) {
+        return longAt(START, row);
+    }
+
+    public long open(int row) {
+        return longAt(OPEN, row);
+    }
+
+    public long high(int row) {
+        return longAt(HIGH, row);
+    }
+
+    public long low(int row) {
+        return longAt(LOW, row);
+    }
+
+    public long close(int row) {
+        return longAt(CLOSE, row);
+    }
+
+    public long volume(int row) {
+        return longAt(VOLUME, row);
+    }
+
+    public int count(int row) {
+        return buffer.getInt(countColumnOffset(capacity) + row * Integer.BYTES);
+    }
+
+    public LongBuffer starts() {
+        return longColumn(START);
+    }
+
+    public LongBuffer opens() {
+        return longColumn(OPEN);
+    }
+
+    public LongBuffer highs() {
+        return longColumn(HIGH);
+    }
+
+    public LongBuffer lows() {
+        return longColumn(LOW);
+    }
+
+    public LongBuffer closes() {
+        return longColumn(CLOSE);
+    }
+
+    public LongBuffer volumes() {
+        return longColumn(VOLUME);
+    }
+
+    public IntBuffer symbolIds() {
+        return intColumn(symbolColumnOffset(capacity));
+    }
+
+    public IntBuffer counts() {
+        return intColumn(countColumnOffset(capacity));
+    }
+
+    private long longAt(int column, int row) {
+        return buffer.getLong(longColumnOffset(column, capacity) + row * Long.BYTES);
+    }
+
+    private LongBuffer longColumn(int column) {
+        return slice(longColumnOffset(column, capacity), rows() * Long.BYTES).asLongBuffer();
+    }
+
+    private IntBuffer intColumn(int offset) {
+        return slice(offset, rows() * Integer.BYTES).asIntBuffer();
+    }
+
+    private ByteBuffer slice(int offset, int length) {
+        return buffer.slice(offset, length).order(ByteOrder.nativeOrder());
+    }
+}
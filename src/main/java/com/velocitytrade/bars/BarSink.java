@@ -0,0 +1,11 @@
+package com.velocitytrade.bars;
+
+@FunctionalInterface
+public interface BarSink {
+
+    /**
+     * @param timeframe index of the bar's timeframe in the aggregator's list
+     */
+    void onBar(int timeframe, int symbolId, long startMillis, long open, long high, long low, long close,
+               long volume, int count);
+}
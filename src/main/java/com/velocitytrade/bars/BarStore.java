@@ -0,0 +1,225 @@
+package com.velocitytrade.bars;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.velocitytrade.bars.BarFile.*;
+
+/**
+ * Append-only columnar store of closed bars for one timeframe, as fixed-capacity memory-mapped segments
+ * {@code <timeframe>-NNNNNN.bars}. Reopening continues the last non-empty segment. Single writer.
+ * <p>
+ * The next segment is created and mapped ahead of time on a background thread, which also forces each
+ * full segment to disk, so rolling over in {@link #append} is a pointer swap on the writer's thread.
+ * The pre-allocated segment is an empty file until it is rolled onto; readers skip empty segments.
+ */
+@Slf4j
+public class BarStore implements AutoCloseable {
+    private final Path directory;
+    private final Timeframe timeframe;
+    private final int rowsPerSegment;
+
+    private final ExecutorService roller;
+
+    private int segmentIndex;
+    private MappedByteBuffer segment;
+    private Future<MappedByteBuffer> preparedSegment;
+    private int rows;
+    private long totalRows;
+
+    public BarStore(Path directory, Timeframe timeframe, int rowsPerSegment) throws IOException {
+        if (rowsPerSegment < 1 || fileSize(rowsPerSegment) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid rows per segment: " + rowsPerSegment);
+        }
+
+        this.directory = directory;
+        this.timeframe = timeframe;
+        this.rowsPerSegment = rowsPerSegment;
+        Files.createDirectories(directory);
+
+        Path last = null;
+        for (Path path : segmentPaths(directory, timeframe)) {
+            try {
+                long segmentRows = BarSegment.open(path).rows();
+                totalRows += segmentRows;
+                if (segmentRows > 0) {
+                    last = path;
+                }
+            } catch (IOException e) {
+                log.warn("Skipping unreadable bar segment {}: {}", path, e.getMessage());
+            }
+        }
+
+        this.roller = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "vt-bars-" + timeframe.name());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (last != null && canAppendTo(last)) {
+            segmentIndex = segmentIndexOf(last);
+            segment = map(last, false);
+            rows = (int) (long) LONG.getAcquire(segment, ROWS_OFFSET);
+            log.info("Appending {} bars to {} at row {}", timeframe, last, rows);
+        } else {
+            segmentIndex = last != null ? segmentIndexOf(last) + 1 : 0;
+            segment = map(segmentPath(directory, timeframe, segmentIndex), true);
+            rows = 0;
+        }
+        prepareNextSegment();
+    }
+
+    public Timeframe getTimeframe() {
+        return timeframe;
+    }
+
+    /**
+     * Bars written across all segments.
+     */
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void append(int symbolId, long startMillis, long open, long high, long low, long close,
+                       long volume, int count) {
+        if (rows == rowsPerSegment) {
+            rollSegment();
+        }
+
+        int row = rows;
+        segment.putLong(longColumnOffset(START, rowsPerSegment) + row * Long.BYTES, startMillis)
+                .putLong(longColumnOffset(OPEN, rowsPerSegment) + row * Long.BYTES, open)
+                .putLong(longColumnOffset(HIGH, rowsPerSegment) + row * Long.BYTES, high)
+                .putLong(longColumnOffset(LOW, rowsPerSegment) + row * Long.BYTES, low)
+                .putLong(longColumnOffset(CLOSE, rowsPerSegment) + row * Long.BYTES, close)
+                .putLong(longColumnOffset(VOLUME, rowsPerSegment) + row * Long.BYTES, volume)
+                .putInt(symbolColumnOffset(rowsPerSegment) + row * Integer.BYTES, symbolId)
+                .putInt(countColumnOffset(rowsPerSegment) + row * Integer.BYTES, count);
+
+        rows = row + 1;
+        totalRows++;
+        LONG.setRelease(segment, ROWS_OFFSET, (long) rows);
+    }
+
+    @Override
+    public void close() {
+        roller.shutdown();
+        try {
+            if (!roller.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Timed out waiting for {} bar segment writes", timeframe);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Opens every non-empty segment of a timeframe read-only, oldest first.
+     */
+    public static List<BarSegment> openSegments(Path directory, Timeframe timeframe) throws IOException {
+        List<BarSegment> segments = new ArrayList<>();
+        for (Path path : segmentPaths(directory, timeframe)) {
+            BarSegment segment = BarSegment.open(path);
+            if (segment.rows() > 0) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    static List<Path> segmentPaths(Path directory, Timeframe timeframe) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        String prefix = timeframe.name() + "-";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(prefix) && name.endsWith(EXTENSION);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private boolean canAppendTo(Path path) {
+        try {
+            BarSegment existing = BarSegment.open(path);
+            return existing.capacity() == rowsPerSegment
+                    && existing.timeframeMillis() == timeframe.millis()
+                    && existing.rows() < rowsPerSegment;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private int segmentIndexOf(Path path) {
+        String name = path.getFileName().toString();
+        String index = name.substring(timeframe.name().length() + 1, name.length() - EXTENSION.length());
+        try {
+            return Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Unexpected bar segment name: " + path);
+        }
+    }
+
+    /**
+     * Swaps in the pre-mapped segment and hands the full one to the background thread to force.
+     */
+    private void rollSegment() {
+        MappedByteBuffer full = segment;
+        try {
+            segment = preparedSegment.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for bar segment " + (segmentIndex + 1), e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to create bar segment " + (segmentIndex + 1), e.getCause());
+        }
+        segmentIndex++;
+        rows = 0;
+
+        roller.execute(full::force);
+        prepareNextSegment();
+    }
+
+    private void prepareNextSegment() {
+        Path path = segmentPath(directory, timeframe, segmentIndex + 1);
+        preparedSegment = roller.submit(() -> map(path, true));
+    }
+
+    private MappedByteBuffer map(Path path, boolean create) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(rowsPerSegment));
+            buffer.order(ByteOrder.nativeOrder());
+
+            if (create) {
+                buffer.putInt(4, VERSION)
+                        .putInt(CAPACITY_OFFSET, rowsPerSegment)
+                        .putLong(TIMEFRAME_OFFSET, timeframe.millis());
+                LONG.setRelease(buffer, ROWS_OFFSET, 0L);
+                buffer.putInt(0, MAGIC);
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.velocitytrade.bars;
+
+import com.velocitytrade.config.ConfigLoader.BarsConfig;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One {@link BarStore} per timeframe, indexed like the aggregator's timeframes.
+ */
+public class BarStores implements BarSink, AutoCloseable {
+    private final List<Timeframe> timeframes;
+    private final BarStore[] stores;
+
+    public BarStores(Path directory, List<Timeframe> timeframes, int rowsPerSegment) throws IOException {
+        this.timeframes = List.copyOf(timeframes);
+        this.stores = new BarStore[timeframes.size()];
+        for (int i = 0; i < stores.length; i++) {
+            stores[i] = new BarStore(directory, timeframes.get(i), rowsPerSegment);
+        }
+    }
+
+    public static BarStores fromConfig(BarsConfig config) throws IOException {
+        return new BarStores(Path.of(config.getDirectory()), timeframes(config), config.getRows_per_segment());
+    }
+
+    public static List<Timeframe> timeframes(BarsConfig config) {
+        List<Timeframe> timeframes = new ArrayList<>();
+        for (String spec : config.getTimeframes()) {
+            timeframes.add(Timeframe.parse(spec));
+        }
+        return timeframes;
+    }
+
+    public List<Timeframe> getTimeframes() {
+        return timeframes;
+    }
+
+    public BarStore store(int timeframe) {
+        return stores[timeframe];
+    }
+
+    @Override
+    public void onBar(int timeframe, int symbolId, long startMillis, long open, long high, long low, long close,
+                      long volume, int count) {
+        stores[timeframe].append(symbolId, startMillis, open, high, low, close, volume, count);
+    }
+
+    @Override
+    public void close() {
+        for (BarStore store : stores) {
+            store.close();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.velocitytrade.bars;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bar length, written like {@code 1s}, {@code 1m}, {@code 5m} or {@code 1h}. Bars are aligned to
+ * multiples of the length since the epoch.
+ */
+public record Timeframe(String name, long millis) {
+
+    public Timeframe {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Timeframe must be positive: " + name);
+        }
+    }
+
+    public static Timeframe parse(String spec) {
+        String trimmed = spec.trim();
+        if (trimmed.length() < 2) {
+            throw new IllegalArgumentException("Invalid timeframe: " + spec);
+        }
+
+        long amount;
+        try {
+            amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid timeframe: " + spec);
+        }
+
+        TimeUnit unit = switch (trimmed.charAt(trimmed.length() - 1)) {
+            case 's' -> TimeUnit.SECONDS;
+            case 'm' -> TimeUnit.MINUTES;
+            case 'h' -> TimeUnit.HOURS;
+            case 'd' -> TimeUnit.DAYS;
+            default -> throw new IllegalArgumentException("Invalid timeframe unit: " + spec);
+        };
+        return new Timeframe(trimmed, unit.toMillis(amount));
+    }
+
+    public long bucketStart(long timeMillis) {
+        return Math.floorDiv(timeMillis, millis) * millis;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -7,6 +7,11 @@ import lombok.Data;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class ConfigLoader {
 
@@ -22,6 +27,19 @@ public class ConfigLoader {
         private SystemConfig system;
         private MarketDataConfig market_data;
         private TradingConfig trading;
+        private StrategiesConfig strategies;
+        private PricingConfig pricing;
+        private DisruptorConfig disruptor;
+        private ThreadingConfig threading;
+        private RiskConfig risk;
+        private GatewayConfig gateway;
+        private OmsConfig oms;
+        private SnapshotConfig snapshot;
+        private WarmupConfig warmup;
+        private BarsConfig bars;
+        private BacktestConfig backtest;
+        private LoadTestConfig load_test;
+        private AllocationConfig allocation;
     }
 
     @Data
@@ -41,10 +59,19 @@ public class ConfigLoader {
         private boolean enabled;
         private String multicast_group;
         private int multicast_port;
+        private ShmConfig shm;
         private int update_frequency_hz;
         private LoggingConfig logging;
     }
 
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ShmConfig {
+        private String path = "/dev/shm/velocitytrade-ticks";
+        private int slot_count = 65536;
+        private int slot_size = 64;
+    }
+
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class CsvConfig {
@@ -58,7 +85,14 @@ public class ConfigLoader {
         private String base_url;
         private int timeout_seconds;
         private int cache_ttl_hours;
+        private String cache_path = "data/cache/symbols.bin";
+        private boolean refresh_stale_in_background = true;
         private boolean fallback_to_csv;
+        private int max_concurrent_requests = 8;
+        private double requests_per_second = 5.0;
+        private int max_retries = 3;
+        private long retry_backoff_ms = 250;
+        private int batch_size = 50;
     }
 
     @Data
@@ -67,6 +101,178 @@ public class ConfigLoader {
         private int log_every_n_messages;
         private int detailed_report_interval_sec;
         private boolean log_individual_messages;
+        private int event_ring_size = 4096;
+        private int poll_interval_ms = 50;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PricingConfig {
+        private long price_scale = 10_000;
+        private double default_tick_size = 0.01;
+        private Map<String, Double> tick_sizes = new HashMap<>();
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class DisruptorConfig {
+        private int ring_buffer_size;
+        private String wait_strategy;
+        private String producer_type;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ThreadingConfig {
+        private long phased_spin_timeout_us = 100;
+        private long phased_yield_timeout_us = 1000;
+        private Map<String, ThreadConfig> threads = new HashMap<>();
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ThreadConfig {
+        private String wait_strategy;
+        private String cpus;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RiskConfig {
+        private int max_position_per_symbol;
+        private double max_order_value;
+        private int max_orders_per_second;
+        private double max_daily_loss;
+        private KillSwitchConfig kill_switch;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class KillSwitchConfig {
+        private boolean enabled;
+        private double pnl_threshold;
+        private double error_rate_threshold;
+        private int latency_threshold_us;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class GatewayConfig {
+        private String bind_address = "127.0.0.1";
+        private int port = 9001;
+        private int max_sessions = 4096;
+        private int read_buffer_bytes = 8192;
+        private int write_buffer_bytes = 16384;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class OmsConfig {
+        private int max_orders = 1_048_576;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SnapshotConfig {
+        private String path = "data/snapshot/state.bin";
+        private int interval_ms = 1000;
+        private int max_open_orders = 65_536;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class WarmupConfig {
+        private boolean enabled = true;
+        private long seed = 42;
+        private long min_iterations = 100_000;
+        private long max_iterations = 5_000_000;
+        private int round_size = 10_000;
+        private int stable_rounds = 3;
+        private double tolerance_pct = 10.0;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class BarsConfig {
+        private String directory = "data/bars";
+        private List<String> timeframes = new ArrayList<>(List.of("1s", "1m", "5m"));
+        private int rows_per_segment = 1_048_576;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StrategiesConfig {
+        private MarketMakerConfig market_maker;
+        private ArbitrageConfig arbitrage;
+        private MomentumConfig momentum;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MarketMakerConfig {
+        private boolean enabled;
+        private int target_spread_ticks;
+        private int max_inventory;
+        private int quote_size;
+        private boolean inventory_skew_enabled;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ArbitrageConfig {
+        private boolean enabled;
+        private int lookback_window;
+        private double entry_threshold_zscore;
+        private double exit_threshold_zscore;
+        private int position_size;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MomentumConfig {
+        private boolean enabled;
+        private double momentum_threshold;
+        private double stop_loss;
+        private double take_profit;
+        private int position_size;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class BacktestConfig {
+        private String strategy = "momentum";
+        private long seed = 42;
+        private int ticks_per_symbol = 20_000;
+        private int parallelism;
+        private Map<String, List<Double>> grid = new LinkedHashMap<>();
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LoadTestConfig {
+        private long seed = 42;
+        private List<Long> rates = new ArrayList<>(List.of(100_000L, 250_000L, 500_000L, 1_000_000L));
+        private long ramp_start_rate;
+        private long ramp_end_rate;
+        private long ramp_step_rate;
+        private int step_duration_sec = 10;
+        private int warmup_sec = 5;
+        private int tape_size = 1 << 20;
+        private String ring_path = "/dev/shm/velocitytrade-loadtest";
+        private int ring_slots = 1 << 20;
+        private long max_latency_ms = 10_000;
+        private double saturation_tolerance_pct = 5.0;
+        private String output_dir = "results/loadtest";
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class AllocationConfig {
+        private boolean enabled = true;
+        private int sample_interval_ms = 1000;
+        private long budget_bytes_per_million_ticks = 64 * 1024;
+        private int warmup_ticks = 200_000;
+        private int measure_ticks = 1_000_000;
     }
 
     @Data
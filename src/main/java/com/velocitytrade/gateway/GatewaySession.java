@@ -0,0 +1,46 @@
+package com.velocitytrade.gateway;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Per-connection state owned by the gateway I/O thread; buffers are allocated once and reused.
+ */
+public final class GatewaySession {
+    final long id;
+    final SocketChannel channel;
+    final SelectionKey key;
+    final ByteBuffer readBuffer;
+    final ByteBuffer writeBuffer;
+
+    long nextInboundSequence = 1;
+    long nextOutboundSequence = 1;
+    boolean dirty;
+    boolean writeInterest;
+    boolean closeAfterFlush;
+    boolean closed;
+
+    long ordersReceived;
+    long ordersRejected;
+
+    GatewaySession(long id, SocketChannel channel, SelectionKey key, int readBufferBytes, int writeBufferBytes) {
+        this.id = id;
+        this.channel = channel;
+        this.key = key;
+        this.readBuffer = ByteBuffer.allocateDirect(readBufferBytes);
+        this.writeBuffer = ByteBuffer.allocateDirect(writeBufferBytes);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getOrdersReceived() {
+        return ordersReceived;
+    }
+
+    public long getOrdersRejected() {
+        return ordersRejected;
+    }
+}
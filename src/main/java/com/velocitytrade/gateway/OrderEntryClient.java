@@ -0,0 +1,103 @@
+package com.velocitytrade.gateway;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static com.velocitytrade.gateway.OrderEntryProtocol.*;
+
+/**
+ * Blocking client for external algos and manual tools. Orders can be queued and sent in one write with
+ * {@link #flush()}; not thread-safe.
+ */
+public class OrderEntryClient implements AutoCloseable {
+    private final SocketChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    private long nextSequence = 1;
+
+    public OrderEntryClient(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        this.readBuffer.flip();
+    }
+
+    public void sendNewOrder(long orderId, int symbolId, byte side, long price, int quantity) throws IOException {
+        queueNewOrder(orderId, symbolId, side, price, quantity);
+        flush();
+    }
+
+    /**
+     * @return the session sequence assigned to the order
+     */
+    public long queueNewOrder(long orderId, int symbolId, byte side, long price, int quantity) throws IOException {
+        return queueNewOrder(nextSequence++, orderId, symbolId, side, price, quantity);
+    }
+
+    /**
+     * Queues an order with an explicit sequence number, e.g. to resend or to test gap handling.
+     */
+    public long queueNewOrder(long sequence, long orderId, int symbolId, byte side, long price, int quantity)
+            throws IOException {
+        if (writeBuffer.remaining() < LENGTH_FIELD_BYTES + NEW_ORDER_BYTES) {
+            flush();
+        }
+        putNewOrder(writeBuffer, sequence, System.nanoTime(), symbolId, side, price, quantity, orderId);
+        return sequence;
+    }
+
+    public void flush() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    /**
+     * Blocks until the next ACK or REJECT arrives.
+     */
+    public Response readResponse() throws IOException {
+        fill(LENGTH_FIELD_BYTES);
+        int length = readBuffer.getShort(readBuffer.position()) & 0xFFFF;
+        fill(LENGTH_FIELD_BYTES + length);
+
+        int body = readBuffer.position() + LENGTH_FIELD_BYTES;
+        byte type = readBuffer.get(body + TYPE_OFFSET);
+        long sequence = readBuffer.getLong(body + SEQUENCE_OFFSET);
+        long orderId = readBuffer.getLong(body + RESPONSE_ORDER_ID_OFFSET);
+
+        Response response = type == ACK
+                ? new Response(type, sequence, orderId, REJECT_NONE, readBuffer.getLong(body + ACK_TIMESTAMP_OFFSET))
+                : new Response(type, sequence, orderId, readBuffer.get(body + REJECT_REASON_OFFSET), 0);
+
+        readBuffer.position(body + length);
+        return response;
+    }
+
+    private void fill(int bytes) throws IOException {
+        while (readBuffer.remaining() < bytes) {
+            readBuffer.compact();
+            int read = channel.read(readBuffer);
+            readBuffer.flip();
+            if (read < 0) {
+                throw new EOFException("Gateway closed the session");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public record Response(byte type, long sequence, long orderId, byte rejectReason, long timestamp) {
+        public boolean isAck() {
+            return type == ACK;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.velocitytrade.gateway;
+
+import com.velocitytrade.config.ConfigLoader.GatewayConfig;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.stats.EventArg;
+import com.velocitytrade.stats.LogEventRing;
+import com.velocitytrade.stats.StatsCounters;
+import com.velocitytrade.stats.StatsReporter;
+import com.velocitytrade.threading.IdleStrategy;
+import com.velocitytrade.util.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static com.velocitytrade.gateway.OrderEntryProtocol.*;
+
+/**
+ * Single-threaded, selector-based TCP order entry.
+ * <p>
+ * Each spin reads every readable session, decodes complete frames in place from the session's direct
+ * buffer, queues ACK/REJECT responses into its write buffer, and only then flushes each touched session
+ * once, so a burst of orders costs one write syscall per session per spin.
+ * <p>
+ * One token bucket throttles valid orders across all sessions, so the gateway as a whole never admits
+ * more than {@code risk.max_orders_per_second}; malformed orders are rejected without spending a token.
+ */
+@Slf4j
+public class OrderEntryGateway implements AutoCloseable {
+    private static final int MAX_RESPONSE_BYTES = LENGTH_FIELD_BYTES + Math.max(ACK_BYTES, REJECT_BYTES);
+
+    public static final int STAT_ACCEPTED = 1;
+    public static final int STAT_REJECTED = 2;
+    public static final int STAT_THROTTLED = 3;
+    public static final int STAT_SESSIONS = 4;
+
+    private final InetSocketAddress bindAddress;
+    private final int maxSessions;
+    private final int readBufferBytes;
+    private final int writeBufferBytes;
+    private final int maxOrdersPerSecond;
+    private final TokenBucketRateLimiter throttle;
+    private final OrderHandler handler;
+    private final SymbolRegistry registry;
+    private final IdleStrategy idleStrategy;
+    private final StatsCounters stats;
+    private final LogEventRing orderEvents;
+    private final int orderEventTemplate;
+
+    private final List<GatewaySession> dirtySessions = new ArrayList<>();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread ioThread;
+    private long nextSessionId = 1;
+
+    private volatile boolean running;
+    private volatile int sessionCount;
+
+    public OrderEntryGateway(GatewayConfig config, int maxOrdersPerSecond, OrderHandler handler,
+                             SymbolRegistry registry, IdleStrategy idleStrategy) {
+        this(config, maxOrdersPerSecond, handler, registry, idleStrategy, null);
+    }
+
+    /**
+     * @param registry used to reject unknown symbol ids; may be null to skip the check
+     * @param reporter receives the gateway's counters, and an event per order when individual messages
+     *                 are logged; may be null
+     */
+    public OrderEntryGateway(GatewayConfig config, int maxOrdersPerSecond, OrderHandler handler,
+                             SymbolRegistry registry, IdleStrategy idleStrategy, StatsReporter reporter) {
+        if (maxOrdersPerSecond < 1) {
+            throw new IllegalArgumentException("maxOrdersPerSecond must be at least 1: " + maxOrdersPerSecond);
+        }
+
+        this.bindAddress = new InetSocketAddress(config.getBind_address(), config.getPort());
+        this.maxSessions = config.getMax_sessions();
+        this.readBufferBytes = Math.max(config.getRead_buffer_bytes(), LENGTH_FIELD_BYTES + MAX_FRAME_BYTES);
+        this.writeBufferBytes = Math.max(config.getWrite_buffer_bytes(), MAX_RESPONSE_BYTES);
+        this.maxOrdersPerSecond = maxOrdersPerSecond;
+        this.throttle = new TokenBucketRateLimiter(maxOrdersPerSecond, maxOrdersPerSecond);
+        this.handler = handler;
+        this.registry = registry;
+        this.idleStrategy = idleStrategy;
+
+        String[] counters = {"accepted", "rejected", "throttled", "sessions"};
+        this.stats = reporter != null
+                ? reporter.counters("gateway", counters)
+                : StatsCounters.detached("gateway", counters);
+        if (reporter != null && reporter.isLogIndividualMessages()) {
+            this.orderEvents = reporter.eventRing("gateway");
+            this.orderEventTemplate = reporter.defineEvent(Level.INFO,
+                    "Order {} from session {} symbol {}: result {}", EventArg.LONG, EventArg.LONG, EventArg.LONG,
+                    EventArg.LONG);
+        } else {
+            this.orderEvents = null;
+            this.orderEventTemplate = -1;
+        }
+    }
+
+    public void start(ThreadFactory threadFactory) throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(bindAddress, 1024);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        ioThread = threadFactory.newThread(this::run);
+        ioThread.start();
+
+        log.info("Order entry gateway listening on {} (max {} sessions, {} orders/sec across sessions)",
+                serverChannel.getLocalAddress(), maxSessions, maxOrdersPerSecond);
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Gateway counters: messages, then {@code STAT_*}.
+     */
+    public StatsCounters getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (ioThread != null) {
+            try {
+                ioThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                int work;
+                try {
+                    work = pollOnce();
+                } catch (IOException e) {
+                    log.error("Gateway I/O error", e);
+                    work = 0;
+                }
+                idleStrategy.idle(work);
+            }
+        } finally {
+            shutdown();
+        }
+    }
+
+    private int pollOnce() throws IOException {
+        int ready = selector.selectNow();
+
+        if (ready > 0) {
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+
+                if (!key.isValid()) {
+                    continue;
+                }
+                if (key.isAcceptable()) {
+                    accept();
+                    continue;
+                }
+
+                GatewaySession session = (GatewaySession) key.attachment();
+                if (key.isReadable()) {
+                    read(session);
+                }
+                if (!session.closed && key.isValid() && key.isWritable()) {
+                    markDirty(session);
+                }
+            }
+        }
+
+        return ready + flushDirtySessions();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            if (sessionCount >= maxSessions) {
+                log.warn("Rejecting connection from {}: {} sessions already open", channel.getRemoteAddress(), sessionCount);
+                channel.close();
+                continue;
+            }
+
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+
+            GatewaySession session = new GatewaySession(nextSessionId++, channel, key,
+                    readBufferBytes, writeBufferBytes);
+            key.attach(session);
+            sessionCount++;
+            stats.set(STAT_SESSIONS, sessionCount);
+
+            log.info("Session {} connected from {}", session.id, channel.getRemoteAddress());
+        }
+    }
+
+    private void read(GatewaySession session) {
+        ByteBuffer buffer = session.readBuffer;
+        int bytesRead;
+        try {
+            bytesRead = session.channel.read(buffer);
+        } catch (IOException e) {
+            closeSession(session, e.getMessage());
+            return;
+        }
+
+        if (bytesRead < 0) {
+            closeSession(session, "disconnected");
+            return;
+        }
+
+        buffer.flip();
+        while (buffer.remaining() >= LENGTH_FIELD_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getShort(start) & 0xFFFF;
+
+            if (length < HEADER_BYTES || length > MAX_FRAME_BYTES) {
+                closeSession(session, "invalid frame length " + length);
+                return;
+            }
+            if (buffer.remaining() < LENGTH_FIELD_BYTES + length) {
+                break;
+            }
+
+            int body = start + LENGTH_FIELD_BYTES;
+            onMessage(session, buffer, body, length);
+            if (session.closed || session.closeAfterFlush) {
+                buffer.clear();
+                return;
+            }
+            buffer.position(body + length);
+        }
+        buffer.compact();
+    }
+
+    private void onMessage(GatewaySession session, ByteBuffer buffer, int body, int length) {
+        byte type = buffer.get(body + TYPE_OFFSET);
+        long sequence = buffer.getLong(body + SEQUENCE_OFFSET);
+        stats.onMessage();
+
+        if (sequence != session.nextInboundSequence) {
+            log.warn("Session {} sequence gap: expected {}, got {}", session.id, session.nextInboundSequence, sequence);
+            respondReject(session, 0, REJECT_SEQUENCE_GAP);
+            session.closeAfterFlush = true;
+            return;
+        }
+        session.nextInboundSequence++;
+
+        if (type != NEW_ORDER || length != NEW_ORDER_BYTES) {
+            respondReject(session, 0, REJECT_UNKNOWN_MESSAGE);
+            return;
+        }
+
+        long timestamp = buffer.getLong(body + NEW_ORDER_TIMESTAMP_OFFSET);
+        int symbolId = buffer.getInt(body + NEW_ORDER_SYMBOL_OFFSET);
+        byte side = buffer.get(body + NEW_ORDER_SIDE_OFFSET);
+        long price = buffer.getLong(body + NEW_ORDER_PRICE_OFFSET);
+        int quantity = buffer.getInt(body + NEW_ORDER_QUANTITY_OFFSET);
+        long orderId = buffer.getLong(body + NEW_ORDER_ORDER_ID_OFFSET);
+        session.ordersReceived++;
+
+        byte reason;
+        if (!isValidSide(side) || price <= 0 || quantity <= 0) {
+            reason = REJECT_INVALID_ORDER;
+        } else if (registry != null && !registry.contains(symbolId)) {
+            reason = REJECT_UNKNOWN_SYMBOL;
+        } else if (!throttle.tryAcquire()) {
+            reason = REJECT_THROTTLED;
+            stats.increment(STAT_THROTTLED);
+        } else {
+            reason = handler.onNewOrder(session.id, orderId, symbolId, side, price, quantity, timestamp);
+        }
+
+        if (orderEvents != null) {
+            orderEvents.write(orderEventTemplate, orderId, session.id, symbolId, reason);
+        }
+
+        if (reason == REJECT_NONE) {
+            stats.increment(STAT_ACCEPTED);
+            if (reserveResponse(session)) {
+                putAck(session.writeBuffer, session.nextOutboundSequence++, orderId, System.nanoTime());
+            }
+        } else {
+            session.ordersRejected++;
+            stats.increment(STAT_REJECTED);
+            respondReject(session, orderId, reason);
+        }
+    }
+
+    private void respondReject(GatewaySession session, long orderId, byte reason) {
+        if (reserveResponse(session)) {
+            putReject(session.writeBuffer, session.nextOutboundSequence++, orderId, reason);
+        }
+    }
+
+    private boolean reserveResponse(GatewaySession session) {
+        if (session.writeBuffer.remaining() < MAX_RESPONSE_BYTES) {
+            log.warn("Session {} is not reading responses, disconnecting", session.id);
+            closeSession(session, "slow consumer");
+            return false;
+        }
+        markDirty(session);
+        return true;
+    }
+
+    private void markDirty(GatewaySession session) {
+        if (!session.dirty) {
+            session.dirty = true;
+            dirtySessions.add(session);
+        }
+    }
+
+    private int flushDirtySessions() {
+        int flushed = dirtySessions.size();
+
+        for (int i = 0; i < flushed; i++) {
+            GatewaySession session = dirtySessions.get(i);
+            session.dirty = false;
+            if (!session.closed) {
+                flush(session);
+            }
+        }
+        dirtySessions.clear();
+
+        return flushed;
+    }
+
+    private void flush(GatewaySession session) {
+        ByteBuffer buffer = session.writeBuffer;
+        buffer.flip();
+        try {
+            session.channel.write(buffer);
+        } catch (IOException e) {
+            closeSession(session, e.getMessage());
+            return;
+        }
+
+        boolean pending = buffer.hasRemaining();
+        buffer.compact();
+
+        if (pending != session.writeInterest) {
+            session.writeInterest = pending;
+            session.key.interestOps(pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+
+        if (!pending && session.closeAfterFlush) {
+            closeSession(session, "closed after reject");
+        }
+    }
+
+    private void closeSession(GatewaySession session, String reason) {
+        if (session.closed) {
+            return;
+        }
+        session.closed = true;
+        sessionCount--;
+        stats.set(STAT_SESSIONS, sessionCount);
+        session.key.cancel();
+
+        try {
+            session.channel.close();
+        } catch (IOException e) {
+            log.debug("Error closing session {}: {}", session.id, e.getMessage());
+        }
+
+        log.info("Session {} closed ({}): {} orders, {} rejected",
+                session.id, reason, session.ordersReceived, session.ordersRejected);
+    }
+
+    private void shutdown() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof GatewaySession session) {
+                closeSession(session, "gateway shutdown");
+            }
+        }
+
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            log.warn("Error closing gateway: {}", e.getMessage());
+        }
+        log.info("Order entry gateway stopped");
+    }
+}
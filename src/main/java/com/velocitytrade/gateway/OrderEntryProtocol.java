@@ -0,0 +1,95 @@
+package com.velocitytrade.gateway;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Length-prefixed binary order-entry protocol, big-endian like the multicast test message in {@code Main}.
+ * <pre>
+ * frame   = length:u16 (bytes after this field) | type:u8 | sequence:i64 | payload
+ * NEW_ORDER  'N' payload = timestamp:i64 | symbolId:i32 | side:u8 ('B'/'S') | price:i64 | quantity:i32 | orderId:i64
+ * ACK        'A' payload = orderId:i64 | timestamp:i64
+ * REJECT     'J' payload = orderId:i64 | reason:u8
+ * </pre>
+ * Each direction has its own session sequence starting at 1; an inbound gap rejects and closes the session.
+ */
+public final class OrderEntryProtocol {
+    public static final byte NEW_ORDER = 'N';
+    public static final byte ACK = 'A';
+    public static final byte REJECT = 'J';
+
+    public static final byte SIDE_BUY = 'B';
+    public static final byte SIDE_SELL = 'S';
+
+    public static final byte REJECT_NONE = 0;
+    public static final byte REJECT_THROTTLED = 1;
+    public static final byte REJECT_SEQUENCE_GAP = 2;
+    public static final byte REJECT_UNKNOWN_SYMBOL = 3;
+    public static final byte REJECT_INVALID_ORDER = 4;
+    public static final byte REJECT_UNKNOWN_MESSAGE = 5;
+    public static final byte REJECT_RISK = 6;
+
+    public static final int LENGTH_FIELD_BYTES = 2;
+    public static final int HEADER_BYTES = 1 + 8;
+    public static final int NEW_ORDER_BYTES = HEADER_BYTES + 8 + 4 + 1 + 8 + 4 + 8;
+    public static final int ACK_BYTES = HEADER_BYTES + 8 + 8;
+    public static final int REJECT_BYTES = HEADER_BYTES + 8 + 1;
+    public static final int MAX_FRAME_BYTES = NEW_ORDER_BYTES;
+
+    // Offsets from the start of the type field
+    public static final int TYPE_OFFSET = 0;
+    public static final int SEQUENCE_OFFSET = 1;
+    public static final int NEW_ORDER_TIMESTAMP_OFFSET = HEADER_BYTES;
+    public static final int NEW_ORDER_SYMBOL_OFFSET = NEW_ORDER_TIMESTAMP_OFFSET + 8;
+    public static final int NEW_ORDER_SIDE_OFFSET = NEW_ORDER_SYMBOL_OFFSET + 4;
+    public static final int NEW_ORDER_PRICE_OFFSET = NEW_ORDER_SIDE_OFFSET + 1;
+    public static final int NEW_ORDER_QUANTITY_OFFSET = NEW_ORDER_PRICE_OFFSET + 8;
+    public static final int NEW_ORDER_ORDER_ID_OFFSET = NEW_ORDER_QUANTITY_OFFSET + 4;
+    public static final int RESPONSE_ORDER_ID_OFFSET = HEADER_BYTES;
+    public static final int ACK_TIMESTAMP_OFFSET = RESPONSE_ORDER_ID_OFFSET + 8;
+    public static final int REJECT_REASON_OFFSET = RESPONSE_ORDER_ID_OFFSET + 8;
+
+    private OrderEntryProtocol() {
+    }
+
+    public static void putNewOrder(ByteBuffer buffer, long sequence, long timestamp, int symbolId, byte side,
+                                   long price, int quantity, long orderId) {
+        buffer.putShort((short) NEW_ORDER_BYTES)
+                .put(NEW_ORDER)
+                .putLong(sequence)
+                .putLong(timestamp)
+                .putInt(symbolId)
+                .put(side)
+                .putLong(price)
+                .putInt(quantity)
+                .putLong(orderId);
+    }
+
+    public static void putAck(ByteBuffer buffer, long sequence, long orderId, long timestamp) {
+        buffer.putShort((short) ACK_BYTES)
+                .put(ACK)
+                .putLong(sequence)
+                .putLong(orderId)
+                .putLong(timestamp);
+    }
+
+    public static void putReject(ByteBuffer buffer, long sequence, long orderId, byte reason) {
+        buffer.putShort((short) REJECT_BYTES)
+                .put(REJECT)
+                .putLong(sequence)
+                .putLong(orderId)
+                .put(reason);
+    }
+
+    public static int expectedLength(byte type) {
+        return switch (type) {
+            case NEW_ORDER -> NEW_ORDER_BYTES;
+            case ACK -> ACK_BYTES;
+            case REJECT -> REJECT_BYTES;
+            default -> -1;
+        };
+    }
+
+    public static boolean isValidSide(byte side) {
+        return side == SIDE_BUY || side == SIDE_SELL;
+    }
+}
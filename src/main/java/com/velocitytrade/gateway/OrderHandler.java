@@ -0,0 +1,14 @@
+package com.velocitytrade.gateway;
+
+/**
+ * Receives orders that passed session checks (sequence, throttle, field validation).
+ * Called on the gateway I/O thread, so implementations must not block.
+ */
+@FunctionalInterface
+public interface OrderHandler {
+
+    /**
+     * @return {@link OrderEntryProtocol#REJECT_NONE} to acknowledge, otherwise a reject reason
+     */
+    byte onNewOrder(long sessionId, long orderId, int symbolId, byte side, long price, int quantity, long timestamp);
+}
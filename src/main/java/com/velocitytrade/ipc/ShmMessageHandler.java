@@ -0,0 +1,12 @@
+package com.velocitytrade.ipc;
+
+import java.nio.ByteBuffer;
+
+@FunctionalInterface
+public interface ShmMessageHandler {
+
+    /**
+     * @param buffer reader-owned copy of the message, valid only for the duration of the call
+     */
+    void onMessage(ByteBuffer buffer, int offset, int length, long sequence);
+}
@@ -0,0 +1,57 @@
+package com.velocitytrade.ipc;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * File layout shared by {@link ShmRingWriter} and {@link ShmRingReader}, native byte order.
+ * <pre>
+ * header (128 bytes) = magic:i32 | version:i32 | slotCount:i32 | slotSize:i32 | pad to 64
+ *                      | cursor:i64 (messages published) | pad to 128
+ * slot[slotCount]    = sequence:i64 (message sequence + 1, -1 while being written) | length:i32 | pad | payload
+ * </pre>
+ * The cursor sits on its own cache line so readers polling it don't share a line with the header.
+ */
+final class ShmRingLayout {
+    static final int MAGIC = 0x56545352;  // "VTSR"
+    static final int VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int SLOT_COUNT_OFFSET = 8;
+    static final int SLOT_SIZE_OFFSET = 12;
+    static final int CURSOR_OFFSET = 64;
+    static final int HEADER_BYTES = 128;
+
+    static final int SLOT_SEQUENCE_OFFSET = 0;
+    static final int SLOT_LENGTH_OFFSET = 8;
+    static final int SLOT_HEADER_BYTES = 16;
+    static final long SLOT_IN_PROGRESS = -1;
+
+    static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private ShmRingLayout() {
+    }
+
+    static void validate(int slotCount, int slotSize) {
+        if (slotCount < 2 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount must be a power of two: " + slotCount);
+        }
+        if (slotSize <= SLOT_HEADER_BYTES || slotSize % Long.BYTES != 0) {
+            throw new IllegalArgumentException("slotSize must be a multiple of 8 above "
+                    + SLOT_HEADER_BYTES + ": " + slotSize);
+        }
+        if (fileSize(slotCount, slotSize) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ring of " + slotCount + " x " + slotSize + " bytes exceeds 2 GB");
+        }
+    }
+
+    static long fileSize(int slotCount, int slotSize) {
+        return HEADER_BYTES + (long) slotCount * slotSize;
+    }
+
+    static int slotOffset(long sequence, int mask, int slotSize) {
+        return HEADER_BYTES + (int) (sequence & mask) * slotSize;
+    }
+}
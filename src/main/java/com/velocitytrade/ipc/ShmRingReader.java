@@ -0,0 +1,157 @@
+package com.velocitytrade.ipc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.velocitytrade.ipc.ShmRingLayout.*;
+
+/**
+ * One reader of a ring created by {@link ShmRingWriter}, usually in another process. Each reader keeps
+ * its own cursor; any number can attach to the same file.
+ * <p>
+ * A slot is copied into a reader-owned buffer and its sequence re-checked after the copy (seqlock), so
+ * a writer lapping the reader mid-copy is detected instead of delivering a torn message. On overrun the
+ * reader counts the skipped messages and jumps to the writer's current position, like a multicast
+ * subscriber rejoining the live feed.
+ */
+@Slf4j
+public class ShmRingReader {
+    private final Path path;
+    private final int slotCount;
+    private final int slotSize;
+    private final int mask;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer message;
+
+    private long nextSequence;
+    private long overruns;
+    private long messagesLost;
+
+    /**
+     * Attaches at the writer's current position.
+     */
+    public ShmRingReader(Path path) throws IOException {
+        this(path, false);
+    }
+
+    /**
+     * @param fromOldest start from the oldest message still in the ring instead of the live position
+     */
+    public ShmRingReader(Path path, boolean fromOldest) throws IOException {
+        this.path = path;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a shared-memory ring (too small): " + path);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            this.buffer.order(ByteOrder.nativeOrder());
+        }
+
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Not a shared-memory ring (bad magic or version): " + path);
+        }
+        VarHandle.loadLoadFence();
+
+        this.slotCount = buffer.getInt(SLOT_COUNT_OFFSET);
+        this.slotSize = buffer.getInt(SLOT_SIZE_OFFSET);
+        this.mask = slotCount - 1;
+        if (buffer.capacity() != fileSize(slotCount, slotSize)) {
+            throw new IOException("Shared-memory ring size does not match its header: " + path);
+        }
+        this.message = ByteBuffer.allocateDirect(slotSize - SLOT_HEADER_BYTES).order(ByteOrder.nativeOrder());
+
+        long published = cursor();
+        this.nextSequence = fromOldest ? Math.max(0, published - slotCount) : published;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return sequence of the next message this reader will deliver
+     */
+    public long getPosition() {
+        return nextSequence;
+    }
+
+    public long getOverruns() {
+        return overruns;
+    }
+
+    public long getMessagesLost() {
+        return messagesLost;
+    }
+
+    /**
+     * @return messages published but not yet read
+     */
+    public long getLag() {
+        return cursor() - nextSequence;
+    }
+
+    /**
+     * Delivers up to {@code limit} available messages in sequence order.
+     *
+     * @return number of messages delivered
+     */
+    public int poll(ShmMessageHandler handler, int limit) {
+        long published = cursor();
+        if (published - nextSequence > slotCount) {
+            overrun(published);
+        }
+
+        int delivered = 0;
+        while (nextSequence < published && delivered < limit) {
+            int slot = slotOffset(nextSequence, mask, slotSize);
+
+            long before = (long) LONG.getAcquire(buffer, slot + SLOT_SEQUENCE_OFFSET);
+            if (before != nextSequence + 1) {
+                published = overrun(cursor());
+                continue;
+            }
+
+            int length = buffer.getInt(slot + SLOT_LENGTH_OFFSET);
+            if (length >= 0 && length <= message.capacity()) {
+                message.put(0, buffer, slot + SLOT_HEADER_BYTES, length);
+            }
+            VarHandle.loadLoadFence();
+
+            long after = (long) LONG.getOpaque(buffer, slot + SLOT_SEQUENCE_OFFSET);
+            if (after != before || length < 0 || length > message.capacity()) {
+                published = overrun(cursor());
+                continue;
+            }
+
+            handler.onMessage(message, 0, length, nextSequence);
+            nextSequence++;
+            delivered++;
+        }
+
+        return delivered;
+    }
+
+    private long cursor() {
+        return (long) LONG.getAcquire(buffer, CURSOR_OFFSET);
+    }
+
+    private long overrun(long published) {
+        long lost = published - nextSequence;
+        overruns++;
+        messagesLost += lost;
+        log.warn("Reader of {} overrun by writer: skipped {} messages ({} -> {})",
+                path, lost, nextSequence, published);
+
+        nextSequence = published;
+        return published;
+    }
+}
@@ -0,0 +1,169 @@
+package com.velocitytrade.ipc;
+
+import com.velocitytrade.config.ConfigLoader.ShmConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.velocitytrade.ipc.ShmRingLayout.*;
+
+/**
+ * Single writer of a memory-mapped broadcast ring, typically under /dev/shm.
+ * <p>
+ * The writer never waits for readers: it overwrites the oldest slot, and readers that fall a full ring
+ * behind detect the overrun themselves. Each slot is published by a release store of its sequence,
+ * then a release store of the cursor, so a reader that sees the cursor also sees the payload.
+ * <p>
+ * Reopening an existing ring with the same geometry resumes from its cursor, so attached readers
+ * survive a writer restart. Not thread-safe; one writer per file.
+ */
+@Slf4j
+public class ShmRingWriter implements AutoCloseable {
+    private final Path path;
+    private final int slotCount;
+    private final int slotSize;
+    private final int mask;
+    private final int maxPayloadBytes;
+    private final MappedByteBuffer buffer;
+
+    private long sequence;
+    private int claimedSlot = -1;
+
+    public ShmRingWriter(ShmConfig config) throws IOException {
+        this(Path.of(config.getPath()), config.getSlot_count(), config.getSlot_size());
+    }
+
+    public ShmRingWriter(Path path, int slotCount, int slotSize) throws IOException {
+        validate(slotCount, slotSize);
+
+        this.path = path;
+        this.slotCount = slotCount;
+        this.slotSize = slotSize;
+        this.mask = slotCount - 1;
+        this.maxPayloadBytes = slotSize - SLOT_HEADER_BYTES;
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        long size = fileSize(slotCount, slotSize);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean resume = channel.size() == size;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            this.buffer.order(ByteOrder.nativeOrder());
+
+            if (resume && matchesGeometry()) {
+                this.sequence = (long) LONG.getAcquire(buffer, CURSOR_OFFSET);
+                log.info("Resuming shared-memory ring {} at sequence {}", path, sequence);
+            } else {
+                initialize();
+                log.info("Created shared-memory ring {} ({} slots x {} bytes)", path, slotCount, slotSize);
+            }
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public int getMaxPayloadBytes() {
+        return maxPayloadBytes;
+    }
+
+    /**
+     * @return sequence of the next message to be published; also the number published so far
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long publish(ByteBuffer source, int offset, int length) {
+        checkLength(length);
+        int payload = claim();
+        buffer.put(payload, source, offset, length);
+        return commit(length);
+    }
+
+    /**
+     * Claims the next slot for in-place encoding into {@link #buffer()} at the returned offset,
+     * up to {@link #getMaxPayloadBytes()} bytes. Must be followed by {@link #commit(int)}.
+     */
+    public int claim() {
+        int slot = slotOffset(sequence, mask, slotSize);
+        LONG.setOpaque(buffer, slot + SLOT_SEQUENCE_OFFSET, SLOT_IN_PROGRESS);
+        VarHandle.storeStoreFence();
+        claimedSlot = slot;
+        return slot + SLOT_HEADER_BYTES;
+    }
+
+    /**
+     * @return sequence of the published message
+     */
+    public long commit(int length) {
+        if (claimedSlot < 0) {
+            throw new IllegalStateException("commit without claim");
+        }
+        int slot = claimedSlot;
+        claimedSlot = -1;
+        // On failure the slot stays in progress; the next claim reuses it for the same sequence
+        checkLength(length);
+
+        long published = sequence++;
+
+        buffer.putInt(slot + SLOT_LENGTH_OFFSET, length);
+        LONG.setRelease(buffer, slot + SLOT_SEQUENCE_OFFSET, published + 1);
+        LONG.setRelease(buffer, CURSOR_OFFSET, sequence);
+        return published;
+    }
+
+    /**
+     * The mapped ring, for encoding between {@link #claim()} and {@link #commit(int)}.
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    @Override
+    public void close() {
+        buffer.force();
+    }
+
+    private void checkLength(int length) {
+        if (length < 0 || length > maxPayloadBytes) {
+            throw new IllegalArgumentException("Message length " + length + " exceeds slot payload " + maxPayloadBytes);
+        }
+    }
+
+    private boolean matchesGeometry() {
+        return buffer.getInt(MAGIC_OFFSET) == MAGIC
+                && buffer.getInt(VERSION_OFFSET) == VERSION
+                && buffer.getInt(SLOT_COUNT_OFFSET) == slotCount
+                && buffer.getInt(SLOT_SIZE_OFFSET) == slotSize;
+    }
+
+    private void initialize() {
+        for (int i = 0; i < slotCount; i++) {
+            buffer.putLong(HEADER_BYTES + i * slotSize + SLOT_SEQUENCE_OFFSET, 0);
+        }
+        buffer.putInt(VERSION_OFFSET, VERSION)
+                .putInt(SLOT_COUNT_OFFSET, slotCount)
+                .putInt(SLOT_SIZE_OFFSET, slotSize);
+        LONG.setRelease(buffer, CURSOR_OFFSET, 0L);
+        VarHandle.storeStoreFence();
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        sequence = 0;
+    }
+}
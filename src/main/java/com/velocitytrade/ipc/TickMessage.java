@@ -0,0 +1,59 @@
+package com.velocitytrade.ipc;
+
+import com.velocitytrade.marketdata.FixedPriceQuote;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-point quote as carried over a shared-memory ring.
+ * <pre>
+ * symbolId:i32 | pad:i32 | mid:i64 | bid:i64 | ask:i64 | timestamp:i64 (System.nanoTime at generation)
+ * </pre>
+ * Publishing encodes straight into the claimed slot; no objects are created on either side.
+ */
+public final class TickMessage {
+    public static final int SYMBOL_OFFSET = 0;
+    public static final int MID_OFFSET = 8;
+    public static final int BID_OFFSET = 16;
+    public static final int ASK_OFFSET = 24;
+    public static final int TIMESTAMP_OFFSET = 32;
+    public static final int LENGTH = 40;
+
+    private TickMessage() {
+    }
+
+    public static long publish(ShmRingWriter writer, int symbolId, long mid, long bid, long ask, long timestamp) {
+        ByteBuffer buffer = writer.buffer();
+        int offset = writer.claim();
+        buffer.putInt(offset + SYMBOL_OFFSET, symbolId)
+                .putLong(offset + MID_OFFSET, mid)
+                .putLong(offset + BID_OFFSET, bid)
+                .putLong(offset + ASK_OFFSET, ask)
+                .putLong(offset + TIMESTAMP_OFFSET, timestamp);
+        return writer.commit(LENGTH);
+    }
+
+    public static long publish(ShmRingWriter writer, int symbolId, FixedPriceQuote quote) {
+        return publish(writer, symbolId, quote.mid(), quote.bid(), quote.ask(), quote.timestamp());
+    }
+
+    public static int symbolId(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + SYMBOL_OFFSET);
+    }
+
+    public static long mid(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + MID_OFFSET);
+    }
+
+    public static long bid(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + BID_OFFSET);
+    }
+
+    public static long ask(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + ASK_OFFSET);
+    }
+
+    public static long timestamp(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + TIMESTAMP_OFFSET);
+    }
+}
@@ -0,0 +1,17 @@
+package com.velocitytrade.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Percentiles of one latency histogram, in nanoseconds.
+ */
+public record LatencySummary(long count, double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                             long p999Nanos, long p9999Nanos, long maxNanos) {
+
+    public static LatencySummary of(Histogram histogram) {
+        return new LatencySummary(histogram.getTotalCount(), histogram.getMean(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                histogram.getValueAtPercentile(99.99), histogram.getMaxValue());
+    }
+}
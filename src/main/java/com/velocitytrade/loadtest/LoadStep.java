@@ -0,0 +1,69 @@
+package com.velocitytrade.loadtest;
+
+import com.velocitytrade.config.ConfigLoader.LoadTestConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One constant-rate stage of an open-loop load test.
+ *
+ * @param rate    ticks per second across all symbols
+ * @param warmup  run but left out of the report
+ */
+public record LoadStep(long rate, long durationNanos, boolean warmup) {
+
+    public LoadStep {
+        if (rate < 1 || durationNanos < 1) {
+            throw new IllegalArgumentException("Invalid load step: " + rate + " ticks/sec for " + durationNanos + " ns");
+        }
+    }
+
+    /**
+     * Ticks sent during the step.
+     */
+    public long ticks() {
+        return Math.max(1, rate * durationNanos / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Offset of tick {@code i} from the start of the step on the open-loop schedule.
+     */
+    public long intendedOffset(long i) {
+        return i * TimeUnit.SECONDS.toNanos(1) / rate;
+    }
+
+    /**
+     * Optional warm-up at the first rate, then either the ramp (when {@code ramp_step_rate} is set) or
+     * the listed rates.
+     */
+    public static List<LoadStep> plan(LoadTestConfig config) {
+        List<Long> rates = new ArrayList<>();
+        if (config.getRamp_step_rate() > 0) {
+            if (config.getRamp_start_rate() < 1 || config.getRamp_end_rate() < config.getRamp_start_rate()) {
+                throw new IllegalArgumentException("Invalid ramp: " + config.getRamp_start_rate() + ".."
+                        + config.getRamp_end_rate() + " by " + config.getRamp_step_rate());
+            }
+            for (long rate = config.getRamp_start_rate(); rate <= config.getRamp_end_rate();
+                 rate += config.getRamp_step_rate()) {
+                rates.add(rate);
+            }
+        } else {
+            rates.addAll(config.getRates());
+        }
+        if (rates.isEmpty()) {
+            throw new IllegalArgumentException("Load test needs at least one rate");
+        }
+
+        List<LoadStep> steps = new ArrayList<>();
+        if (config.getWarmup_sec() > 0) {
+            steps.add(new LoadStep(rates.get(0), TimeUnit.SECONDS.toNanos(config.getWarmup_sec()), true));
+        }
+        long duration = TimeUnit.SECONDS.toNanos(config.getStep_duration_sec());
+        for (long rate : rates) {
+            steps.add(new LoadStep(rate, duration, false));
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,299 @@
+package com.velocitytrade.loadtest;
+
+import com.velocitytrade.config.ConfigLoader.LoadTestConfig;
+import com.velocitytrade.ipc.ShmMessageHandler;
+import com.velocitytrade.ipc.ShmRingReader;
+import com.velocitytrade.ipc.ShmRingWriter;
+import com.velocitytrade.ipc.TickMessage;
+import com.velocitytrade.threading.IdleStrategy;
+import com.velocitytrade.warmup.TickStage;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop tick-to-trade load test.
+ * <p>
+ * A generator thread replays a {@link TickTape} into a shared-memory ring on a fixed schedule per
+ * {@link LoadStep}, never waiting on the pipeline; each tick carries its intended and actual send time.
+ * A pipeline thread reads the ring, runs the registered {@link TickStage}s (book, codec, OMS) and takes
+ * the order-emission timestamp after the last one. Latency from the intended time is the
+ * coordinated-omission-corrected figure: a stall delays every tick scheduled behind it, and each of
+ * them records the delay. Ticks the writer overwrites before the pipeline reads them record the
+ * maximum latency, so a ring smaller than the backlog cannot hide a stall.
+ */
+@Slf4j
+public class LoadTest {
+    private static final long PARK_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int POLL_LIMIT = 256;
+
+    private final TickTape tape;
+    private final List<LoadStep> steps;
+    private final Path ringPath;
+    private final int ringSlots;
+    private final long maxLatencyNanos;
+    private final double saturationTolerance;
+    private final IdleStrategy idleStrategy;
+
+    private final List<String> stageNames = new ArrayList<>();
+    private final List<TickStage> stages = new ArrayList<>();
+
+    public LoadTest(LoadTestConfig config, TickTape tape, IdleStrategy idleStrategy) {
+        this(tape, LoadStep.plan(config), Path.of(config.getRing_path()), config.getRing_slots(),
+                TimeUnit.MILLISECONDS.toNanos(config.getMax_latency_ms()),
+                config.getSaturation_tolerance_pct() / 100.0, idleStrategy);
+    }
+
+    public LoadTest(TickTape tape, List<LoadStep> steps, Path ringPath, int ringSlots, long maxLatencyNanos,
+                    double saturationTolerance, IdleStrategy idleStrategy) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Load test needs at least one step");
+        }
+
+        this.tape = tape;
+        this.steps = List.copyOf(steps);
+        this.ringPath = ringPath;
+        this.ringSlots = ringSlots;
+        this.maxLatencyNanos = maxLatencyNanos;
+        this.saturationTolerance = saturationTolerance;
+        this.idleStrategy = idleStrategy;
+    }
+
+    /**
+     * Stages run in registration order; the order is emitted when the last one returns.
+     */
+    public LoadTest addStage(String name, TickStage stage) {
+        stageNames.add(name);
+        stages.add(stage);
+        return this;
+    }
+
+    public LoadTestReport run(ThreadFactory generatorThreads, ThreadFactory pipelineThreads) throws IOException {
+        Files.deleteIfExists(ringPath);
+        Files.createDirectories(ringPath.toAbsolutePath().getParent());
+
+        int stepCount = steps.size();
+        long[] stepStarts = new long[stepCount];
+        long[] sent = new long[stepCount];
+
+        try (ShmRingWriter writer = new ShmRingWriter(ringPath, ringSlots, 64)) {
+            Pipeline pipeline = new Pipeline(new ShmRingReader(ringPath), stepCount);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+
+            Thread pipelineThread = pipelineThreads.newThread(() -> {
+                try {
+                    pipeline.run();
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            Thread generatorThread = generatorThreads.newThread(() -> {
+                try {
+                    generate(writer, stepStarts, sent);
+                    pipeline.generatorDone = true;
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                    pipeline.aborted = true;
+                }
+            });
+
+            String startedAt = Instant.now().toString();
+            log.info("Load test: {} steps through {}, ring {}", stepCount, stageNames, ringPath);
+            pipelineThread.start();
+            generatorThread.start();
+
+            join(generatorThread, Long.MAX_VALUE);
+            if (!join(pipelineThread, TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos) + 1_000)) {
+                pipeline.aborted = true;
+                join(pipelineThread, Long.MAX_VALUE);
+                throw new IllegalStateException("Pipeline did not drain within " + maxLatencyNanos + " ns of the load");
+            }
+            if (failure.get() != null) {
+                throw new IllegalStateException("Load test failed", failure.get());
+            }
+
+            return report(startedAt, stepStarts, sent, pipeline);
+        } finally {
+            Files.deleteIfExists(ringPath);
+        }
+    }
+
+    private void generate(ShmRingWriter writer, long[] stepStarts, long[] sent) {
+        int tapeSize = tape.size();
+        int cursor = 0;
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+
+        for (int s = 0; s < steps.size(); s++) {
+            LoadStep step = steps.get(s);
+            long ticks = step.ticks();
+            stepStarts[s] = start;
+
+            for (long i = 0; i < ticks; i++) {
+                long intended = start + step.intendedOffset(i);
+                long now;
+                while ((now = System.nanoTime()) < intended) {
+                    if (intended - now > PARK_THRESHOLD_NANOS) {
+                        LockSupport.parkNanos(intended - now - PARK_THRESHOLD_NANOS);
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+
+                LoadTick.publish(writer, s, tape.symbolId(cursor), tape.mid(cursor), tape.bid(cursor),
+                        tape.ask(cursor), System.nanoTime(), intended);
+                if (++cursor == tapeSize) {
+                    cursor = 0;
+                }
+            }
+            sent[s] = ticks;
+            start += step.durationNanos();
+        }
+    }
+
+    private LoadTestReport report(String startedAt, long[] stepStarts, long[] sent, Pipeline pipeline) {
+        List<StepResult> results = new ArrayList<>();
+        Long saturationRate = null;
+        long runStart = stepStarts[0];
+
+        for (int s = 0; s < steps.size(); s++) {
+            LoadStep step = steps.get(s);
+            if (step.warmup()) {
+                continue;
+            }
+
+            long processed = pipeline.processed[s];
+            long elapsed = Math.max(step.durationNanos(), pipeline.lastEmitted[s] - stepStarts[s]);
+            double achieved = processed * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            boolean saturated = processed < sent[s] || achieved < step.rate() * (1 - saturationTolerance);
+            if (saturated && saturationRate == null) {
+                saturationRate = step.rate();
+            }
+
+            results.add(new StepResult(step.rate(), achieved, sent[s], processed, sent[s] - processed, saturated,
+                    (stepStarts[s] - runStart) / 1e9, (stepStarts[s] - runStart + elapsed) / 1e9,
+                    LatencySummary.of(pipeline.corrected[s]), LatencySummary.of(pipeline.uncorrected[s]),
+                    pipeline.corrected[s], pipeline.uncorrected[s]));
+
+            LatencySummary corrected = results.get(results.size() - 1).corrected();
+            log.info("Load step {} ticks/sec: achieved {}, lost {}, corrected p50/p99/p99.9/max us {}/{}/{}/{}{}",
+                    step.rate(), (long) achieved, sent[s] - processed, corrected.p50Nanos() / 1000,
+                    corrected.p99Nanos() / 1000, corrected.p999Nanos() / 1000, corrected.maxNanos() / 1000,
+                    saturated ? " (saturated)" : "");
+        }
+
+        return new LoadTestReport(startedAt, System.getProperty("java.version"),
+                System.getProperty("os.name") + " " + System.getProperty("os.version"),
+                Runtime.getRuntime().availableProcessors(), tape.symbolCount(), List.copyOf(stageNames), results,
+                saturationRate);
+    }
+
+    private static boolean join(Thread thread, long millis) {
+        try {
+            thread.join(millis == Long.MAX_VALUE ? 0 : millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !thread.isAlive();
+    }
+
+    /**
+     * Pipeline-thread state; the per-step arrays are read by the caller after joining the thread.
+     * <p>
+     * The generator publishes every step's ticks back to back from sequence zero, so a sequence maps to
+     * its step without reading the overwritten slot.
+     */
+    private final class Pipeline {
+        private final ShmRingReader reader;
+        private final Histogram[] corrected;
+        private final Histogram[] uncorrected;
+        private final long[] processed;
+        private final long[] lastEmitted;
+        private final long[] stepEnds;
+        private final TickStage[] stageArray;
+        private final ShmMessageHandler handler = this::onTick;
+
+        private long expectedSequence;
+        private volatile boolean generatorDone;
+        private volatile boolean aborted;
+
+        Pipeline(ShmRingReader reader, int stepCount) {
+            this.reader = reader;
+            this.corrected = new Histogram[stepCount];
+            this.uncorrected = new Histogram[stepCount];
+            this.processed = new long[stepCount];
+            this.lastEmitted = new long[stepCount];
+            this.stepEnds = new long[stepCount];
+            this.stageArray = stages.toArray(new TickStage[0]);
+            long end = 0;
+            for (int s = 0; s < stepCount; s++) {
+                corrected[s] = new Histogram(maxLatencyNanos, 3);
+                uncorrected[s] = new Histogram(maxLatencyNanos, 3);
+                end += steps.get(s).ticks();
+                stepEnds[s] = end;
+            }
+        }
+
+        void run() {
+            while (!aborted) {
+                int work = reader.poll(handler, POLL_LIMIT);
+                // The done flag is read before the cursor, so a zero lag afterwards means fully drained
+                if (work == 0 && generatorDone && reader.getLag() == 0) {
+                    break;
+                }
+                idleStrategy.idle(work);
+            }
+            recordLost(expectedSequence, reader.getPosition());
+        }
+
+        /**
+         * Records the ticks in {@code [from, to)} that were overwritten before being read at the maximum
+         * latency of their step.
+         */
+        private void recordLost(long from, long to) {
+            long stepStart = 0;
+            for (int s = 0; s < stepEnds.length && from < to; s++) {
+                long lost = Math.min(to, stepEnds[s]) - Math.max(from, stepStart);
+                if (lost > 0) {
+                    corrected[s].recordValueWithCount(maxLatencyNanos, lost);
+                }
+                stepStart = stepEnds[s];
+            }
+        }
+
+        private void onTick(ByteBuffer buffer, int offset, int length, long sequence) {
+            if (sequence != expectedSequence) {
+                recordLost(expectedSequence, sequence);
+            }
+            expectedSequence = sequence + 1;
+
+            int step = LoadTick.step(buffer, offset);
+            int symbolId = TickMessage.symbolId(buffer, offset);
+            long mid = TickMessage.mid(buffer, offset);
+            long bid = TickMessage.bid(buffer, offset);
+            long ask = TickMessage.ask(buffer, offset);
+            long generated = TickMessage.timestamp(buffer, offset);
+            long intended = LoadTick.intended(buffer, offset);
+
+            for (TickStage stage : stageArray) {
+                stage.onTick(symbolId, mid, bid, ask, generated);
+            }
+            long emitted = System.nanoTime();
+
+            corrected[step].recordValue(Math.min(emitted - intended, maxLatencyNanos));
+            uncorrected[step].recordValue(Math.min(emitted - generated, maxLatencyNanos));
+            processed[step]++;
+            lastEmitted[step] = emitted;
+        }
+    }
+}
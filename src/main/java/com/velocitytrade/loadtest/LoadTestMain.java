@@ -0,0 +1,110 @@
+package com.velocitytrade.loadtest;
+
+import com.velocitytrade.config.ConfigLoader;
+import com.velocitytrade.config.ConfigLoader.AllocationConfig;
+import com.velocitytrade.config.ConfigLoader.AppConfig;
+import com.velocitytrade.config.ConfigLoader.LoadTestConfig;
+import com.velocitytrade.config.ConfigLoader.OmsConfig;
+import com.velocitytrade.config.ConfigLoader.PricingConfig;
+import com.velocitytrade.config.ConfigLoader.WarmupConfig;
+import com.velocitytrade.marketdata.LastQuotes;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.monitoring.AllocationMonitor;
+import com.velocitytrade.oms.OrderManager;
+import com.velocitytrade.threading.PipelineThreads;
+import com.velocitytrade.util.MappedCsvSymbolLoader;
+import com.velocitytrade.warmup.JitWarmup;
+import com.velocitytrade.warmup.ReadinessGate;
+import com.velocitytrade.warmup.TickStage;
+import com.velocitytrade.warmup.WarmupStages;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Standalone tick-to-trade load test over the {@code load_test} section of the config.
+ * <p>
+ * Usage: {@code LoadTestMain [config.yaml]}, or {@code ./gradlew loadTest}. Writes
+ * {@code loadtest-<time>.json} (per-step percentiles and the saturation curve) and
+ * {@code loadtest-<time>.hlog} (HdrHistogram interval log) to {@code output_dir}. With
+ * {@code warmup.enabled}, the pipeline stages are JIT-warmed on a strategy thread and the first step
+ * starts only once the readiness gate is live.
+ */
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        AppConfig config = ConfigLoader.loadConfig(args.length > 0 ? args[0] : "config/application.yaml");
+        LoadTestConfig loadTest = config.getLoad_test() != null ? config.getLoad_test() : new LoadTestConfig();
+
+        SymbolRegistry registry = SymbolRegistry.of(
+                new MappedCsvSymbolLoader(config.getMarket_data().getCsv().getFilepath()).loadStore());
+        PricingConfig pricing = config.getPricing() != null ? config.getPricing() : new PricingConfig();
+        PriceScales scales = PriceScales.of(registry, pricing.getPrice_scale(), pricing.getDefault_tick_size(),
+                pricing.getTick_sizes());
+        OmsConfig oms = config.getOms() != null ? config.getOms() : new OmsConfig();
+
+        PipelineThreads threads = PipelineThreads.fromConfig(config);
+        TickTape tape = TickTape.generate(registry, scales, loadTest.getSeed(), loadTest.getTape_size());
+
+        TickStage book = WarmupStages.book(new LastQuotes(registry.idLimit()));
+        TickStage codec = WarmupStages.codec();
+        TickStage orders = WarmupStages.orders(new OrderManager(oms));
+        LoadTest test = new LoadTest(loadTest, tape, threads.idleStrategy(PipelineThreads.STRATEGY))
+                .addStage(WarmupStages.BOOK, book)
+                .addStage(WarmupStages.CODEC, codec)
+                .addStage(WarmupStages.OMS, orders);
+
+        WarmupConfig warmup = config.getWarmup() != null ? config.getWarmup() : new WarmupConfig();
+        if (warmup.isEnabled()) {
+            ReadinessGate gate = new ReadinessGate();
+            JitWarmup jit = new JitWarmup(warmup, registry, scales, gate)
+                    .addStage(WarmupStages.BOOK, book)
+                    .addStage(WarmupStages.CODEC, codec)
+                    .addStage(WarmupStages.OMS, orders);
+            Thread warmupThread = threads.newThread(PipelineThreads.STRATEGY, jit::run);
+            warmupThread.start();
+            while (!gate.awaitLive(1, TimeUnit.SECONDS)) {
+                if (!warmupThread.isAlive()) {
+                    throw new IllegalStateException("JIT warm-up stopped before the system went live");
+                }
+            }
+            warmupThread.join();
+        }
+
+        AllocationConfig allocation = config.getAllocation() != null ? config.getAllocation() : new AllocationConfig();
+        AllocationMonitor monitor = allocation.isEnabled() ? new AllocationMonitor(allocation) : null;
+        if (monitor != null) {
+            threads.monitorAllocations(monitor);
+            monitor.start(task -> new Thread(task, "vt-allocation-monitor"));
+        }
+
+        LoadTestReport report;
+        try {
+            report = test.run(threads.threadFactory(PipelineThreads.GENERATOR),
+                    threads.threadFactory(PipelineThreads.STRATEGY));
+        } finally {
+            if (monitor != null) {
+                monitor.close();
+                for (AllocationMonitor.StageSample sample : monitor.sample(System.nanoTime())) {
+                    log.info("Stage {} allocated {} bytes, {} GC pauses", sample.stage(), sample.allocatedBytes(),
+                            sample.gcPauses());
+                }
+            }
+        }
+
+        String name = "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path json = Path.of(loadTest.getOutput_dir(), name + ".json");
+        Path histograms = Path.of(loadTest.getOutput_dir(), name + ".hlog");
+        report.writeJson(json);
+        report.writeHistogramLog(histograms);
+
+        log.info("Load test report written to {} and {}; saturation at {}", json, histograms,
+                report.saturationRate() != null ? report.saturationRate() + " ticks/sec" : "none of the tested rates");
+    }
+}
@@ -0,0 +1,51 @@
+package com.velocitytrade.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Result of a load test run. {@link #steps()} in rate order form the saturation curve.
+ *
+ * @param saturationRate first target rate the pipeline could not sustain, or null if none
+ */
+public record LoadTestReport(String startedAt, String javaVersion, String os, int processors, int symbols,
+                             List<String> pipeline, List<StepResult> steps, Long saturationRate) {
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    public void writeJson(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        JSON.writeValue(path.toFile(), this);
+    }
+
+    /**
+     * One interval per step and histogram, tagged {@code corrected-<rate>} and {@code uncorrected-<rate>},
+     * values in nanoseconds (max column in microseconds).
+     */
+    public void writeHistogramLog(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        HistogramLogWriter writer = new HistogramLogWriter(path.toFile());
+        try {
+            writer.outputComment("VelocityTrade tick-to-trade load test, started " + startedAt
+                    + ", pipeline " + String.join(" -> ", pipeline));
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (StepResult step : steps) {
+                step.correctedHistogram().setTag("corrected-" + step.targetRate());
+                step.uncorrectedHistogram().setTag("uncorrected-" + step.targetRate());
+                writer.outputIntervalHistogram(step.startSec(), step.endSec(), step.correctedHistogram(), 1000.0);
+                writer.outputIntervalHistogram(step.startSec(), step.endSec(), step.uncorrectedHistogram(), 1000.0);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.velocitytrade.loadtest;
+
+import com.velocitytrade.ipc.ShmRingWriter;
+import com.velocitytrade.ipc.TickMessage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link TickMessage} extended with load-test timing. The step index occupies the tick's pad word and
+ * the open-loop send time follows the tick, so it still fits a 64-byte ring slot:
+ * <pre>
+ * symbolId:i32 | step:i32 | mid:i64 | bid:i64 | ask:i64 | generated:i64 | intended:i64
+ * </pre>
+ */
+public final class LoadTick {
+    public static final int STEP_OFFSET = 4;
+    public static final int INTENDED_OFFSET = TickMessage.LENGTH;
+    public static final int LENGTH = INTENDED_OFFSET + 8;
+
+    private LoadTick() {
+    }
+
+    public static long publish(ShmRingWriter writer, int step, int symbolId, long mid, long bid, long ask,
+                               long generated, long intended) {
+        ByteBuffer buffer = writer.buffer();
+        int offset = writer.claim();
+        buffer.putInt(offset + TickMessage.SYMBOL_OFFSET, symbolId)
+                .putInt(offset + STEP_OFFSET, step)
+                .putLong(offset + TickMessage.MID_OFFSET, mid)
+                .putLong(offset + TickMessage.BID_OFFSET, bid)
+                .putLong(offset + TickMessage.ASK_OFFSET, ask)
+                .putLong(offset + TickMessage.TIMESTAMP_OFFSET, generated)
+                .putLong(offset + INTENDED_OFFSET, intended);
+        return writer.commit(LENGTH);
+    }
+
+    public static int step(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + STEP_OFFSET);
+    }
+
+    public static long intended(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + INTENDED_OFFSET);
+    }
+}
@@ -0,0 +1,19 @@
+package com.velocitytrade.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Measurements for one {@link LoadStep}; one point of the saturation curve.
+ *
+ * @param corrected   generation-to-emission latency measured from each tick's intended send time, so
+ *                    generator stalls and queueing are charged to every tick they delayed
+ * @param uncorrected the same measured from the actual send time, for comparison
+ * @param ticksLost   ticks overwritten in the ring before the pipeline read them
+ * @param startSec    step start, seconds from the start of the run
+ */
+public record StepResult(long targetRate, double achievedRate, long ticksSent, long ticksProcessed, long ticksLost,
+                         boolean saturated, double startSec, double endSec, LatencySummary corrected,
+                         LatencySummary uncorrected, @JsonIgnore Histogram correctedHistogram,
+                         @JsonIgnore Histogram uncorrectedHistogram) {
+}
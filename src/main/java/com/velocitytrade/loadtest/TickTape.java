@@ -0,0 +1,90 @@
+package com.velocitytrade.loadtest;
+
+import com.velocitytrade.marketdata.FixedPriceQuote;
+import com.velocitytrade.marketdata.PriceGenerator;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+
+import java.time.LocalTime;
+import java.util.Random;
+
+/**
+ * Pre-generated ticks, round-robin over the registry, replayed by the load generator so quote generation
+ * does not limit the offered rate. Read-only once built.
+ */
+public final class TickTape {
+    private final int[] symbolIds;
+    private final long[] mids;
+    private final long[] bids;
+    private final long[] asks;
+    private int symbolCount;
+
+    private TickTape(int size) {
+        this.symbolIds = new int[size];
+        this.mids = new long[size];
+        this.bids = new long[size];
+        this.asks = new long[size];
+    }
+
+    public static TickTape generate(SymbolRegistry registry, PriceScales scales, long seed, int size) {
+        if (size < 1 || registry.size() == 0) {
+            throw new IllegalArgumentException("Tick tape needs symbols and a positive size: " + size);
+        }
+
+        PriceGenerator generator = new PriceGenerator(seed);
+        Random random = new Random(seed);
+        int[] ids = new int[registry.size()];
+        long[] last = new long[registry.idLimit()];
+        double[] liquidity = new double[registry.idLimit()];
+        int symbols = 0;
+        for (int id = 0; id < registry.idLimit(); id++) {
+            if (registry.contains(id)) {
+                ids[symbols++] = id;
+                last[id] = scales.toUnits(id, registry.initialPrice(id));
+                liquidity[id] = PriceGenerator.estimateLiquidity(registry.symbol(id), random);
+            }
+        }
+
+        TickTape tape = new TickTape(size);
+        tape.symbolCount = Math.min(symbols, size);
+        LocalTime midday = LocalTime.NOON;
+        for (int i = 0; i < size; i++) {
+            int id = ids[i % symbols];
+            FixedPriceQuote quote = generator.nextQuote(last[id], registry.volatility(id), liquidity[id],
+                    scales.forSymbol(id), midday);
+            last[id] = quote.mid();
+            tape.symbolIds[i] = id;
+            tape.mids[i] = quote.mid();
+            tape.bids[i] = quote.bid();
+            tape.asks[i] = quote.ask();
+        }
+        return tape;
+    }
+
+    public int size() {
+        return symbolIds.length;
+    }
+
+    /**
+     * Distinct symbols on the tape.
+     */
+    public int symbolCount() {
+        return symbolCount;
+    }
+
+    public int symbolId(int i) {
+        return symbolIds[i];
+    }
+
+    public long mid(int i) {
+        return mids[i];
+    }
+
+    public long bid(int i) {
+        return bids[i];
+    }
+
+    public long ask(int i) {
+        return asks[i];
+    }
+}
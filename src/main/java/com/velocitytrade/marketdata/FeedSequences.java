@@ -0,0 +1,24 @@
+package com.velocitytrade.marketdata;
+
+/**
+ * Last sequence number seen or published per feed, indexed by a small fixed feed id.
+ */
+public final class FeedSequences {
+    private final long[] sequences;
+
+    public FeedSequences(int feeds) {
+        this.sequences = new long[feeds];
+    }
+
+    public void set(int feed, long sequence) {
+        sequences[feed] = sequence;
+    }
+
+    public long get(int feed) {
+        return sequences[feed];
+    }
+
+    public int size() {
+        return sequences.length;
+    }
+}
@@ -0,0 +1,36 @@
+package com.velocitytrade.marketdata;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tick-aligned quote in fixed-point units of the symbol's {@link PriceScale}.
+ */
+public record FixedPriceQuote(
+        long mid,
+        long bid,
+        long ask,
+        double spreadBps,
+        long timestamp
+) {
+    public FixedPriceQuote(long mid, long bid, long ask, double spreadBps) {
+        this(mid, bid, ask, spreadBps, System.nanoTime());
+    }
+
+    public long spreadUnits() {
+        return ask - bid;
+    }
+
+    public boolean isValid() {
+        return bid > 0 && bid < mid && mid < ask;
+    }
+
+    public PriceQuote toPriceQuote(PriceScale scale) {
+        return new PriceQuote(scale.toDouble(mid), scale.toDouble(bid), scale.toDouble(ask), spreadBps, timestamp);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "FixedQuote[mid=" + mid + ", bid=" + bid + ", ask=" + ask + "]";
+    }
+}
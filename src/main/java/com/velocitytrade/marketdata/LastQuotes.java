@@ -0,0 +1,54 @@
+package com.velocitytrade.marketdata;
+
+/**
+ * Latest fixed-point quote per symbol id, held in id-indexed primitive arrays.
+ * Written by the tick thread; a mid of 0 means no quote yet.
+ */
+public final class LastQuotes {
+    private final long[] mids;
+    private final long[] bids;
+    private final long[] asks;
+    private final long[] timestamps;
+
+    public LastQuotes(int idLimit) {
+        this.mids = new long[idLimit];
+        this.bids = new long[idLimit];
+        this.asks = new long[idLimit];
+        this.timestamps = new long[idLimit];
+    }
+
+    public void update(int symbolId, long mid, long bid, long ask, long timestamp) {
+        mids[symbolId] = mid;
+        bids[symbolId] = bid;
+        asks[symbolId] = ask;
+        timestamps[symbolId] = timestamp;
+    }
+
+    public void update(int symbolId, FixedPriceQuote quote) {
+        update(symbolId, quote.mid(), quote.bid(), quote.ask(), quote.timestamp());
+    }
+
+    public int idLimit() {
+        return mids.length;
+    }
+
+    public boolean hasQuote(int symbolId) {
+        return mids[symbolId] != 0;
+    }
+
+    public long mid(int symbolId) {
+        return mids[symbolId];
+    }
+
+    public long bid(int symbolId) {
+        return bids[symbolId];
+    }
+
+    public long ask(int symbolId) {
+        return asks[symbolId];
+    }
+
+    public long timestamp(int symbolId) {
+        return timestamps[symbolId];
+    }
+}
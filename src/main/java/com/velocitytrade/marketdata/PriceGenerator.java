@@ -1,5 +1,7 @@
 package com.velocitytrade.marketdata;
 
+import com.velocitytrade.stats.StatsCounters;
+import com.velocitytrade.stats.StatsReporter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalTime;
@@ -7,6 +9,8 @@ import java.util.Random;
 
 @Slf4j
 public class PriceGenerator {
+    public static final int STAT_JUMPS = 1;
+
     private final Random random;
     private final double drift;
     private final double timeStep;
@@ -14,13 +18,29 @@ public class PriceGenerator {
     private final double jumpMean;
     private final double jumpStdDev;
     private final boolean enableIntradayVolatility;
+    private final StatsCounters stats;
 
 
     public PriceGenerator(long seed) {
-        this(seed, 0.0, 0.01, 0.01, 0.0, 0.005, true);
+        this(seed, null);
+    }
+
+    /**
+     * @param reporter receives the generator's counters (prices drawn, then {@code STAT_*}); may be null
+     */
+    public PriceGenerator(long seed, StatsReporter reporter) {
+        this(seed, 0.0, 0.01, 0.01, 0.0, 0.005, true, reporter);
     }
 
     public PriceGenerator(long seed, double drift, double timeStep, double jumpProbability, double jumpMean, double jumpStdDev, boolean enableIntradayVolatility) {
+        this(seed, drift, timeStep, jumpProbability, jumpMean, jumpStdDev, enableIntradayVolatility, null);
+    }
+
+    public PriceGenerator(long seed, double drift, double timeStep, double jumpProbability, double jumpMean, double jumpStdDev, boolean enableIntradayVolatility,
+                          StatsReporter reporter) {
+        this.stats = reporter != null
+                ? reporter.counters("generator", "jumps")
+                : StatsCounters.detached("generator", "jumps");
         this.random = new Random(seed);
         this.drift = drift;
         this.timeStep = timeStep;
@@ -44,6 +64,7 @@ public class PriceGenerator {
                 : volatility;
 
         // Geometric Brownian Motion component
+        stats.onMessage();
         double z = random.nextGaussian();
         double diffusion = (drift - 0.5 * adjustedVal * adjustedVal) * timeStep + adjustedVal * Math.sqrt(timeStep) * z;
 
@@ -51,7 +72,10 @@ public class PriceGenerator {
         double jump = 0.0;
         if(random.nextDouble() < jumpProbability) {
             jump = jumpMean + jumpStdDev * random.nextGaussian();
-            log.trace("Jump event: size={:.3f}%", jump * 100);
+            stats.increment(STAT_JUMPS);
+            if (log.isTraceEnabled()) {
+                log.trace("Jump event: size={}%", jump * 100);
+            }
         }
 
         // combined price evolution
@@ -81,6 +105,61 @@ public class PriceGenerator {
         return new PriceQuote(midPrice, bid, ask, spreadBps);
     }
 
+    /**
+     * Fixed-point mode: same model as {@link #nextPrice(double, double, LocalTime)}, but the state is a
+     * tick-aligned long so replays from the same seed reproduce exactly. The floor is two ticks, so a bid one
+     * tick below mid is still a positive price.
+     */
+    public long nextPrice(long currentUnits, double volatility, PriceScale scale) {
+        return nextPrice(currentUnits, volatility, scale, LocalTime.now());
+    }
+
+    public long nextPrice(long currentUnits, double volatility, PriceScale scale, LocalTime time) {
+        double newPrice = nextPrice(scale.toDouble(currentUnits), volatility, time);
+        return Math.max(scale.toUnits(newPrice), 2 * scale.tickUnits());
+    }
+
+    public FixedPriceQuote nextQuote(long currentMid, double volatility, double liquidity, PriceScale scale) {
+        return nextQuote(currentMid, volatility, liquidity, scale, LocalTime.now());
+    }
+
+    public FixedPriceQuote nextQuote(long currentMid, double volatility, double liquidity, PriceScale scale, LocalTime time) {
+
+        long mid = nextPrice(currentMid, volatility, scale, time);
+
+        double spreadBps = calculateSpreadBps(liquidity, volatility);
+
+        return new FixedPriceQuote(mid, bidUnits(mid, spreadBps, scale), askUnits(mid, spreadBps, scale), spreadBps);
+    }
+
+    /**
+     * Allocation-free form of {@link #nextQuote(long, double, double, PriceScale, LocalTime)} for per-tick
+     * loops: advances the symbol's quote in {@code quotes} in place, starting from its current mid.
+     */
+    public void nextQuote(int symbolId, double volatility, double liquidity, PriceScale scale, LocalTime time,
+                          LastQuotes quotes) {
+        long mid = nextPrice(quotes.mid(symbolId), volatility, scale, time);
+
+        double spreadBps = calculateSpreadBps(liquidity, volatility);
+
+        quotes.update(symbolId, mid, bidUnits(mid, spreadBps, scale), askUnits(mid, spreadBps, scale),
+                System.nanoTime());
+    }
+
+    // bid/ask rounded outwards onto the tick grid, at least one tick from mid; bid never below one tick
+    private static long bidUnits(long mid, double spreadBps, PriceScale scale) {
+        double midPrice = scale.toDouble(mid);
+        double halfSpread = midPrice * spreadBps / 20000.0;
+        return Math.max(Math.min(scale.toUnitsFloor(midPrice - halfSpread), mid - scale.tickUnits()),
+                scale.tickUnits());
+    }
+
+    private static long askUnits(long mid, double spreadBps, PriceScale scale) {
+        double midPrice = scale.toDouble(mid);
+        double halfSpread = midPrice * spreadBps / 20000.0;
+        return Math.max(scale.toUnitsCeil(midPrice + halfSpread), mid + scale.tickUnits());
+    }
+
     private double calculateSpreadBps(double liquidity, double volatility) {
         double liquiditySpread = 1.0 + (1.0 - liquidity) * 99.0;
 
@@ -117,16 +196,37 @@ public class PriceGenerator {
         return baseVolatility;
     }
 
+    /**
+     * Jumps drawn so far; read from the generating thread or after it has stopped.
+     */
+    public long getJumpEvents() {
+        return stats.get(STAT_JUMPS);
+    }
+
+    /**
+     * Generator counters: prices drawn, then {@code STAT_*}.
+     */
+    public StatsCounters getStats() {
+        return stats;
+    }
+
     public static double estimateLiquidity(Symbol symbol) {
+        return estimateLiquidity(symbol, LIQUIDITY_RANDOM);
+    }
+
+    /**
+     * Same estimate drawn from the caller's {@code random}, for reproducible runs.
+     */
+    public static double estimateLiquidity(Symbol symbol, Random random) {
         if(symbol.id() < 10) {
-            return 0.95 + LIQUIDITY_RANDOM.nextDouble() * 0.05;
+            return 0.95 + random.nextDouble() * 0.05;
         }
 
         if(symbol.id() < 50) {
-            return 0.70 + LIQUIDITY_RANDOM.nextDouble() * 0.20;
+            return 0.70 + random.nextDouble() * 0.20;
         }
 
-        return 0.40 + LIQUIDITY_RANDOM.nextDouble() * 0.30;
+        return 0.40 + random.nextDouble() * 0.30;
     }
 
     private static final Random LIQUIDITY_RANDOM = new Random();
@@ -1,5 +1,6 @@
 package com.velocitytrade.marketdata;
 
+import com.velocitytrade.util.AsciiNumbers;
 import org.jetbrains.annotations.NotNull;
 
 public record PriceQuote (
@@ -24,7 +25,10 @@ public record PriceQuote (
     @NotNull
     @Override
     public String toString() {
-        return String.format("Quote[mid=%.2f, bid=%.2f, ask=%.2f, spread=%.1fbps]",
-                mid, bid, ask, spreadBps);
+        StringBuilder builder = new StringBuilder(64).append("Quote[mid=");
+        AsciiNumbers.appendFixed(builder, mid, 2).append(", bid=");
+        AsciiNumbers.appendFixed(builder, bid, 2).append(", ask=");
+        AsciiNumbers.appendFixed(builder, ask, 2).append(", spread=");
+        return AsciiNumbers.appendFixed(builder, spreadBps, 1).append("bps]").toString();
     }
 }
@@ -0,0 +1,115 @@
+package com.velocitytrade.marketdata;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fixed-point price convention for one symbol: prices are longs in units of {@code 1 / scale},
+ * and valid prices are multiples of {@code tickUnits}.
+ * <p>
+ * E.g. scale 10_000 with a 0.01 tick: $195.50 is 1_955_000 units, tick = 100 units.
+ * All conversions are pure arithmetic on primitives.
+ */
+public final class PriceScale {
+    private static final double FLOOR_EPSILON = 1e-9;
+
+    private final long scale;
+    private final long tickUnits;
+    private final double ticksPerPrice;
+
+    public PriceScale(long scale, long tickUnits) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("scale must be positive: " + scale);
+        }
+        if (tickUnits <= 0) {
+            throw new IllegalArgumentException("tickUnits must be positive: " + tickUnits);
+        }
+
+        this.scale = scale;
+        this.tickUnits = tickUnits;
+        this.ticksPerPrice = (double) scale / tickUnits;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code tickSize} is not a whole number of units at this scale
+     */
+    public static PriceScale of(long scale, double tickSize) {
+        double units = tickSize * scale;
+        long tickUnits = Math.round(units);
+
+        if (tickUnits <= 0 || Math.abs(units - tickUnits) > 1e-6) {
+            throw new IllegalArgumentException("Tick size " + tickSize + " is not representable at scale " + scale);
+        }
+        return new PriceScale(scale, tickUnits);
+    }
+
+    public long scale() {
+        return scale;
+    }
+
+    public long tickUnits() {
+        return tickUnits;
+    }
+
+    public double tickSize() {
+        return (double) tickUnits / scale;
+    }
+
+    /**
+     * Nearest tick, ties towards positive infinity as {@link Math#round(double)} (-1.5 ticks -> -1).
+     */
+    public long toUnits(double price) {
+        return Math.round(price * ticksPerPrice) * tickUnits;
+    }
+
+    public long toUnitsFloor(double price) {
+        return (long) Math.floor(price * ticksPerPrice + FLOOR_EPSILON) * tickUnits;
+    }
+
+    public long toUnitsCeil(double price) {
+        return (long) Math.ceil(price * ticksPerPrice - FLOOR_EPSILON) * tickUnits;
+    }
+
+    public double toDouble(long units) {
+        return (double) units / scale;
+    }
+
+    public long toTicks(long units) {
+        return Math.floorDiv(units, tickUnits);
+    }
+
+    public long fromTicks(long ticks) {
+        return ticks * tickUnits;
+    }
+
+    public boolean isTickAligned(long units) {
+        return Math.floorMod(units, tickUnits) == 0;
+    }
+
+    public long roundToTick(long units) {
+        return Math.floorDiv(units + tickUnits / 2, tickUnits) * tickUnits;
+    }
+
+    public long floorToTick(long units) {
+        return Math.floorDiv(units, tickUnits) * tickUnits;
+    }
+
+    public long ceilToTick(long units) {
+        return -Math.floorDiv(-units, tickUnits) * tickUnits;
+    }
+
+    /**
+     * Rescales units from another convention onto this one, rounding to the nearest tick.
+     */
+    public long convertFrom(long units, PriceScale from) {
+        if (from.scale == scale) {
+            return roundToTick(units);
+        }
+        return toUnits(from.toDouble(units));
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "PriceScale[scale=" + scale + ", tickUnits=" + tickUnits + "]";
+    }
+}
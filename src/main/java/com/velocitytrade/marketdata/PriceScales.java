@@ -0,0 +1,53 @@
+package com.velocitytrade.marketdata;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Id-indexed {@link PriceScale} per symbol, built once from the registry and the pricing config.
+ */
+public final class PriceScales {
+    private final PriceScale[] scales;
+
+    private PriceScales(PriceScale[] scales) {
+        this.scales = scales;
+    }
+
+    public static PriceScales uniform(int idLimit, PriceScale scale) {
+        PriceScale[] scales = new PriceScale[idLimit];
+        Arrays.fill(scales, scale);
+        return new PriceScales(scales);
+    }
+
+    /**
+     * @param tickSizeOverrides ticker -> tick size for symbols that do not use {@code defaultTickSize}
+     */
+    public static PriceScales of(SymbolRegistry registry, long scale, double defaultTickSize,
+                                 Map<String, Double> tickSizeOverrides) {
+        PriceScale defaultScale = PriceScale.of(scale, defaultTickSize);
+        PriceScale[] scales = new PriceScale[registry.idLimit()];
+        Arrays.fill(scales, defaultScale);
+
+        for (Map.Entry<String, Double> override : tickSizeOverrides.entrySet()) {
+            int id = registry.idOf(override.getKey());
+            if (id == SymbolRegistry.NOT_FOUND) {
+                throw new IllegalArgumentException("Tick size override for unknown ticker: " + override.getKey());
+            }
+            scales[id] = PriceScale.of(scale, override.getValue());
+        }
+
+        return new PriceScales(scales);
+    }
+
+    public PriceScale forSymbol(int id) {
+        return scales[id];
+    }
+
+    public long toUnits(int id, double price) {
+        return scales[id].toUnits(price);
+    }
+
+    public double toDouble(int id, long units) {
+        return scales[id].toDouble(units);
+    }
+}
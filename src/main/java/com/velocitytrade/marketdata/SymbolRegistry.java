@@ -0,0 +1,267 @@
+package com.velocitytrade.marketdata;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable ticker -> id index plus id-indexed reference data.
+ * <p>
+ * Tickers are interned once into a packed byte array; lookups from bytes, buffers or any CharSequence hash
+ * and compare in place through an open-addressing table, so resolving inbound text never allocates.
+ * Hot paths should hold ids and read the primitive accessors rather than {@link Symbol} records.
+ */
+public final class SymbolRegistry {
+    public static final int NOT_FOUND = -1;
+
+    private static final int FNV_OFFSET = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int MAX_ID_GAP = 1024;
+
+    private final int size;
+    private final int mask;
+    private final int[] slotIds;     // id + 1, 0 = empty
+    private final int[] slotHashes;
+
+    private final boolean[] present;
+    private final byte[] tickerBytes;
+    private final int[] tickerOffsets;  // id-indexed, maxId + 2 entries
+    private final double[] initialPrices;
+    private final double[] volatilities;
+    private final Symbol[] symbols;
+
+    private SymbolRegistry(SymbolStore store) {
+        int maxId = -1;
+        for (int row = 0; row < store.size(); row++) {
+            int id = store.id(row);
+            if (id < 0) {
+                throw new IllegalArgumentException("Symbol id must be non-negative: " + id);
+            }
+            maxId = Math.max(maxId, id);
+        }
+        if (maxId >= store.size() + MAX_ID_GAP) {
+            throw new IllegalArgumentException("Symbol ids are too sparse: max id " + maxId + " for " + store.size() + " symbols");
+        }
+
+        int ids = maxId + 1;
+        this.size = store.size();
+        this.present = new boolean[ids];
+        this.initialPrices = new double[ids];
+        this.volatilities = new double[ids];
+        this.symbols = new Symbol[ids];
+
+        int[] rowById = new int[ids];
+        for (int row = 0; row < store.size(); row++) {
+            int id = store.id(row);
+            if (present[id]) {
+                throw new IllegalArgumentException("Duplicate symbol id: " + id);
+            }
+            present[id] = true;
+            rowById[id] = row;
+        }
+
+        this.tickerOffsets = new int[ids + 1];
+        int totalTickerBytes = 0;
+        for (int id = 0; id < ids; id++) {
+            tickerOffsets[id] = totalTickerBytes;
+            if (present[id]) {
+                totalTickerBytes += store.tickerLength(rowById[id]);
+            }
+        }
+        tickerOffsets[ids] = totalTickerBytes;
+        this.tickerBytes = new byte[totalTickerBytes];
+
+        int capacity = Integer.highestOneBit(Math.max(4, size * 2 - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slotIds = new int[capacity];
+        this.slotHashes = new int[capacity];
+
+        for (int id = 0; id < ids; id++) {
+            if (!present[id]) {
+                continue;
+            }
+            int row = rowById[id];
+            int offset = tickerOffsets[id];
+            int hash = FNV_OFFSET;
+            for (int i = 0; i < store.tickerLength(row); i++) {
+                byte b = store.tickerByte(row, i);
+                tickerBytes[offset + i] = b;
+                hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+            }
+
+            initialPrices[id] = store.initialPrice(row);
+            volatilities[id] = store.volatility(row);
+            symbols[id] = store.toSymbol(row);
+
+            if (find(hash, tickerBytes, offset, tickerOffsets[id + 1] - offset) != NOT_FOUND) {
+                throw new IllegalArgumentException("Duplicate ticker: " + store.ticker(row));
+            }
+            insert(hash, id);
+        }
+    }
+
+    public static SymbolRegistry of(List<Symbol> symbols) {
+        return new SymbolRegistry(SymbolStore.of(symbols));
+    }
+
+    public static SymbolRegistry of(SymbolStore store) {
+        return new SymbolRegistry(store);
+    }
+
+    public int idOf(CharSequence ticker) {
+        int length = ticker.length();
+        int hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            char c = ticker.charAt(i);
+            if (c > 0x7F) {
+                return NOT_FOUND;
+            }
+            hash = (hash ^ c) * FNV_PRIME;
+        }
+
+        for (int slot = spread(hash) & mask; slotIds[slot] != 0; slot = (slot + 1) & mask) {
+            if (slotHashes[slot] == hash && tickerEquals(slotIds[slot] - 1, ticker)) {
+                return slotIds[slot] - 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    public int idOf(byte[] bytes, int offset, int length) {
+        int hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (bytes[offset + i] & 0xFF)) * FNV_PRIME;
+        }
+        return find(hash, bytes, offset, length);
+    }
+
+    /**
+     * Resolves the ticker at {@code [offset, offset + length)} using absolute reads; the buffer position is untouched.
+     */
+    public int idOf(ByteBuffer buffer, int offset, int length) {
+        int hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (buffer.get(offset + i) & 0xFF)) * FNV_PRIME;
+        }
+
+        for (int slot = spread(hash) & mask; slotIds[slot] != 0; slot = (slot + 1) & mask) {
+            int id = slotIds[slot] - 1;
+            if (slotHashes[slot] == hash && tickerEquals(id, buffer, offset, length)) {
+                return id;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Exclusive upper bound of ids; size id-indexed arrays with this.
+     */
+    public int idLimit() {
+        return present.length;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < present.length && present[id];
+    }
+
+    public double initialPrice(int id) {
+        return initialPrices[id];
+    }
+
+    public double volatility(int id) {
+        return volatilities[id];
+    }
+
+    public int tickerLength(int id) {
+        return tickerOffsets[id + 1] - tickerOffsets[id];
+    }
+
+    public String ticker(int id) {
+        return new String(tickerBytes, tickerOffsets[id], tickerLength(id), StandardCharsets.US_ASCII);
+    }
+
+    public Symbol symbol(int id) {
+        return symbols[id];
+    }
+
+    /**
+     * 64-bit FNV-1a over every id with its ticker; equal only for registries that map the same ids to the
+     * same tickers, whatever their order in the source file.
+     */
+    public long fingerprint() {
+        long hash = 0xCBF29CE484222325L;
+        for (int id = 0; id < present.length; id++) {
+            if (!present[id]) {
+                continue;
+            }
+            hash = fnv64(fnv64(hash, id), tickerLength(id));
+            for (int i = tickerOffsets[id]; i < tickerOffsets[id + 1]; i++) {
+                hash = (hash ^ (tickerBytes[i] & 0xFF)) * 0x100000001B3L;
+            }
+        }
+        return hash;
+    }
+
+    private static long fnv64(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private int find(int hash, byte[] bytes, int offset, int length) {
+        for (int slot = spread(hash) & mask; slotIds[slot] != 0; slot = (slot + 1) & mask) {
+            int id = slotIds[slot] - 1;
+            if (slotHashes[slot] == hash && Arrays.equals(
+                    tickerBytes, tickerOffsets[id], tickerOffsets[id + 1],
+                    bytes, offset, offset + length)) {
+                return id;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private void insert(int hash, int id) {
+        int slot = spread(hash) & mask;
+        while (slotIds[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slotIds[slot] = id + 1;
+        slotHashes[slot] = hash;
+    }
+
+    private boolean tickerEquals(int id, ByteBuffer buffer, int offset, int length) {
+        int tickerOffset = tickerOffsets[id];
+        if (tickerLength(id) != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (tickerBytes[tickerOffset + i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean tickerEquals(int id, CharSequence ticker) {
+        int offset = tickerOffsets[id];
+        if (tickerLength(id) != ticker.length()) {
+            return false;
+        }
+        for (int i = 0; i < ticker.length(); i++) {
+            if (tickerBytes[offset + i] != ticker.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,234 @@
+package com.velocitytrade.marketdata;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar, row-indexed symbol universe: one primitive array per field, tickers and names packed into
+ * shared byte arrays addressed by offset. Rows keep file order; {@link #id(int)} holds the symbol id.
+ */
+public final class SymbolStore {
+    private final int size;
+    private final int[] ids;
+    private final double[] initialPrices;
+    private final double[] volatilities;
+    private final byte[] tickerBytes;
+    private final int[] tickerOffsets;  // size + 1 entries
+    private final byte[] nameBytes;
+    private final int[] nameOffsets;    // size + 1 entries
+
+    private SymbolStore(int size, int[] ids, double[] initialPrices, double[] volatilities,
+                        byte[] tickerBytes, int[] tickerOffsets, byte[] nameBytes, int[] nameOffsets) {
+        this.size = size;
+        this.ids = ids;
+        this.initialPrices = initialPrices;
+        this.volatilities = volatilities;
+        this.tickerBytes = tickerBytes;
+        this.tickerOffsets = tickerOffsets;
+        this.nameBytes = nameBytes;
+        this.nameOffsets = nameOffsets;
+    }
+
+    public static SymbolStore of(List<Symbol> symbols) {
+        Builder builder = new Builder(symbols.size());
+        for (Symbol symbol : symbols) {
+            builder.add(symbol);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Concatenates stores in list order, e.g. the per-chunk results of a parallel load.
+     */
+    public static SymbolStore concat(List<SymbolStore> parts) {
+        int totalRows = 0;
+        int totalTickerBytes = 0;
+        int totalNameBytes = 0;
+        for (SymbolStore part : parts) {
+            totalRows += part.size;
+            totalTickerBytes += part.tickerOffsets[part.size];
+            totalNameBytes += part.nameOffsets[part.size];
+        }
+
+        int[] ids = new int[totalRows];
+        double[] initialPrices = new double[totalRows];
+        double[] volatilities = new double[totalRows];
+        byte[] tickerBytes = new byte[totalTickerBytes];
+        int[] tickerOffsets = new int[totalRows + 1];
+        byte[] nameBytes = new byte[totalNameBytes];
+        int[] nameOffsets = new int[totalRows + 1];
+
+        int row = 0;
+        int tickerBase = 0;
+        int nameBase = 0;
+        for (SymbolStore part : parts) {
+            System.arraycopy(part.ids, 0, ids, row, part.size);
+            System.arraycopy(part.initialPrices, 0, initialPrices, row, part.size);
+            System.arraycopy(part.volatilities, 0, volatilities, row, part.size);
+            System.arraycopy(part.tickerBytes, 0, tickerBytes, tickerBase, part.tickerOffsets[part.size]);
+            System.arraycopy(part.nameBytes, 0, nameBytes, nameBase, part.nameOffsets[part.size]);
+
+            for (int i = 0; i < part.size; i++) {
+                tickerOffsets[row + i] = tickerBase + part.tickerOffsets[i];
+                nameOffsets[row + i] = nameBase + part.nameOffsets[i];
+            }
+
+            row += part.size;
+            tickerBase += part.tickerOffsets[part.size];
+            nameBase += part.nameOffsets[part.size];
+        }
+        tickerOffsets[totalRows] = tickerBase;
+        nameOffsets[totalRows] = nameBase;
+
+        return new SymbolStore(totalRows, ids, initialPrices, volatilities, tickerBytes, tickerOffsets, nameBytes, nameOffsets);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int id(int row) {
+        return ids[row];
+    }
+
+    public double initialPrice(int row) {
+        return initialPrices[row];
+    }
+
+    public double volatility(int row) {
+        return volatilities[row];
+    }
+
+    public int tickerLength(int row) {
+        return tickerOffsets[row + 1] - tickerOffsets[row];
+    }
+
+    public byte tickerByte(int row, int index) {
+        return tickerBytes[tickerOffsets[row] + index];
+    }
+
+    public String ticker(int row) {
+        return new String(tickerBytes, tickerOffsets[row], tickerLength(row), StandardCharsets.US_ASCII);
+    }
+
+    public String name(int row) {
+        return new String(nameBytes, nameOffsets[row], nameOffsets[row + 1] - nameOffsets[row], StandardCharsets.UTF_8);
+    }
+
+    public Symbol toSymbol(int row) {
+        return new Symbol(ids[row], ticker(row), name(row), initialPrices[row], volatilities[row]);
+    }
+
+    public List<Symbol> toSymbols() {
+        List<Symbol> symbols = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            symbols.add(toSymbol(row));
+        }
+        return symbols;
+    }
+
+    /**
+     * Append-only, single-threaded builder with growable columns.
+     */
+    public static final class Builder {
+        private int size;
+        private int[] ids;
+        private double[] initialPrices;
+        private double[] volatilities;
+        private byte[] tickerBytes;
+        private int[] tickerOffsets;
+        private byte[] nameBytes;
+        private int[] nameOffsets;
+
+        public Builder(int expectedRows) {
+            int rows = Math.max(16, expectedRows);
+            this.ids = new int[rows];
+            this.initialPrices = new double[rows];
+            this.volatilities = new double[rows];
+            this.tickerOffsets = new int[rows + 1];
+            this.nameOffsets = new int[rows + 1];
+            this.tickerBytes = new byte[rows * 8];
+            this.nameBytes = new byte[rows * 24];
+        }
+
+        public Builder add(Symbol symbol) {
+            byte[] ticker = symbol.ticker().getBytes(StandardCharsets.US_ASCII);
+            byte[] name = symbol.name().getBytes(StandardCharsets.UTF_8);
+            ByteBuffer tickerBuffer = ByteBuffer.wrap(ticker);
+            ByteBuffer nameBuffer = ByteBuffer.wrap(name);
+
+            ensureRowCapacity();
+            ids[size] = symbol.id();
+            initialPrices[size] = symbol.initialPrice();
+            volatilities[size] = symbol.volatility();
+            tickerOffsets[size + 1] = appendTicker(tickerBuffer, 0, ticker.length);
+            nameOffsets[size + 1] = appendName(nameBuffer, 0, name.length);
+            size++;
+            return this;
+        }
+
+        /**
+         * Adds a row whose ticker and name are copied from {@code source} regions using absolute reads.
+         */
+        public Builder add(int id, ByteBuffer source, int tickerStart, int tickerEnd, int nameStart, int nameEnd,
+                           double initialPrice, double volatility) {
+            ensureRowCapacity();
+            ids[size] = id;
+            initialPrices[size] = initialPrice;
+            volatilities[size] = volatility;
+            tickerOffsets[size + 1] = appendTicker(source, tickerStart, tickerEnd - tickerStart);
+            nameOffsets[size + 1] = appendName(source, nameStart, nameEnd - nameStart);
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public SymbolStore build() {
+            return new SymbolStore(
+                    size,
+                    Arrays.copyOf(ids, size),
+                    Arrays.copyOf(initialPrices, size),
+                    Arrays.copyOf(volatilities, size),
+                    Arrays.copyOf(tickerBytes, tickerOffsets[size]),
+                    Arrays.copyOf(tickerOffsets, size + 1),
+                    Arrays.copyOf(nameBytes, nameOffsets[size]),
+                    Arrays.copyOf(nameOffsets, size + 1)
+            );
+        }
+
+        private void ensureRowCapacity() {
+            if (size == ids.length) {
+                int rows = ids.length * 2;
+                ids = Arrays.copyOf(ids, rows);
+                initialPrices = Arrays.copyOf(initialPrices, rows);
+                volatilities = Arrays.copyOf(volatilities, rows);
+                tickerOffsets = Arrays.copyOf(tickerOffsets, rows + 1);
+                nameOffsets = Arrays.copyOf(nameOffsets, rows + 1);
+            }
+        }
+
+        private int appendTicker(ByteBuffer source, int start, int length) {
+            int offset = tickerOffsets[size];
+            tickerBytes = ensureByteCapacity(tickerBytes, offset + length);
+            source.get(start, tickerBytes, offset, length);
+            return offset + length;
+        }
+
+        private int appendName(ByteBuffer source, int start, int length) {
+            int offset = nameOffsets[size];
+            nameBytes = ensureByteCapacity(nameBytes, offset + length);
+            source.get(start, nameBytes, offset, length);
+            return offset + length;
+        }
+
+        private static byte[] ensureByteCapacity(byte[] bytes, int required) {
+            return required <= bytes.length ? bytes : Arrays.copyOf(bytes, Math.max(bytes.length * 2, required));
+        }
+    }
+}
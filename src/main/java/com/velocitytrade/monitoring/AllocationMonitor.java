@@ -0,0 +1,237 @@
+package com.velocitytrade.monitoring;
+
+import com.velocitytrade.config.ConfigLoader.AllocationConfig;
+import io.prometheus.client.Gauge;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-thread allocated bytes of the pipeline threads, and GC pauses attributed to pipeline stages.
+ * <p>
+ * Each {@link #sample} reads {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} for every
+ * tracked thread and the pause collectors' counts. A GC pause is charged to every stage whose threads
+ * allocated during the interval it fell in, so a garbage-free stage stays at zero. Results are
+ * published as {@code velocitytrade_thread_allocated_bytes}, {@code velocitytrade_stage_allocation_bytes_per_second},
+ * {@code velocitytrade_stage_gc_pauses} and per-collector {@code velocitytrade_gc_pauses}.
+ */
+@Slf4j
+public class AllocationMonitor implements AutoCloseable {
+    private static final Gauge THREAD_ALLOCATED = Gauge.build()
+            .name("velocitytrade_thread_allocated_bytes")
+            .help("Bytes allocated by each pipeline thread since it started")
+            .labelNames("thread", "stage")
+            .register();
+    private static final Gauge STAGE_ALLOCATION_RATE = Gauge.build()
+            .name("velocitytrade_stage_allocation_bytes_per_second")
+            .help("Allocation rate of each pipeline stage's threads over the last sample interval")
+            .labelNames("stage")
+            .register();
+    private static final Gauge STAGE_GC_PAUSES = Gauge.build()
+            .name("velocitytrade_stage_gc_pauses")
+            .help("GC pauses during sample intervals in which the stage's threads allocated")
+            .labelNames("stage")
+            .register();
+    private static final Gauge GC_PAUSES = Gauge.build()
+            .name("velocitytrade_gc_pauses")
+            .help("GC pauses per collector since JVM start")
+            .labelNames("collector")
+            .register();
+    private static final Gauge GC_PAUSE_SECONDS = Gauge.build()
+            .name("velocitytrade_gc_pause_seconds")
+            .help("Accumulated GC pause time per collector since JVM start")
+            .labelNames("collector")
+            .register();
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long intervalNanos;
+    private final Map<String, StageState> stages = new ConcurrentHashMap<>();
+
+    private long lastGcPauses;
+    private long lastSampleNanos;
+    private Thread thread;
+    private volatile boolean running;
+
+    public AllocationMonitor(AllocationConfig config) {
+        this(TimeUnit.MILLISECONDS.toNanos(config.getSample_interval_ms()));
+    }
+
+    public AllocationMonitor(long intervalNanos) {
+        this.threadBean = allocationBean();
+        this.intervalNanos = intervalNanos;
+        this.lastGcPauses = gcPauseCount();
+        this.lastSampleNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts tracking {@code thread}'s allocation under {@code stage}; typically called by the thread itself
+     * on start, see {@code PipelineThreads#monitorAllocations}.
+     */
+    public void track(String stage, Thread thread) {
+        stages.computeIfAbsent(stage, s -> new StageState()).threads.add(new TrackedThread(thread));
+    }
+
+    public void start(ThreadFactory threadFactory) {
+        running = true;
+        thread = threadFactory.newThread(() -> {
+            while (running) {
+                LockSupport.parkNanos(intervalNanos);
+                sample(System.nanoTime());
+            }
+        });
+        thread.start();
+        log.info("Allocation monitor started: sampling every {} ms", TimeUnit.NANOSECONDS.toMillis(intervalNanos));
+    }
+
+    /**
+     * Reads every tracked thread and the GC counts, and updates the metrics.
+     *
+     * @return one entry per stage, in no particular order
+     */
+    public synchronized List<StageSample> sample(long now) {
+        long gcPauses = gcPauseCount();
+        long newPauses = gcPauses - lastGcPauses;
+        lastGcPauses = gcPauses;
+        double seconds = Math.max(1, now - lastSampleNanos) / 1e9;
+        lastSampleNanos = now;
+
+        List<StageSample> samples = new ArrayList<>(stages.size());
+        for (Map.Entry<String, StageState> entry : stages.entrySet()) {
+            String stage = entry.getKey();
+            StageState state = entry.getValue();
+
+            long total = 0;
+            for (TrackedThread tracked : state.threads) {
+                long allocated = threadBean.getThreadAllocatedBytes(tracked.id);
+                if (allocated >= 0) {
+                    tracked.allocatedBytes = allocated;   // -1 once the thread has exited; keep its last value
+                }
+                total += tracked.allocatedBytes;
+                THREAD_ALLOCATED.labels(tracked.name, stage).set(tracked.allocatedBytes);
+            }
+
+            long delta = total - state.allocatedBytes;
+            state.allocatedBytes = total;
+            if (delta > 0) {
+                state.gcPauses += newPauses;
+            }
+
+            double rate = delta / seconds;
+            STAGE_ALLOCATION_RATE.labels(stage).set(rate);
+            STAGE_GC_PAUSES.labels(stage).set(state.gcPauses);
+            samples.add(new StageSample(stage, total, rate, state.gcPauses));
+        }
+
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (isPauseCollector(collector)) {
+                GC_PAUSES.labels(collector.getName()).set(Math.max(0, collector.getCollectionCount()));
+                GC_PAUSE_SECONDS.labels(collector.getName()).set(Math.max(0, collector.getCollectionTime()) / 1000.0);
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Bytes allocated by the calling thread so far.
+     */
+    public static long currentThreadAllocatedBytes() {
+        return allocationBean().getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * GC pauses since JVM start over all pause collectors.
+     */
+    public static long gcPauseCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (isPauseCollector(collector)) {
+                count += Math.max(0, collector.getCollectionCount());
+            }
+        }
+        return count;
+    }
+
+    public static long gcPauseMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (isPauseCollector(collector)) {
+                millis += Math.max(0, collector.getCollectionTime());
+            }
+        }
+        return millis;
+    }
+
+    /**
+     * Stop-the-world collector beans of the HotSpot collectors. Concurrent beans ("G1 Concurrent GC",
+     * "ZGC Cycles", "Shenandoah Cycles", ...) count background work that does not stop pipeline threads.
+     */
+    static boolean isPauseCollector(String name) {
+        return name.endsWith(" Pauses")                                          // ZGC, Shenandoah
+                || name.equals("G1 Young Generation") || name.equals("G1 Old Generation")
+                || name.equals("Copy") || name.equals("MarkSweepCompact")           // Serial
+                || name.equals("PS Scavenge") || name.equals("PS MarkSweep");       // Parallel
+    }
+
+    private static boolean isPauseCollector(GarbageCollectorMXBean collector) {
+        return isPauseCollector(collector.getName());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean allocationBean)
+                || !allocationBean.isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException("Per-thread allocation accounting is not supported by this JVM");
+        }
+        if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return allocationBean;
+    }
+
+    /**
+     * @param allocatedBytes total over the stage's threads since they started
+     */
+    public record StageSample(String stage, long allocatedBytes, double bytesPerSecond, long gcPauses) {
+    }
+
+    private static final class StageState {
+        private final List<TrackedThread> threads = new CopyOnWriteArrayList<>();
+        private long allocatedBytes;
+        private long gcPauses;
+    }
+
+    private static final class TrackedThread {
+        private final long id;
+        private final String name;
+        private long allocatedBytes;
+
+        TrackedThread(Thread thread) {
+            this.id = thread.getId();
+            this.name = thread.getName();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.velocitytrade.monitoring;
+
+import com.velocitytrade.loadtest.TickTape;
+import com.velocitytrade.warmup.TickStage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures steady-state allocation of a {@link TickStage} on the calling thread: replays a pre-generated
+ * {@link TickTape} through the stage until warm, then counts the thread's allocated bytes and the GC
+ * pauses over the measured ticks. The tape is built up front, so only the stage's own allocation counts.
+ */
+@Slf4j
+public final class AllocationProbe {
+
+    private AllocationProbe() {
+    }
+
+    public static StageAllocation measure(String name, TickStage stage, TickTape tape, int warmupTicks,
+                                          int measureTicks) {
+        if (measureTicks < 1) {
+            throw new IllegalArgumentException("measureTicks must be positive: " + measureTicks);
+        }
+
+        replay(stage, tape, 0, warmupTicks);
+
+        long gcPauses = AllocationMonitor.gcPauseCount();
+        long gcMillis = AllocationMonitor.gcPauseMillis();
+        long before = AllocationMonitor.currentThreadAllocatedBytes();
+        replay(stage, tape, warmupTicks, measureTicks);
+        long allocated = AllocationMonitor.currentThreadAllocatedBytes() - before;
+
+        StageAllocation result = new StageAllocation(name, measureTicks, allocated,
+                AllocationMonitor.gcPauseCount() - gcPauses, AllocationMonitor.gcPauseMillis() - gcMillis);
+        log.info("Stage {}: {} bytes over {} ticks ({} bytes per million), {} GC pauses", name, allocated,
+                measureTicks, (long) result.bytesPerMillionTicks(), result.gcPauses());
+        return result;
+    }
+
+    private static void replay(TickStage stage, TickTape tape, long first, int ticks) {
+        int size = tape.size();
+        int i = (int) (first % size);
+        for (int n = 0; n < ticks; n++) {
+            stage.onTick(tape.symbolId(i), tape.mid(i), tape.bid(i), tape.ask(i), first + n);
+            if (++i == size) {
+                i = 0;
+            }
+        }
+    }
+}
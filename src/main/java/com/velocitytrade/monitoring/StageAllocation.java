@@ -0,0 +1,17 @@
+package com.velocitytrade.monitoring;
+
+/**
+ * Steady-state allocation of one stage as measured by {@link AllocationProbe}.
+ *
+ * @param gcPauses GC pauses that happened while the stage was measured
+ */
+public record StageAllocation(String stage, long ticks, long allocatedBytes, long gcPauses, long gcPauseMillis) {
+
+    public double bytesPerMillionTicks() {
+        return allocatedBytes * 1_000_000.0 / ticks;
+    }
+
+    public boolean isWithinBudget(long budgetBytesPerMillionTicks) {
+        return bytesPerMillionTicks() <= budgetBytesPerMillionTicks;
+    }
+}
@@ -0,0 +1,184 @@
+package com.velocitytrade.oms;
+
+import com.velocitytrade.config.ConfigLoader.OmsConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.velocitytrade.oms.OrderState.*;
+
+/**
+ * Applies execution events to orders in an {@link OrderStore}, enforcing the {@link OrderState} lifecycle.
+ * <p>
+ * Events take primitives and return whether they were applied; an event for an unknown order or one
+ * that is invalid in the order's current state (e.g. a fill on a cancelled order, an overfill) is
+ * counted and ignored rather than thrown, so a bad venue message cannot stall the pipeline.
+ * Not thread-safe.
+ */
+@Slf4j
+public class OrderManager {
+    private final OrderStore store;
+
+    private long ordersAccepted;
+    private long ordersRefused;
+    private long unknownOrderEvents;
+    private long invalidTransitions;
+
+    public OrderManager(OmsConfig config) {
+        this(new OrderStore(config.getMax_orders()));
+    }
+
+    public OrderManager(OrderStore store) {
+        this.store = store;
+    }
+
+    public OrderStore store() {
+        return store;
+    }
+
+    /**
+     * @return false if the order id is already known, the quantity is not positive or every slot holds an
+     *         open order
+     */
+    public boolean onNewOrder(long orderId, long sessionId, int symbolId, byte side, long price, int quantity,
+                              long timestamp) {
+        int slot = quantity > 0 && !store.isFull()
+                ? store.allocate(orderId, sessionId, symbolId, side, price, quantity, timestamp)
+                : OrderStore.NOT_FOUND;
+        if (slot == OrderStore.NOT_FOUND) {
+            ordersRefused++;
+            return false;
+        }
+        ordersAccepted++;
+        return true;
+    }
+
+    public boolean onAck(long orderId, long timestamp) {
+        int slot = lookup(orderId);
+        if (slot == OrderStore.NOT_FOUND || !expect(slot, store.state(slot) == PENDING_NEW)) {
+            return false;
+        }
+        store.setState(slot, ACKED, timestamp);
+        return true;
+    }
+
+    public boolean onReject(long orderId, byte reason, long timestamp) {
+        int slot = lookup(orderId);
+        if (slot == OrderStore.NOT_FOUND || !expect(slot, store.state(slot) == PENDING_NEW)) {
+            return false;
+        }
+        store.setRejectReason(slot, reason);
+        store.setState(slot, REJECTED, timestamp);
+        return true;
+    }
+
+    /**
+     * Fills may race a cancel request, so they are accepted while CANCEL_PENDING too.
+     */
+    public boolean onFill(long orderId, int quantity, long price, long timestamp) {
+        int slot = lookup(orderId);
+        if (slot == OrderStore.NOT_FOUND) {
+            return false;
+        }
+
+        OrderState state = store.state(slot);
+        boolean fillable = state == ACKED || state == PARTIALLY_FILLED || state == CANCEL_PENDING;
+        if (!expect(slot, fillable && quantity > 0 && quantity <= store.leavesQuantity(slot))) {
+            return false;
+        }
+
+        store.fill(slot, quantity, price, timestamp);
+        if (store.leavesQuantity(slot) == 0) {
+            store.setState(slot, FILLED, timestamp);
+        } else if (state != CANCEL_PENDING) {
+            store.setState(slot, PARTIALLY_FILLED, timestamp);
+        }
+        return true;
+    }
+
+    public boolean onCancelRequest(long orderId, long timestamp) {
+        int slot = lookup(orderId);
+        if (slot == OrderStore.NOT_FOUND) {
+            return false;
+        }
+
+        OrderState state = store.state(slot);
+        if (!expect(slot, state == PENDING_NEW || state == ACKED || state == PARTIALLY_FILLED)) {
+            return false;
+        }
+        store.setState(slot, CANCEL_PENDING, timestamp);
+        return true;
+    }
+
+    /**
+     * Accepts unsolicited cancels (e.g. venue-side expiry) as well as confirmations of a request.
+     */
+    public boolean onCancelled(long orderId, long timestamp) {
+        int slot = lookup(orderId);
+        if (slot == OrderStore.NOT_FOUND) {
+            return false;
+        }
+
+        OrderState state = store.state(slot);
+        if (!expect(slot, state == CANCEL_PENDING || state == ACKED || state == PARTIALLY_FILLED)) {
+            return false;
+        }
+        store.setState(slot, CANCELLED, timestamp);
+        return true;
+    }
+
+    /**
+     * The cancel was refused; the order returns to working.
+     */
+    public boolean onCancelReject(long orderId, long timestamp) {
+        int slot = lookup(orderId);
+        if (slot == OrderStore.NOT_FOUND || !expect(slot, store.state(slot) == CANCEL_PENDING)) {
+            return false;
+        }
+        store.setState(slot, store.filledQuantity(slot) > 0 ? PARTIALLY_FILLED : ACKED, timestamp);
+        return true;
+    }
+
+    /**
+     * @return the order's state, or null if it is unknown or has been evicted
+     */
+    public OrderState state(long orderId) {
+        int slot = store.slotOf(orderId);
+        return slot == OrderStore.NOT_FOUND ? null : store.state(slot);
+    }
+
+    public long getOrdersAccepted() {
+        return ordersAccepted;
+    }
+
+    /**
+     * New orders refused for a duplicate id or non-positive quantity.
+     */
+    public long getOrdersRefused() {
+        return ordersRefused;
+    }
+
+    public long getUnknownOrderEvents() {
+        return unknownOrderEvents;
+    }
+
+    public long getInvalidTransitions() {
+        return invalidTransitions;
+    }
+
+    private int lookup(long orderId) {
+        int slot = store.slotOf(orderId);
+        if (slot == OrderStore.NOT_FOUND) {
+            unknownOrderEvents++;
+        }
+        return slot;
+    }
+
+    private boolean expect(int slot, boolean valid) {
+        if (!valid) {
+            invalidTransitions++;
+            if (log.isDebugEnabled()) {
+                log.debug("Ignoring event for order {} in state {}", store.orderId(slot), store.state(slot));
+            }
+        }
+        return valid;
+    }
+}
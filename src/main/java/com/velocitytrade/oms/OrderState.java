@@ -0,0 +1,37 @@
+package com.velocitytrade.oms;
+
+/**
+ * Order lifecycle. Stored as its {@link #code()} byte so order slots stay primitive.
+ * <pre>
+ * PENDING_NEW -> ACKED | REJECTED | CANCEL_PENDING
+ * ACKED, PARTIALLY_FILLED -> PARTIALLY_FILLED | FILLED | CANCEL_PENDING | CANCELLED
+ * CANCEL_PENDING -> CANCELLED | PARTIALLY_FILLED | FILLED (fills racing the cancel) | back on cancel reject
+ * </pre>
+ */
+public enum OrderState {
+    PENDING_NEW,
+    ACKED,
+    PARTIALLY_FILLED,
+    FILLED,
+    CANCEL_PENDING,
+    CANCELLED,
+    REJECTED;
+
+    private static final OrderState[] BY_CODE = values();
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static OrderState fromCode(byte code) {
+        return BY_CODE[code];
+    }
+
+    public boolean isTerminal() {
+        return this == FILLED || this == CANCELLED || this == REJECTED;
+    }
+
+    static boolean isTerminal(byte code) {
+        return code == FILLED.code() || code == CANCELLED.code() || code == REJECTED.code();
+    }
+}
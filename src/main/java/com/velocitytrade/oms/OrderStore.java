@@ -0,0 +1,331 @@
+package com.velocitytrade.oms;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Fixed-capacity columnar order storage with an open-addressing orderId -> slot index.
+ * <p>
+ * All order fields live in slot-indexed primitive arrays allocated once, so order churn creates no garbage.
+ * Terminal orders stay queryable as history; when every slot has been used, the oldest terminal order
+ * is evicted and its slot reused. Only when all slots hold open orders does {@link #allocate} fail.
+ * Open orders are also kept in a dense slot list, so visiting them costs O(open orders), not O(capacity).
+ * <p>
+ * Slot indexes are only stable while the order is in the store; keep order ids, not slots, across events.
+ * Not thread-safe; owned by a single pipeline thread.
+ */
+public final class OrderStore {
+    public static final int NOT_FOUND = -1;
+
+    private final int capacity;
+    private final int mask;
+    private final int[] index;          // slot + 1, 0 = empty
+
+    private final long[] orderIds;
+    private final long[] sessionIds;
+    private final int[] symbolIds;
+    private final byte[] sides;
+    private final byte[] states;
+    private final long[] prices;
+    private final int[] quantities;
+    private final int[] filledQuantities;
+    private final long[] fillNotionals;
+    private final long[] createdTimes;
+    private final long[] updatedTimes;
+    private final byte[] rejectReasons;
+
+    private final int[] terminalQueue;  // FIFO of terminal slots, oldest first
+    private final int[] openSlots;      // dense, unordered
+    private final int[] openPositions;  // slot -> index in openSlots
+    private int openCount;
+    private long terminalHead;
+    private long terminalTail;
+
+    private int nextUnusedSlot;
+    private int size;
+    private long evicted;
+
+    public OrderStore(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (capacity > 1 << 29) {
+            throw new IllegalArgumentException("capacity too large: " + capacity);
+        }
+
+        this.capacity = capacity;
+        int buckets = Integer.highestOneBit(Math.max(4, capacity * 2 - 1)) << 1;
+        this.mask = buckets - 1;
+        this.index = new int[buckets];
+
+        this.orderIds = new long[capacity];
+        this.sessionIds = new long[capacity];
+        this.symbolIds = new int[capacity];
+        this.sides = new byte[capacity];
+        this.states = new byte[capacity];
+        this.prices = new long[capacity];
+        this.quantities = new int[capacity];
+        this.filledQuantities = new int[capacity];
+        this.fillNotionals = new long[capacity];
+        this.createdTimes = new long[capacity];
+        this.updatedTimes = new long[capacity];
+        this.rejectReasons = new byte[capacity];
+        this.terminalQueue = new int[capacity];
+        this.openSlots = new int[capacity];
+        this.openPositions = new int[capacity];
+    }
+
+    /**
+     * Creates a PENDING_NEW order.
+     *
+     * @return the order's slot, or {@link #NOT_FOUND} if the id is already in the store
+     * @throws IllegalStateException if every slot holds an open order
+     */
+    public int allocate(long orderId, long sessionId, int symbolId, byte side, long price, int quantity,
+                        long timestamp) {
+        long hash = mix(orderId);
+        int bucket = (int) hash & mask;
+        while (index[bucket] != 0) {
+            if (orderIds[index[bucket] - 1] == orderId) {
+                return NOT_FOUND;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+
+        int slot;
+        if (nextUnusedSlot < capacity) {
+            slot = nextUnusedSlot++;
+        } else {
+            slot = evictOldestTerminal();
+            // Eviction may have shifted entries into the probe chain; find the free bucket again
+            bucket = (int) hash & mask;
+            while (index[bucket] != 0) {
+                bucket = (bucket + 1) & mask;
+            }
+        }
+
+        index[bucket] = slot + 1;
+        orderIds[slot] = orderId;
+        sessionIds[slot] = sessionId;
+        symbolIds[slot] = symbolId;
+        sides[slot] = side;
+        states[slot] = OrderState.PENDING_NEW.code();
+        prices[slot] = price;
+        quantities[slot] = quantity;
+        filledQuantities[slot] = 0;
+        fillNotionals[slot] = 0;
+        createdTimes[slot] = timestamp;
+        updatedTimes[slot] = timestamp;
+        rejectReasons[slot] = 0;
+        size++;
+
+        openPositions[slot] = openCount;
+        openSlots[openCount++] = slot;
+
+        return slot;
+    }
+
+    /**
+     * Re-creates an order with its full execution state, e.g. from a snapshot.
+     *
+     * @return the order's slot, or {@link #NOT_FOUND} if the id is already in the store
+     */
+    public int restore(long orderId, long sessionId, int symbolId, byte side, OrderState state, long price,
+                       int quantity, int filledQuantity, long fillNotional, long createdTime, long updatedTime) {
+        int slot = allocate(orderId, sessionId, symbolId, side, price, quantity, createdTime);
+        if (slot != NOT_FOUND) {
+            filledQuantities[slot] = filledQuantity;
+            fillNotionals[slot] = fillNotional;
+            setState(slot, state, updatedTime);
+        }
+        return slot;
+    }
+
+    public int slotOf(long orderId) {
+        for (int bucket = (int) mix(orderId) & mask; index[bucket] != 0; bucket = (bucket + 1) & mask) {
+            int slot = index[bucket] - 1;
+            if (orderIds[slot] == orderId) {
+                return slot;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Records a fill against the slot; callers validate state and quantity.
+     */
+    void fill(int slot, int quantity, long price, long timestamp) {
+        filledQuantities[slot] += quantity;
+        fillNotionals[slot] += price * quantity;
+        updatedTimes[slot] = timestamp;
+    }
+
+    void setState(int slot, OrderState state, long timestamp) {
+        boolean wasTerminal = OrderState.isTerminal(states[slot]);
+        states[slot] = state.code();
+        updatedTimes[slot] = timestamp;
+
+        if (!wasTerminal && state.isTerminal()) {
+            terminalQueue[(int) (terminalTail++ % capacity)] = slot;
+            removeOpen(slot);
+        }
+    }
+
+    void setRejectReason(int slot, byte reason) {
+        rejectReasons[slot] = reason;
+    }
+
+    /**
+     * Visits the slot of every non-terminal order, in no particular order. The consumer must not change
+     * order states.
+     */
+    public void forEachOpen(IntConsumer slotConsumer) {
+        for (int i = 0; i < openCount; i++) {
+            slotConsumer.accept(openSlots[i]);
+        }
+    }
+
+    /**
+     * The slot of the {@code i}th open order, {@code 0 <= i < openOrders()}; indexes shift as orders close.
+     */
+    public int openSlot(int i) {
+        return openSlots[i];
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Orders currently in the store, open and terminal.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int openOrders() {
+        return openCount;
+    }
+
+    /**
+     * True when every slot holds an open order, so {@link #allocate} has nothing to evict.
+     */
+    public boolean isFull() {
+        return openCount == capacity;
+    }
+
+    /**
+     * Terminal orders dropped to make room for new ones.
+     */
+    public long evicted() {
+        return evicted;
+    }
+
+    public long orderId(int slot) {
+        return orderIds[slot];
+    }
+
+    public long sessionId(int slot) {
+        return sessionIds[slot];
+    }
+
+    public int symbolId(int slot) {
+        return symbolIds[slot];
+    }
+
+    public byte side(int slot) {
+        return sides[slot];
+    }
+
+    public OrderState state(int slot) {
+        return OrderState.fromCode(states[slot]);
+    }
+
+    public long price(int slot) {
+        return prices[slot];
+    }
+
+    public int quantity(int slot) {
+        return quantities[slot];
+    }
+
+    public int filledQuantity(int slot) {
+        return filledQuantities[slot];
+    }
+
+    public int leavesQuantity(int slot) {
+        return quantities[slot] - filledQuantities[slot];
+    }
+
+    /**
+     * Sum of fill price x quantity, in price units.
+     */
+    public long fillNotional(int slot) {
+        return fillNotionals[slot];
+    }
+
+    /**
+     * @return average fill price in price units, 0 if nothing filled
+     */
+    public double averageFillPrice(int slot) {
+        return filledQuantities[slot] == 0 ? 0 : (double) fillNotionals[slot] / filledQuantities[slot];
+    }
+
+    public long createdTime(int slot) {
+        return createdTimes[slot];
+    }
+
+    public long updatedTime(int slot) {
+        return updatedTimes[slot];
+    }
+
+    public byte rejectReason(int slot) {
+        return rejectReasons[slot];
+    }
+
+    private void removeOpen(int slot) {
+        int position = openPositions[slot];
+        int last = openSlots[--openCount];
+        openSlots[position] = last;
+        openPositions[last] = position;
+    }
+
+    private int evictOldestTerminal() {
+        if (terminalHead == terminalTail) {
+            throw new IllegalStateException("Order store full: " + capacity + " open orders");
+        }
+
+        int slot = terminalQueue[(int) (terminalHead++ % capacity)];
+        removeFromIndex(slot);
+        size--;
+        evicted++;
+        return slot;
+    }
+
+    /**
+     * Backward-shift deletion keeps probe chains intact without tombstones.
+     */
+    private void removeFromIndex(int slot) {
+        int bucket = (int) mix(orderIds[slot]) & mask;
+        while (index[bucket] != slot + 1) {
+            bucket = (bucket + 1) & mask;
+        }
+
+        int hole = bucket;
+        for (int next = (hole + 1) & mask; index[next] != 0; next = (next + 1) & mask) {
+            int home = (int) mix(orderIds[index[next] - 1]) & mask;
+            // Move the entry back if its home bucket is not within (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                index[hole] = index[next];
+                hole = next;
+            }
+        }
+        index[hole] = 0;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
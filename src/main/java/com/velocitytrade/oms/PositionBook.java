@@ -0,0 +1,79 @@
+package com.velocitytrade.oms;
+
+import com.velocitytrade.gateway.OrderEntryProtocol;
+
+/**
+ * Net position, average cost and realized P&L per symbol id, from fills.
+ * <p>
+ * Prices are fixed-point units of the symbol's {@code PriceScale}; P&L is in units x shares, so divide
+ * by the scale for currency. Closing trades realize against the average cost; a fill through flat
+ * opens the remainder at the fill price. Not thread-safe.
+ */
+public final class PositionBook {
+    private final long[] positions;
+    private final double[] averagePrices;
+    private final double[] realizedPnl;
+
+    public PositionBook(int idLimit) {
+        this.positions = new long[idLimit];
+        this.averagePrices = new double[idLimit];
+        this.realizedPnl = new double[idLimit];
+    }
+
+    public void onFill(int symbolId, byte side, int quantity, long price) {
+        long signed = side == OrderEntryProtocol.SIDE_BUY ? quantity : -quantity;
+        long position = positions[symbolId];
+
+        if (position == 0 || (position > 0) == (signed > 0)) {
+            averagePrices[symbolId] = (averagePrices[symbolId] * Math.abs(position) + (double) price * quantity)
+                    / (Math.abs(position) + quantity);
+        } else {
+            long closed = Math.min(quantity, Math.abs(position));
+            realizedPnl[symbolId] += closed * (price - averagePrices[symbolId]) * Long.signum(position);
+
+            if (quantity > Math.abs(position)) {
+                averagePrices[symbolId] = price;
+            } else if (quantity == Math.abs(position)) {
+                averagePrices[symbolId] = 0;
+            }
+        }
+        positions[symbolId] = position + signed;
+    }
+
+    /**
+     * Overwrites one symbol's state, e.g. when restoring a snapshot.
+     */
+    public void set(int symbolId, long position, double averagePrice, double realized) {
+        positions[symbolId] = position;
+        averagePrices[symbolId] = averagePrice;
+        realizedPnl[symbolId] = realized;
+    }
+
+    public int idLimit() {
+        return positions.length;
+    }
+
+    public long position(int symbolId) {
+        return positions[symbolId];
+    }
+
+    public double averagePrice(int symbolId) {
+        return averagePrices[symbolId];
+    }
+
+    public double realizedPnl(int symbolId) {
+        return realizedPnl[symbolId];
+    }
+
+    public double unrealizedPnl(int symbolId, long markPrice) {
+        return positions[symbolId] == 0 ? 0 : (markPrice - averagePrices[symbolId]) * positions[symbolId];
+    }
+
+    public double totalRealizedPnl() {
+        double total = 0;
+        for (double pnl : realizedPnl) {
+            total += pnl;
+        }
+        return total;
+    }
+}
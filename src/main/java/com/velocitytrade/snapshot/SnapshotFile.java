@@ -0,0 +1,212 @@
+package com.velocitytrade.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped file holding two snapshot regions, written alternately.
+ * <pre>
+ * header (64 bytes) = magic:i32 | version:i32 | regionCapacity:i32
+ * region[2]         = generation:i64 | length:i32 | pad:i32 | crc32:i64 | createdMillis:i64 | body[regionCapacity]
+ * </pre>
+ * A write goes to the region not holding the latest snapshot: its generation is cleared first and set
+ * last, after the body and checksum are forced, so a crash mid-write leaves the previous snapshot intact.
+ * Readers take the valid region with the highest generation.
+ */
+@Slf4j
+public class SnapshotFile implements AutoCloseable {
+    private static final int MAGIC = 0x5654534E;  // "VTSN"
+    private static final int VERSION = 2;
+    private static final int FILE_HEADER_BYTES = 64;
+    private static final int REGION_HEADER_BYTES = 32;
+
+    private static final int GENERATION_OFFSET = 0;
+    private static final int LENGTH_OFFSET = 8;
+    private static final int CRC_OFFSET = 16;
+    private static final int CREATED_OFFSET = 24;
+
+    private final Path path;
+    private final int regionCapacity;
+    private final MappedByteBuffer buffer;
+    private final CRC32 crc = new CRC32();
+
+    private long generation;
+    private int latestRegion = -1;
+
+    /**
+     * Opens or creates the file for writing. An existing file with the same region capacity is reused,
+     * so its latest snapshot stays readable until the next write completes.
+     */
+    public SnapshotFile(Path path, int regionCapacity) throws IOException {
+        if (regionCapacity <= 0 || fileSize(regionCapacity) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid snapshot region capacity: " + regionCapacity);
+        }
+
+        this.path = path;
+        this.regionCapacity = regionCapacity;
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        long size = fileSize(regionCapacity);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean reuse = channel.size() == size;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            this.buffer.order(ByteOrder.nativeOrder());
+
+            if (reuse && buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION
+                    && buffer.getInt(8) == regionCapacity) {
+                for (int region = 0; region < 2; region++) {
+                    if (isValid(buffer, regionOffset(region), regionCapacity, crc)
+                            && buffer.getLong(regionOffset(region) + GENERATION_OFFSET) > generation) {
+                        generation = buffer.getLong(regionOffset(region) + GENERATION_OFFSET);
+                        latestRegion = region;
+                    }
+                }
+            } else {
+                buffer.putLong(regionOffset(0) + GENERATION_OFFSET, 0)
+                        .putLong(regionOffset(1) + GENERATION_OFFSET, 0)
+                        .putInt(4, VERSION)
+                        .putInt(8, regionCapacity)
+                        .putInt(0, MAGIC);
+                buffer.force();
+            }
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getRegionCapacity() {
+        return regionCapacity;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Writes {@code body} from its position to its limit as the next generation.
+     *
+     * @return the generation written
+     */
+    public long write(ByteBuffer body) {
+        int length = body.remaining();
+        if (length > regionCapacity) {
+            throw new IllegalArgumentException("Snapshot of " + length + " bytes exceeds region capacity " + regionCapacity);
+        }
+
+        int region = latestRegion == 0 ? 1 : 0;
+        int offset = regionOffset(region);
+        int bodyOffset = offset + REGION_HEADER_BYTES;
+
+        buffer.putLong(offset + GENERATION_OFFSET, 0);
+        buffer.put(bodyOffset, body, body.position(), length);
+
+        crc.reset();
+        crc.update(buffer.slice(bodyOffset, length));
+        buffer.putInt(offset + LENGTH_OFFSET, length)
+                .putLong(offset + CRC_OFFSET, crc.getValue())
+                .putLong(offset + CREATED_OFFSET, System.currentTimeMillis());
+        buffer.force(offset, REGION_HEADER_BYTES + length);
+
+        buffer.putLong(offset + GENERATION_OFFSET, ++generation);
+        buffer.force(offset, REGION_HEADER_BYTES);
+
+        latestRegion = region;
+        return generation;
+    }
+
+    @Override
+    public void close() {
+        buffer.force();
+    }
+
+    /**
+     * @return the newest valid snapshot, or null if the file is missing, unrecognised or has none
+     */
+    public static Snapshot readLatest(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < FILE_HEADER_BYTES) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.nativeOrder());
+
+            int capacity = buffer.getInt(8);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || capacity <= 0 || channel.size() != fileSize(capacity)) {
+                log.warn("Ignoring unrecognised snapshot file: {}", path);
+                return null;
+            }
+
+            CRC32 crc = new CRC32();
+            Snapshot latest = null;
+            for (int region = 0; region < 2; region++) {
+                int offset = regionOffset(region, capacity);
+                long regionGeneration = buffer.getLong(offset + GENERATION_OFFSET);
+
+                if (regionGeneration <= 0 || (latest != null && regionGeneration < latest.generation())) {
+                    continue;
+                }
+                if (!isValid(buffer, offset, capacity, crc)) {
+                    log.warn("Snapshot region {} of {} failed its checksum, ignoring", region, path);
+                    continue;
+                }
+
+                int length = buffer.getInt(offset + LENGTH_OFFSET);
+                latest = new Snapshot(regionGeneration, buffer.getLong(offset + CREATED_OFFSET),
+                        buffer.slice(offset + REGION_HEADER_BYTES, length).order(ByteOrder.nativeOrder()));
+            }
+            return latest;
+        }
+    }
+
+    private int regionOffset(int region) {
+        return regionOffset(region, regionCapacity);
+    }
+
+    private static int regionOffset(int region, int capacity) {
+        return FILE_HEADER_BYTES + region * (REGION_HEADER_BYTES + capacity);
+    }
+
+    private static long fileSize(int regionCapacity) {
+        return FILE_HEADER_BYTES + 2L * (REGION_HEADER_BYTES + regionCapacity);
+    }
+
+    private static boolean isValid(ByteBuffer buffer, int offset, int capacity, CRC32 crc) {
+        if (buffer.getLong(offset + GENERATION_OFFSET) <= 0) {
+            return false;
+        }
+        int length = buffer.getInt(offset + LENGTH_OFFSET);
+        if (length < 0 || length > capacity) {
+            return false;
+        }
+
+        crc.reset();
+        crc.update(buffer.slice(offset + REGION_HEADER_BYTES, length));
+        return crc.getValue() == buffer.getLong(offset + CRC_OFFSET);
+    }
+
+    /**
+     * @param body read-only view of the snapshot body in native byte order
+     */
+    public record Snapshot(long generation, long createdMillis, ByteBuffer body) {
+    }
+}
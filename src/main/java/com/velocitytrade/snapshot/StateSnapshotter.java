@@ -0,0 +1,297 @@
+package com.velocitytrade.snapshot;
+
+import com.velocitytrade.config.ConfigLoader.SnapshotConfig;
+import com.velocitytrade.marketdata.FeedSequences;
+import com.velocitytrade.marketdata.LastQuotes;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.oms.OrderState;
+import com.velocitytrade.oms.OrderStore;
+import com.velocitytrade.oms.PositionBook;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Periodic warm-restart snapshots of last quotes, positions and P&L, open orders and feed sequences.
+ * <p>
+ * The tick thread calls {@link #captureIfDue(long)}, which copies state into a preallocated staging
+ * buffer with plain primitive writes and hands it to the snapshot thread. Checksumming and the
+ * mapped-file write happen on that thread; if it is still busy with the previous snapshot the capture
+ * is skipped, so the tick thread never waits. The buffer is sized for a bound on open orders rather
+ * than the order store's capacity; a capture while more orders are open is skipped. {@link #restore()} reads the latest snapshot straight
+ * into the same primitive structures at startup, provided it was taken over the same symbol universe
+ * ({@link SymbolRegistry#fingerprint()}).
+ * <pre>
+ * body    = symbolCount:i32 | feedCount:i32 | openOrders:i32 | pad:i32 | universe:i64
+ *           | symbol[symbolCount] | feed[feedCount]:i64 | order[openOrders]
+ * symbol  = mid:i64 | bid:i64 | ask:i64 | quoteTimestamp:i64 | position:i64 | averagePrice:f64 | realizedPnl:f64
+ * order   = orderId:i64 | sessionId:i64 | symbolId:i32 | side:u8 | state:u8 | pad:u16 | price:i64 | quantity:i32
+ *           | filled:i32 | fillNotional:i64 | created:i64 | updated:i64
+ * </pre>
+ */
+@Slf4j
+public class StateSnapshotter implements AutoCloseable {
+    private static final int BODY_HEADER_BYTES = 24;
+    private static final int SYMBOL_BYTES = 56;
+    private static final int FEED_BYTES = 8;
+    private static final int ORDER_BYTES = 64;
+
+    private final Path path;
+    private final long intervalNanos;
+    private final LastQuotes quotes;
+    private final PositionBook positions;
+    private final OrderStore orders;
+    private final FeedSequences feeds;
+
+    private final int symbolCount;
+    private final int maxOpenOrders;
+    private final long universe;
+    private final ByteBuffer staging;
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private SnapshotFile file;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private long lastCaptureNanos;
+    private long capturesSkipped;
+    private volatile long snapshotsWritten;
+    private volatile long lastWriteNanos;
+
+    public StateSnapshotter(SnapshotConfig config, SymbolRegistry registry, LastQuotes quotes,
+                            PositionBook positions, OrderStore orders, FeedSequences feeds) {
+        this(Path.of(config.getPath()), TimeUnit.MILLISECONDS.toNanos(config.getInterval_ms()),
+                config.getMax_open_orders(), registry, quotes, positions, orders, feeds);
+    }
+
+    /**
+     * @param maxOpenOrders open orders the staging buffer holds; capped at the order store's capacity
+     */
+    public StateSnapshotter(Path path, long intervalNanos, int maxOpenOrders, SymbolRegistry registry,
+                            LastQuotes quotes, PositionBook positions, OrderStore orders, FeedSequences feeds) {
+        if (quotes.idLimit() != positions.idLimit() || quotes.idLimit() != registry.idLimit()) {
+            throw new IllegalArgumentException("Registry, quote and position books cover different symbol ids: "
+                    + registry.idLimit() + ", " + quotes.idLimit() + " and " + positions.idLimit());
+        }
+
+        this.path = path;
+        this.intervalNanos = intervalNanos;
+        this.quotes = quotes;
+        this.positions = positions;
+        this.orders = orders;
+        this.feeds = feeds;
+        this.symbolCount = quotes.idLimit();
+        this.maxOpenOrders = Math.min(maxOpenOrders, orders.capacity());
+        this.universe = registry.fingerprint();
+
+        long capacity = BODY_HEADER_BYTES + (long) symbolCount * SYMBOL_BYTES
+                + (long) feeds.size() * FEED_BYTES + (long) this.maxOpenOrders * ORDER_BYTES;
+        if (capacity > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Snapshot of " + symbolCount + " symbols and "
+                    + this.maxOpenOrders + " orders exceeds 1 GB");
+        }
+        this.staging = ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Loads the latest valid snapshot into the state structures. Call before {@link #start}.
+     *
+     * @return false if there was no usable snapshot
+     */
+    public boolean restore() throws IOException {
+        long start = System.nanoTime();
+        SnapshotFile.Snapshot snapshot = SnapshotFile.readLatest(path);
+        if (snapshot == null) {
+            log.info("No snapshot to restore at {}", path);
+            return false;
+        }
+
+        ByteBuffer body = snapshot.body();
+        int savedSymbols = body.getInt();
+        int savedFeeds = body.getInt();
+        int openOrders = body.getInt();
+        body.getInt();
+        long savedUniverse = body.getLong();
+
+        if (savedSymbols != symbolCount) {
+            log.warn("Snapshot {} covers {} symbol ids but {} are loaded; not restoring",
+                    path, savedSymbols, symbolCount);
+            return false;
+        }
+        if (savedUniverse != universe) {
+            log.warn("Snapshot {} was taken over a different symbol universe (fingerprint {} vs {}); not restoring",
+                    path, Long.toHexString(savedUniverse), Long.toHexString(universe));
+            return false;
+        }
+
+        for (int id = 0; id < savedSymbols; id++) {
+            quotes.update(id, body.getLong(), body.getLong(), body.getLong(), body.getLong());
+            positions.set(id, body.getLong(), body.getDouble(), body.getDouble());
+        }
+
+        for (int feed = 0; feed < savedFeeds; feed++) {
+            long sequence = body.getLong();
+            if (feed < feeds.size()) {
+                feeds.set(feed, sequence);
+            }
+        }
+
+        int restored = 0;
+        for (int i = 0; i < openOrders; i++) {
+            long orderId = body.getLong();
+            long sessionId = body.getLong();
+            int symbolId = body.getInt();
+            byte side = body.get();
+            OrderState state = OrderState.fromCode(body.get());
+            body.getShort();
+            long price = body.getLong();
+            int quantity = body.getInt();
+            int filled = body.getInt();
+            long fillNotional = body.getLong();
+            long created = body.getLong();
+            long updated = body.getLong();
+
+            if (orders.restore(orderId, sessionId, symbolId, side, state, price, quantity, filled,
+                    fillNotional, created, updated) != OrderStore.NOT_FOUND) {
+                restored++;
+            }
+        }
+
+        log.info("Restored snapshot generation {} from {} ({} symbols, {} open orders) in {} us",
+                snapshot.generation(), path, savedSymbols, restored,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        return true;
+    }
+
+    public void start(ThreadFactory threadFactory) throws IOException {
+        file = new SnapshotFile(path, staging.capacity());
+        running = true;
+        writerThread = threadFactory.newThread(this::runWriter);
+        writerThread.start();
+        log.info("Snapshotting state to {} every {} ms", path, TimeUnit.NANOSECONDS.toMillis(intervalNanos));
+    }
+
+    /**
+     * Tick-thread entry point: captures if the interval has elapsed since the last capture.
+     */
+    public boolean captureIfDue(long nowNanos) {
+        if (nowNanos - lastCaptureNanos < intervalNanos) {
+            return false;
+        }
+        return capture(nowNanos);
+    }
+
+    /**
+     * Captures now unless the previous snapshot is still being written or more than the bound of
+     * orders are open.
+     */
+    public boolean capture(long nowNanos) {
+        lastCaptureNanos = nowNanos;
+        if (pending.get()) {
+            capturesSkipped++;
+            return false;
+        }
+        if (orders.openOrders() > maxOpenOrders) {
+            capturesSkipped++;
+            log.warn("Skipping snapshot: {} open orders exceed the bound of {}", orders.openOrders(), maxOpenOrders);
+            return false;
+        }
+
+        encode();
+        pending.set(true);
+        LockSupport.unpark(writerThread);
+        return true;
+    }
+
+    public long getCapturesSkipped() {
+        return capturesSkipped;
+    }
+
+    public long getSnapshotsWritten() {
+        return snapshotsWritten;
+    }
+
+    public long getLastWriteNanos() {
+        return lastWriteNanos;
+    }
+
+    /**
+     * Stops the snapshot thread after it has written any pending capture.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            file.close();
+        }
+    }
+
+    private void encode() {
+        ByteBuffer out = staging.clear();
+        out.putInt(symbolCount).putInt(feeds.size()).putInt(orders.openOrders()).putInt(0).putLong(universe);
+
+        for (int id = 0; id < symbolCount; id++) {
+            out.putLong(quotes.mid(id))
+                    .putLong(quotes.bid(id))
+                    .putLong(quotes.ask(id))
+                    .putLong(quotes.timestamp(id))
+                    .putLong(positions.position(id))
+                    .putDouble(positions.averagePrice(id))
+                    .putDouble(positions.realizedPnl(id));
+        }
+
+        for (int feed = 0; feed < feeds.size(); feed++) {
+            out.putLong(feeds.get(feed));
+        }
+
+        for (int i = 0, open = orders.openOrders(); i < open; i++) {
+            int slot = orders.openSlot(i);
+            out.putLong(orders.orderId(slot))
+                    .putLong(orders.sessionId(slot))
+                    .putInt(orders.symbolId(slot))
+                    .put(orders.side(slot))
+                    .put(orders.state(slot).code())
+                    .putShort((short) 0)
+                    .putLong(orders.price(slot))
+                    .putInt(orders.quantity(slot))
+                    .putInt(orders.filledQuantity(slot))
+                    .putLong(orders.fillNotional(slot))
+                    .putLong(orders.createdTime(slot))
+                    .putLong(orders.updatedTime(slot));
+        }
+
+        out.flip();
+    }
+
+    private void runWriter() {
+        while (running || pending.get()) {
+            if (!pending.get()) {
+                LockSupport.parkNanos(this, intervalNanos);
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                file.write(staging.duplicate());
+                snapshotsWritten++;
+            } catch (RuntimeException e) {
+                log.error("Failed to write snapshot to {}", path, e);
+            }
+            lastWriteNanos = System.nanoTime() - start;
+            pending.set(false);
+        }
+    }
+}
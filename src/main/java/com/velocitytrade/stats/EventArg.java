@@ -0,0 +1,11 @@
+package com.velocitytrade.stats;
+
+/**
+ * How a {@link LogEventRing} argument slot is rendered by the reporter.
+ */
+public enum EventArg {
+    /** Signed decimal. */
+    LONG,
+    /** {@code Double.doubleToRawLongBits} of the value, rendered with three decimals. */
+    DOUBLE
+}
@@ -0,0 +1,125 @@
+package com.velocitytrade.stats;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Single-producer, single-consumer ring of fixed-size binary log events.
+ * <p>
+ * An event is a template id from {@link StatsReporter#defineEvent} and up to {@link #MAX_ARGS} long
+ * arguments, written into a preallocated {@code long[]} and published with a release store; formatting
+ * happens later on the reporter thread. A full ring drops the event and counts it rather than
+ * blocking the producer.
+ */
+public final class LogEventRing {
+    public static final int MAX_ARGS = 4;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int SLOT_LONGS = 1 + MAX_ARGS;   // template << 32 | argCount, args
+    // producer and consumer positions on separate cache lines
+    private static final int PUBLISHED = 8;
+    private static final int CONSUMED = 24;
+    private static final int DROPPED = 40;
+
+    private final String source;
+    private final long[] slots;
+    private final int mask;
+    private final long[] positions = new long[56];
+
+    private long cachedConsumed;   // producer's view of CONSUMED
+
+    LogEventRing(String source, int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Event ring capacity must be a power of two: " + capacity);
+        }
+
+        this.source = source;
+        this.slots = new long[capacity * SLOT_LONGS];
+        this.mask = capacity - 1;
+    }
+
+    public boolean write(int template) {
+        return write(template, 0, 0, 0, 0, 0);
+    }
+
+    public boolean write(int template, long arg0) {
+        return write(template, 1, arg0, 0, 0, 0);
+    }
+
+    public boolean write(int template, long arg0, long arg1) {
+        return write(template, 2, arg0, arg1, 0, 0);
+    }
+
+    public boolean write(int template, long arg0, long arg1, long arg2) {
+        return write(template, 3, arg0, arg1, arg2, 0);
+    }
+
+    public boolean write(int template, long arg0, long arg1, long arg2, long arg3) {
+        return write(template, 4, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * @return false if the ring was full and the event was dropped
+     */
+    private boolean write(int template, int argCount, long arg0, long arg1, long arg2, long arg3) {
+        long sequence = positions[PUBLISHED];
+        if (sequence - cachedConsumed > mask) {
+            cachedConsumed = (long) LONGS.getAcquire(positions, CONSUMED);
+            if (sequence - cachedConsumed > mask) {
+                LONGS.setOpaque(positions, DROPPED, positions[DROPPED] + 1);
+                return false;
+            }
+        }
+
+        int slot = (int) (sequence & mask) * SLOT_LONGS;
+        slots[slot] = (long) template << 32 | argCount;
+        slots[slot + 1] = arg0;
+        slots[slot + 2] = arg1;
+        slots[slot + 3] = arg2;
+        slots[slot + 4] = arg3;
+        LONGS.setRelease(positions, PUBLISHED, sequence + 1);
+        return true;
+    }
+
+    /**
+     * Consumer side: delivers up to {@code limit} published events in order.
+     *
+     * @return events delivered
+     */
+    int drain(EventHandler handler, int limit) {
+        long consumed = positions[CONSUMED];
+        long published = (long) LONGS.getAcquire(positions, PUBLISHED);
+        int delivered = 0;
+
+        while (consumed < published && delivered < limit) {
+            int slot = (int) (consumed & mask) * SLOT_LONGS;
+            long header = slots[slot];
+            handler.onEvent(this, (int) (header >>> 32), (int) header, slots, slot + 1);
+            consumed++;
+            delivered++;
+        }
+        LONGS.setRelease(positions, CONSUMED, consumed);
+        return delivered;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long published() {
+        return (long) LONGS.getAcquire(positions, PUBLISHED);
+    }
+
+    public long dropped() {
+        return (long) LONGS.getOpaque(positions, DROPPED);
+    }
+
+    @FunctionalInterface
+    interface EventHandler {
+        void onEvent(LogEventRing ring, int template, int argCount, long[] args, int offset);
+    }
+}
@@ -0,0 +1,81 @@
+package com.velocitytrade.stats;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Primitive counters owned by one hot thread and read by the {@link StatsReporter}.
+ * <p>
+ * Counter {@link #MESSAGES} is always present; named counters follow from index 1 in the order given.
+ * Updates are a plain read and an opaque write of one array element, with no allocation, locking or
+ * fencing; the reporter reads with opaque loads. The array is padded so separate threads' counter
+ * blocks never share a cache line. Single writer only.
+ */
+public final class StatsCounters {
+    public static final int MESSAGES = 0;
+    public static final String MESSAGES_NAME = "messages";
+
+    private static final VarHandle COUNTS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PAD = 16;
+
+    private final String source;
+    private final String[] names;
+    private final long[] counts;
+
+    StatsCounters(String source, String... names) {
+        this.source = source;
+        this.names = new String[names.length + 1];
+        this.names[MESSAGES] = MESSAGES_NAME;
+        System.arraycopy(names, 0, this.names, 1, names.length);
+        this.counts = new long[PAD + this.names.length + PAD];
+    }
+
+    /**
+     * Counters that no reporter reads, for components running without stats.
+     */
+    public static StatsCounters detached(String source, String... names) {
+        return new StatsCounters(source, names);
+    }
+
+    public void onMessage() {
+        add(MESSAGES, 1);
+    }
+
+    public void increment(int counter) {
+        add(counter, 1);
+    }
+
+    public void add(int counter, long delta) {
+        int index = PAD + counter;
+        COUNTS.setOpaque(counts, index, counts[index] + delta);
+    }
+
+    /**
+     * Overwrites the counter, for gauges such as queue depth.
+     */
+    public void set(int counter, long value) {
+        COUNTS.setOpaque(counts, PAD + counter, value);
+    }
+
+    public long get(int counter) {
+        return (long) COUNTS.getOpaque(counts, PAD + counter);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int counter) {
+        return names[counter];
+    }
+
+    @Override
+    public String toString() {
+        return "StatsCounters[" + source + " " + Arrays.toString(names) + "]";
+    }
+}
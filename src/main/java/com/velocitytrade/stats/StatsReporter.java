@@ -0,0 +1,298 @@
+package com.velocitytrade.stats;
+
+import com.velocitytrade.config.ConfigLoader.LoggingConfig;
+import com.velocitytrade.util.AsciiNumbers;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background formatting and output of hot-thread statistics and log events.
+ * <p>
+ * Hot threads get {@link StatsCounters} and {@link LogEventRing}s from the reporter and only bump
+ * counters or write binary events. The reporter thread drains the rings, renders events through their
+ * templates, logs a stats line each time the total {@code messages} count crosses another multiple of
+ * {@code log_every_n_messages}, and a detailed per-counter report every {@code detailed_report_interval_sec}.
+ * All string building and Logback output happens here.
+ */
+@Slf4j
+public class StatsReporter implements AutoCloseable {
+    private static final long DEFAULT_POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int DRAIN_LIMIT = 1024;
+
+    private final long logEveryNMessages;
+    private final long detailedIntervalNanos;
+    private final long pollIntervalNanos;
+    private final int eventRingSize;
+    private final boolean logIndividualMessages;
+    private final StatsSink sink;
+
+    private final List<StatsCounters> counters = new CopyOnWriteArrayList<>();
+    private final List<LogEventRing> rings = new CopyOnWriteArrayList<>();
+    private final List<Template> templates = new CopyOnWriteArrayList<>();
+
+    // reporter-thread state
+    private final LogEventRing.EventHandler renderer = this::render;
+    private final StringBuilder line = new StringBuilder(256);
+    private final List<long[]> lastStatsCounts = new ArrayList<>();
+    private final List<long[]> lastDetailedCounts = new ArrayList<>();
+    private final List<Long> lastDropped = new ArrayList<>();
+    private long lastStatsBucket;
+    private long lastStatsNanos;
+    private long lastDetailedNanos;
+
+    private Thread thread;
+    private volatile boolean running;
+
+    public StatsReporter(LoggingConfig config) {
+        this(config.getLog_every_n_messages(), TimeUnit.SECONDS.toNanos(config.getDetailed_report_interval_sec()),
+                TimeUnit.MILLISECONDS.toNanos(config.getPoll_interval_ms()), config.getEvent_ring_size(),
+                config.isLog_individual_messages(), StatsReporter::toLog);
+    }
+
+    /**
+     * @param logEveryNMessages     0 disables the periodic stats line
+     * @param detailedIntervalNanos 0 disables the detailed report
+     */
+    public StatsReporter(long logEveryNMessages, long detailedIntervalNanos, long pollIntervalNanos,
+                         int eventRingSize, boolean logIndividualMessages, StatsSink sink) {
+        this.logEveryNMessages = logEveryNMessages;
+        this.detailedIntervalNanos = detailedIntervalNanos;
+        this.pollIntervalNanos = pollIntervalNanos > 0 ? pollIntervalNanos : DEFAULT_POLL_INTERVAL_NANOS;
+        this.eventRingSize = eventRingSize;
+        this.logIndividualMessages = logIndividualMessages;
+        this.sink = sink;
+        this.lastStatsNanos = System.nanoTime();
+        this.lastDetailedNanos = lastStatsNanos;
+    }
+
+    /**
+     * Registers a counter block for one hot thread; see {@link StatsCounters} for indexing.
+     */
+    public StatsCounters counters(String source, String... names) {
+        StatsCounters block = new StatsCounters(source, names);
+        counters.add(block);
+        return block;
+    }
+
+    /**
+     * Registers an event ring for one producing thread.
+     */
+    public LogEventRing eventRing(String source) {
+        LogEventRing ring = new LogEventRing(source, eventRingSize);
+        rings.add(ring);
+        return ring;
+    }
+
+    /**
+     * Defines an event layout. {@code pattern} uses SLF4J-style {@code {}} placeholders, one per argument.
+     *
+     * @return template id to pass to {@link LogEventRing#write}
+     */
+    public synchronized int defineEvent(Level level, String pattern, EventArg... args) {
+        if (args.length > LogEventRing.MAX_ARGS) {
+            throw new IllegalArgumentException("At most " + LogEventRing.MAX_ARGS + " event arguments: " + pattern);
+        }
+        String[] parts = pattern.split("\\{}", -1);
+        if (parts.length != args.length + 1) {
+            throw new IllegalArgumentException("Pattern has " + (parts.length - 1) + " placeholders for "
+                    + args.length + " arguments: " + pattern);
+        }
+
+        templates.add(new Template(level, parts, args.clone()));
+        return templates.size() - 1;
+    }
+
+    /**
+     * Whether producers should emit an event per message ({@code log_individual_messages}).
+     */
+    public boolean isLogIndividualMessages() {
+        return logIndividualMessages;
+    }
+
+    public void start(ThreadFactory threadFactory) {
+        long now = System.nanoTime();
+        lastStatsNanos = now;
+        lastDetailedNanos = now;
+
+        running = true;
+        thread = threadFactory.newThread(this::run);
+        thread.start();
+        log.info("Stats reporter started: stats every {} messages, detailed report every {} s",
+                logEveryNMessages, TimeUnit.NANOSECONDS.toSeconds(detailedIntervalNanos));
+    }
+
+    /**
+     * One reporter pass: drain every event ring, then emit any stats line or detailed report that is due.
+     * Called by the reporter thread; exposed for driving the reporter directly.
+     *
+     * @return events written
+     */
+    public int poll(long now) {
+        int events = 0;
+        for (LogEventRing ring : rings) {
+            int drained;
+            do {
+                drained = ring.drain(renderer, DRAIN_LIMIT);
+                events += drained;
+            } while (drained == DRAIN_LIMIT);
+        }
+
+        if (logEveryNMessages > 0) {
+            long bucket = totalMessages() / logEveryNMessages;
+            if (bucket > lastStatsBucket) {
+                lastStatsBucket = bucket;
+                writeStats(now);
+            }
+        }
+        if (detailedIntervalNanos > 0 && now - lastDetailedNanos >= detailedIntervalNanos) {
+            writeDetailed(now);
+        }
+        return events;
+    }
+
+    /**
+     * Sum of the {@code messages} counter over every registered block.
+     */
+    public long totalMessages() {
+        long total = 0;
+        for (StatsCounters block : counters) {
+            total += block.get(StatsCounters.MESSAGES);
+        }
+        return total;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            poll(System.nanoTime());
+            LockSupport.parkNanos(pollIntervalNanos);
+        }
+        // Final pass so events and counts from the last interval are not lost
+        long now = System.nanoTime();
+        poll(now);
+        writeDetailed(now);
+    }
+
+    private void render(LogEventRing ring, int template, int argCount, long[] args, int offset) {
+        line.setLength(0);
+        if (template < 0 || template >= templates.size()) {
+            line.append('[').append(ring.source()).append("] unknown event template ").append(template);
+            sink.write(Level.WARN, line.toString());
+            return;
+        }
+
+        Template layout = templates.get(template);
+        line.append('[').append(ring.source()).append("] ").append(layout.parts()[0]);
+        for (int i = 0; i < layout.args().length; i++) {
+            long value = i < argCount ? args[offset + i] : 0;
+            if (layout.args()[i] == EventArg.DOUBLE) {
+                AsciiNumbers.appendFixed(line, Double.longBitsToDouble(value), 3);
+            } else {
+                line.append(value);
+            }
+            line.append(layout.parts()[i + 1]);
+        }
+        sink.write(layout.level(), line.toString());
+    }
+
+    private void writeStats(long now) {
+        double seconds = Math.max(1, now - lastStatsNanos) / 1e9;
+        lastStatsNanos = now;
+
+        line.setLength(0);
+        line.append("Stats: messages=").append(totalMessages());
+        for (int b = 0; b < counters.size(); b++) {
+            StatsCounters block = counters.get(b);
+            long[] last = previous(lastStatsCounts, b, block);
+
+            long messages = block.get(StatsCounters.MESSAGES);
+            line.append(" | ").append(block.source()).append(": ");
+            AsciiNumbers.appendFixed(line, (messages - last[StatsCounters.MESSAGES]) / seconds, 0).append(" msg/s");
+            for (int c = 0; c < block.size(); c++) {
+                long value = block.get(c);
+                if (c != StatsCounters.MESSAGES) {
+                    line.append(' ').append(block.name(c)).append("=+").append(value - last[c]);
+                }
+                last[c] = value;
+            }
+        }
+        sink.write(Level.INFO, line.toString());
+    }
+
+    private void writeDetailed(long now) {
+        double seconds = Math.max(1, now - lastDetailedNanos) / 1e9;
+        lastDetailedNanos = now;
+
+        line.setLength(0);
+        line.append("Detailed stats over ");
+        AsciiNumbers.appendFixed(line, seconds, 1).append(" s:");
+        for (int b = 0; b < counters.size(); b++) {
+            StatsCounters block = counters.get(b);
+            long[] last = previous(lastDetailedCounts, b, block);
+
+            line.append("\n  ").append(block.source()).append(':');
+            for (int c = 0; c < block.size(); c++) {
+                long value = block.get(c);
+                line.append("\n    ").append(block.name(c)).append(" = ").append(value).append(" (");
+                AsciiNumbers.appendFixed(line, (value - last[c]) / seconds, 1).append("/s)");
+                last[c] = value;
+            }
+        }
+        for (int r = 0; r < rings.size(); r++) {
+            LogEventRing ring = rings.get(r);
+            while (lastDropped.size() <= r) {
+                lastDropped.add(0L);
+            }
+            long dropped = ring.dropped();
+            line.append("\n  events[").append(ring.source()).append("]: published=").append(ring.published())
+                    .append(" dropped=").append(dropped).append(" (+").append(dropped - lastDropped.get(r)).append(')');
+            lastDropped.set(r, dropped);
+        }
+        sink.write(Level.INFO, line.toString());
+    }
+
+    private static long[] previous(List<long[]> snapshots, int index, StatsCounters block) {
+        while (snapshots.size() <= index) {
+            snapshots.add(null);
+        }
+        long[] last = snapshots.get(index);
+        if (last == null) {
+            last = new long[block.size()];
+            snapshots.set(index, last);
+        }
+        return last;
+    }
+
+    private static void toLog(Level level, String line) {
+        switch (level) {
+            case ERROR -> log.error(line);
+            case WARN -> log.warn(line);
+            case DEBUG -> log.debug(line);
+            case TRACE -> log.trace(line);
+            default -> log.info(line);
+        }
+    }
+
+    private record Template(Level level, String[] parts, EventArg[] args) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.velocitytrade.stats;
+
+import org.slf4j.event.Level;
+
+/**
+ * Destination of formatted report lines and events; called only from the reporter thread.
+ */
+@FunctionalInterface
+public interface StatsSink {
+
+    void write(Level level, String line);
+}
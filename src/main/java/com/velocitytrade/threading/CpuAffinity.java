@@ -0,0 +1,125 @@
+package com.velocitytrade.threading;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Best-effort thread pinning on Linux without native code: the calling thread's TID comes from
+ * /proc/thread-self and the mask is applied with {@code taskset}. Anywhere else (or when taskset is
+ * missing or refused) pinning is skipped and the thread keeps the scheduler's placement.
+ */
+@Slf4j
+public final class CpuAffinity {
+    public static final String ISOLATED = "isolated";
+
+    private static final Path THREAD_SELF = Paths.get("/proc/thread-self");
+    private static final Path ISOLATED_CPUS = Paths.get("/sys/devices/system/cpu/isolated");
+    private static final long TASKSET_TIMEOUT_MS = 2000;
+
+    private CpuAffinity() {
+    }
+
+    public static boolean isSupported() {
+        return System.getProperty("os.name", "").toLowerCase().contains("linux") && Files.exists(THREAD_SELF);
+    }
+
+    /**
+     * Resolves a config value: a cpu list ("2,4-6"), {@value #ISOLATED} for the kernel's isolcpus set,
+     * or blank for no pinning.
+     */
+    public static CpuSet resolve(String spec) {
+        if (spec != null && ISOLATED.equalsIgnoreCase(spec.trim())) {
+            return isolatedCpus();
+        }
+        return CpuSet.parse(spec);
+    }
+
+    public static CpuSet isolatedCpus() {
+        try {
+            return Files.isReadable(ISOLATED_CPUS) ? CpuSet.parse(Files.readString(ISOLATED_CPUS)) : CpuSet.EMPTY;
+        } catch (IOException e) {
+            return CpuSet.EMPTY;
+        }
+    }
+
+    /**
+     * Restricts the calling thread to {@code cpus}.
+     *
+     * @return true if the thread's allowed set now equals {@code cpus}
+     */
+    public static boolean pinCurrentThread(CpuSet cpus) {
+        if (cpus.isEmpty() || !isSupported()) {
+            return false;
+        }
+
+        long tid = currentThreadId();
+        if (tid < 0) {
+            return false;
+        }
+
+        try {
+            Process process = new ProcessBuilder("taskset", "-p", "-c", cpus.toString(), Long.toString(tid))
+                    .redirectErrorStream(true)
+                    .start();
+
+            if (!process.waitFor(TASKSET_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                log.warn("taskset timed out pinning {} to cpus {}", Thread.currentThread().getName(), cpus);
+                return false;
+            }
+            if (process.exitValue() != 0) {
+                String output = new String(process.getInputStream().readAllBytes()).trim();
+                log.warn("taskset failed pinning {} to cpus {}: {}", Thread.currentThread().getName(), cpus, output);
+                return false;
+            }
+        } catch (IOException e) {
+            log.warn("CPU pinning unavailable ({}), {} stays unpinned", e.getMessage(), Thread.currentThread().getName());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return cpus.equals(currentThreadCpus());
+    }
+
+    /**
+     * The calling thread's allowed CPUs, or {@link CpuSet#EMPTY} if unknown.
+     */
+    public static CpuSet currentThreadCpus() {
+        if (!isSupported()) {
+            return CpuSet.EMPTY;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(THREAD_SELF.resolve("status"));
+            for (String line : lines) {
+                if (line.startsWith("Cpus_allowed_list:")) {
+                    return CpuSet.parse(line.substring("Cpus_allowed_list:".length()));
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Could not read thread affinity: {}", e.getMessage());
+        }
+        return CpuSet.EMPTY;
+    }
+
+    /**
+     * Native TID of the calling thread, or -1 if unavailable.
+     */
+    public static long currentThreadId() {
+        try {
+            // /proc/thread-self -> "<pid>/task/<tid>"
+            Path target = Files.readSymbolicLink(THREAD_SELF);
+            return Long.parseLong(target.getFileName().toString());
+        } catch (IOException | UnsupportedOperationException | NumberFormatException e) {
+            return -1;
+        }
+    }
+}
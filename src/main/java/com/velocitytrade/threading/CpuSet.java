@@ -0,0 +1,107 @@
+package com.velocitytrade.threading;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable set of CPU ids, parsed from and printed as a Linux cpu list ("2,4-6").
+ */
+public final class CpuSet {
+    public static final CpuSet EMPTY = new CpuSet(new int[0]);
+
+    private final int[] cpus;
+
+    private CpuSet(int[] cpus) {
+        this.cpus = cpus;
+    }
+
+    public static CpuSet of(int... cpus) {
+        BitSet bits = new BitSet();
+        for (int cpu : cpus) {
+            if (cpu < 0) {
+                throw new IllegalArgumentException("CPU id must be non-negative: " + cpu);
+            }
+            bits.set(cpu);
+        }
+        return new CpuSet(bits.stream().toArray());
+    }
+
+    public static CpuSet parse(String list) {
+        if (list == null || list.isBlank()) {
+            return EMPTY;
+        }
+
+        BitSet bits = new BitSet();
+        for (String part : list.trim().split(",")) {
+            String range = part.trim();
+            if (range.isEmpty()) {
+                continue;
+            }
+
+            try {
+                int dash = range.indexOf('-');
+                if (dash < 0) {
+                    bits.set(Integer.parseInt(range));
+                } else {
+                    int from = Integer.parseInt(range.substring(0, dash).trim());
+                    int to = Integer.parseInt(range.substring(dash + 1).trim());
+                    if (from < 0 || to < from) {
+                        throw new IllegalArgumentException("Invalid CPU range: " + range);
+                    }
+                    bits.set(from, to + 1);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid CPU list: " + list, e);
+            }
+        }
+        return new CpuSet(bits.stream().toArray());
+    }
+
+    public boolean isEmpty() {
+        return cpus.length == 0;
+    }
+
+    public int size() {
+        return cpus.length;
+    }
+
+    public int get(int index) {
+        return cpus[index];
+    }
+
+    public boolean contains(int cpu) {
+        return Arrays.binarySearch(cpus, cpu) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CpuSet other && Arrays.equals(cpus, other.cpus);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cpus);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < cpus.length; i++) {
+            int start = cpus[i];
+            while (i + 1 < cpus.length && cpus[i + 1] == cpus[i] + 1) {
+                i++;
+            }
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(start);
+            if (cpus[i] != start) {
+                sb.append('-').append(cpus[i]);
+            }
+        }
+        return sb.toString();
+    }
+}
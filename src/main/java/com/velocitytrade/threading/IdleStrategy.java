@@ -0,0 +1,175 @@
+package com.velocitytrade.threading;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * What a polling loop (selector, IPC reader, snapshot writer) does when a pass found no work.
+ * Mirrors the Disruptor wait strategies for threads that are not Disruptor consumers.
+ * <p>
+ * Usage: {@code idle.idle(workCount)} after every pass; implementations reset their backoff when work was done.
+ */
+public interface IdleStrategy {
+
+    void idle(int workCount);
+
+    void reset();
+
+    final class BusySpin implements IdleStrategy {
+        @Override
+        public void idle(int workCount) {
+            if (workCount == 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+
+    final class Yielding implements IdleStrategy {
+        @Override
+        public void idle(int workCount) {
+            if (workCount == 0) {
+                Thread.yield();
+            }
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+
+    /**
+     * Spin, then yield, then park for a fixed interval (the Disruptor SleepingWaitStrategy shape).
+     */
+    final class Sleeping implements IdleStrategy {
+        private static final int SPIN_TRIES = 100;
+        private static final int YIELD_TRIES = 100;
+
+        private final long sleepNanos;
+        private int idleCount;
+
+        public Sleeping(long sleepNanos) {
+            this.sleepNanos = sleepNanos;
+        }
+
+        @Override
+        public void idle(int workCount) {
+            if (workCount > 0) {
+                idleCount = 0;
+                return;
+            }
+
+            if (idleCount < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(sleepNanos);
+            }
+            idleCount++;
+        }
+
+        @Override
+        public void reset() {
+            idleCount = 0;
+        }
+    }
+
+    /**
+     * Parks for {@code maxParkNanos} whenever idle; nothing unparks it early, so a message arriving
+     * during the park waits out the remainder. Lowest CPU, highest wake-up latency.
+     */
+    final class Blocking implements IdleStrategy {
+        private final long maxParkNanos;
+
+        public Blocking(long maxParkNanos) {
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        public void idle(int workCount) {
+            if (workCount == 0) {
+                LockSupport.parkNanos(this, maxParkNanos);
+            }
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+
+    /**
+     * Spins for {@code spinNanos}, yields until {@code yieldNanos}, then parks with exponential backoff
+     * up to {@code maxParkNanos}.
+     */
+    final class PhasedBackoff implements IdleStrategy {
+        private static final long MIN_PARK_NANOS = 1_000;
+
+        public enum Phase {
+            SPIN, YIELD, PARK
+        }
+
+        private final long spinNanos;
+        private final long yieldNanos;
+        private final long maxParkNanos;
+
+        private long idleStartNanos;
+        private long parkNanos;
+        private Phase phase = Phase.SPIN;
+
+        public PhasedBackoff(long spinNanos, long yieldNanos, long maxParkNanos) {
+            this.spinNanos = spinNanos;
+            this.yieldNanos = yieldNanos;
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        public void idle(int workCount) {
+            if (workCount > 0) {
+                reset();
+                return;
+            }
+
+            long now = System.nanoTime();
+            if (idleStartNanos == 0) {
+                idleStartNanos = now;
+            }
+
+            long idleNanos = now - idleStartNanos;
+            if (idleNanos < spinNanos) {
+                phase = Phase.SPIN;
+                Thread.onSpinWait();
+            } else if (idleNanos < yieldNanos) {
+                phase = Phase.YIELD;
+                Thread.yield();
+            } else {
+                phase = Phase.PARK;
+                parkNanos = parkNanos == 0 ? MIN_PARK_NANOS : Math.min(parkNanos * 2, maxParkNanos);
+                LockSupport.parkNanos(parkNanos);
+            }
+        }
+
+        @Override
+        public void reset() {
+            idleStartNanos = 0;
+            parkNanos = 0;
+            phase = Phase.SPIN;
+        }
+
+        /**
+         * What the last idle pass did; SPIN again after work or {@link #reset()}.
+         */
+        public Phase phase() {
+            return phase;
+        }
+
+        /**
+         * The last park interval, 0 until the strategy has escalated to parking.
+         */
+        public long parkNanos() {
+            return parkNanos;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.velocitytrade.threading;
+
+import com.lmax.disruptor.WaitStrategy;
+import com.velocitytrade.config.ConfigLoader.AppConfig;
+import com.velocitytrade.config.ConfigLoader.ThreadConfig;
+import com.velocitytrade.config.ConfigLoader.ThreadingConfig;
+import com.velocitytrade.monitoring.AllocationMonitor;
+import io.prometheus.client.Gauge;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-stage thread placement: which wait strategy a stage's threads use and which cores they are pinned to.
+ * <p>
+ * Threads created through {@link #threadFactory(String)} pin themselves on start, then log and publish
+ * their name, stage, strategy and actual cores as {@code velocitytrade_pipeline_thread_info}.
+ */
+@Slf4j
+public class PipelineThreads {
+    public static final String GENERATOR = "generator";
+    public static final String STRATEGY = "strategy";
+    public static final String RISK = "risk";
+    public static final String JOURNAL = "journal";
+    public static final String PUBLISHER = "publisher";
+    public static final String GATEWAY = "gateway";
+    public static final String SNAPSHOT = "snapshot";
+
+    private static final Gauge THREAD_INFO = Gauge.build()
+            .name("velocitytrade_pipeline_thread_info")
+            .help("Pipeline threads; 1 if pinned to the requested cores, 0 if unpinned")
+            .labelNames("thread", "stage", "wait_strategy", "cpus")
+            .register();
+
+    private final WaitStrategyType defaultWaitStrategy;
+    private final long spinTimeoutNanos;
+    private final long yieldTimeoutNanos;
+    private final Map<String, StageSettings> stages = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> threadCounters = new ConcurrentHashMap<>();
+    private final List<ThreadInfo> threads = new CopyOnWriteArrayList<>();
+    private volatile AllocationMonitor allocationMonitor;
+
+    public PipelineThreads(WaitStrategyType defaultWaitStrategy, long spinTimeoutNanos, long yieldTimeoutNanos) {
+        this.defaultWaitStrategy = defaultWaitStrategy;
+        this.spinTimeoutNanos = spinTimeoutNanos;
+        this.yieldTimeoutNanos = yieldTimeoutNanos;
+    }
+
+    public static PipelineThreads fromConfig(AppConfig config) {
+        ThreadingConfig threading = config.getThreading() != null ? config.getThreading() : new ThreadingConfig();
+        String defaultStrategy = config.getDisruptor() != null && config.getDisruptor().getWait_strategy() != null
+                ? config.getDisruptor().getWait_strategy()
+                : WaitStrategyType.BUSY_SPIN.name();
+
+        PipelineThreads pipelineThreads = new PipelineThreads(
+                WaitStrategyType.parse(defaultStrategy),
+                TimeUnit.MICROSECONDS.toNanos(threading.getPhased_spin_timeout_us()),
+                TimeUnit.MICROSECONDS.toNanos(threading.getPhased_yield_timeout_us()));
+
+        for (Map.Entry<String, ThreadConfig> entry : threading.getThreads().entrySet()) {
+            ThreadConfig threadConfig = entry.getValue();
+            WaitStrategyType type = threadConfig.getWait_strategy() != null
+                    ? WaitStrategyType.parse(threadConfig.getWait_strategy())
+                    : pipelineThreads.defaultWaitStrategy;
+            pipelineThreads.configure(entry.getKey(), type, CpuAffinity.resolve(threadConfig.getCpus()));
+        }
+
+        pipelineThreads.logLayout();
+        return pipelineThreads;
+    }
+
+    public PipelineThreads configure(String stage, WaitStrategyType waitStrategy, CpuSet cpus) {
+        stages.put(stage, new StageSettings(waitStrategy, cpus));
+        return this;
+    }
+
+    /**
+     * Threads started after this call register with {@code monitor} under their stage.
+     */
+    public PipelineThreads monitorAllocations(AllocationMonitor monitor) {
+        this.allocationMonitor = monitor;
+        return this;
+    }
+
+    public WaitStrategyType waitStrategyType(String stage) {
+        return settings(stage).waitStrategy();
+    }
+
+    public CpuSet cpus(String stage) {
+        return settings(stage).cpus();
+    }
+
+    public WaitStrategy disruptorWaitStrategy(String stage) {
+        return waitStrategyType(stage).newDisruptorWaitStrategy(spinTimeoutNanos, yieldTimeoutNanos);
+    }
+
+    public IdleStrategy idleStrategy(String stage) {
+        return waitStrategyType(stage).newIdleStrategy(spinTimeoutNanos, yieldTimeoutNanos);
+    }
+
+    /**
+     * Threads are named {@code vt-<stage>-<n>}; thread n is pinned to core {@code n mod |cpus|} of the stage's set.
+     */
+    public ThreadFactory threadFactory(String stage) {
+        AtomicInteger counter = threadCounters.computeIfAbsent(stage, s -> new AtomicInteger());
+
+        return task -> {
+            int index = counter.getAndIncrement();
+            String name = "vt-" + stage + "-" + index;
+            return new Thread(() -> {
+                onThreadStart(stage, index);
+                task.run();
+            }, name);
+        };
+    }
+
+    public Thread newThread(String stage, Runnable task) {
+        return threadFactory(stage).newThread(task);
+    }
+
+    public List<ThreadInfo> threads() {
+        return new ArrayList<>(threads);
+    }
+
+    public void logLayout() {
+        log.info("Pipeline threading: default wait={}, affinity {}", defaultWaitStrategy,
+                CpuAffinity.isSupported() ? "available" : "unavailable");
+        stages.forEach((stage, settings) -> log.info("  stage {}: wait={}, cpus={}",
+                stage, settings.waitStrategy(), settings.cpus().isEmpty() ? "unpinned" : settings.cpus()));
+    }
+
+    private StageSettings settings(String stage) {
+        return stages.getOrDefault(stage, new StageSettings(defaultWaitStrategy, CpuSet.EMPTY));
+    }
+
+    private void onThreadStart(String stage, int index) {
+        StageSettings settings = settings(stage);
+        String name = Thread.currentThread().getName();
+
+        CpuSet requested = settings.cpus().isEmpty()
+                ? CpuSet.EMPTY
+                : CpuSet.of(settings.cpus().get(index % settings.cpus().size()));
+        boolean pinned = !requested.isEmpty() && CpuAffinity.pinCurrentThread(requested);
+        CpuSet actual = CpuAffinity.currentThreadCpus();
+
+        if (!requested.isEmpty() && !pinned) {
+            log.warn("Thread {} could not be pinned to cpus {}, running on {}", name, requested,
+                    actual.isEmpty() ? "unknown" : actual);
+        }
+        log.info("Thread {} started: stage={}, wait={}, cpus={}{}", name, stage, settings.waitStrategy(),
+                actual.isEmpty() ? "unknown" : actual, pinned ? " (pinned)" : "");
+
+        ThreadInfo info = new ThreadInfo(name, stage, settings.waitStrategy(), requested, actual, pinned);
+        threads.add(info);
+        THREAD_INFO.labels(name, stage, settings.waitStrategy().name(), actual.toString()).set(pinned ? 1 : 0);
+
+        AllocationMonitor monitor = allocationMonitor;
+        if (monitor != null) {
+            monitor.track(stage, Thread.currentThread());
+        }
+    }
+
+    private record StageSettings(WaitStrategyType waitStrategy, CpuSet cpus) {
+    }
+
+    public record ThreadInfo(String name, String stage, WaitStrategyType waitStrategy,
+                             CpuSet requestedCpus, CpuSet actualCpus, boolean pinned) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.velocitytrade.threading;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idle CPU burn vs. wake-up latency, from lowest latency to lowest CPU:
+ * BUSY_SPIN, YIELDING, PHASED_BACKOFF, SLEEPING, BLOCKING.
+ */
+public enum WaitStrategyType {
+    BUSY_SPIN,
+    YIELDING,
+    SLEEPING,
+    BLOCKING,
+    PHASED_BACKOFF;
+
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public static WaitStrategyType parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unknown wait strategy '" + value + "', expected one of "
+                    + Arrays.toString(values()));
+        }
+    }
+
+    public WaitStrategy newDisruptorWaitStrategy(long spinTimeoutNanos, long yieldTimeoutNanos) {
+        return switch (this) {
+            case BUSY_SPIN -> new BusySpinWaitStrategy();
+            case YIELDING -> new YieldingWaitStrategy();
+            case SLEEPING -> new SleepingWaitStrategy();
+            case BLOCKING -> new BlockingWaitStrategy();
+            case PHASED_BACKOFF -> PhasedBackoffWaitStrategy.withLock(
+                    spinTimeoutNanos, yieldTimeoutNanos, TimeUnit.NANOSECONDS);
+        };
+    }
+
+    public IdleStrategy newIdleStrategy(long spinTimeoutNanos, long yieldTimeoutNanos) {
+        return switch (this) {
+            case BUSY_SPIN -> new IdleStrategy.BusySpin();
+            case YIELDING -> new IdleStrategy.Yielding();
+            case SLEEPING -> new IdleStrategy.Sleeping(SLEEP_NANOS);
+            case BLOCKING -> new IdleStrategy.Blocking(MAX_PARK_NANOS);
+            case PHASED_BACKOFF -> new IdleStrategy.PhasedBackoff(
+                    spinTimeoutNanos, spinTimeoutNanos + yieldTimeoutNanos, MAX_PARK_NANOS);
+        };
+    }
+}
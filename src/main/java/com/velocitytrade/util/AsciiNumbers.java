@@ -0,0 +1,134 @@
+package com.velocitytrade.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses ASCII decimal numbers straight from a byte buffer region [start, end) using absolute reads,
+ * so callers can share one buffer across threads without creating Strings; and formats fixed-decimal
+ * numbers into a reused {@link StringBuilder} without {@code String.format}.
+ */
+public final class AsciiNumbers {
+    private static final int MAX_FAST_DIGITS = 18;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private AsciiNumbers() {
+    }
+
+    public static int parseInt(ByteBuffer buffer, int start, int end) {
+        long value = parseLong(buffer, start, end);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Integer out of range: " + toString(buffer, start, end));
+        }
+        return (int) value;
+    }
+
+    public static long parseLong(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        boolean negative = false;
+
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+
+        if (i == end || end - i > MAX_FAST_DIGITS) {
+            return Long.parseLong(toString(buffer, start, end));
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid integer: " + toString(buffer, start, end));
+            }
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Exact for plain decimals with up to 18 digits (mantissa and power of ten are both exact doubles,
+     * so the single division is correctly rounded); anything else goes through {@link Double#parseDouble}.
+     */
+    public static double parseDouble(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        boolean negative = false;
+
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean seenDot = false;
+
+        for (; i < end; i++) {
+            byte c = buffer.get(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (seenDot) {
+                    scale++;
+                }
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                break;
+            }
+        }
+
+        if (i != end || digits == 0 || digits > MAX_FAST_DIGITS
+                || mantissa >= MAX_EXACT_MANTISSA || scale >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(toString(buffer, start, end));
+        }
+
+        double value = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Appends {@code value} rounded half-up to {@code decimals} places (at most 9), e.g. 1.5 with 3
+     * decimals as {@code 1.500}. Values too large for a long mantissa fall back to {@link StringBuilder#append(double)}.
+     */
+    public static StringBuilder appendFixed(StringBuilder builder, double value, int decimals) {
+        if (decimals < 0 || decimals > 9) {
+            throw new IllegalArgumentException("decimals must be 0..9: " + decimals);
+        }
+
+        double scaled = Math.abs(value) * POWERS_OF_TEN[decimals];
+        if (Double.isNaN(value) || scaled >= 0x1p62) {
+            return builder.append(value);
+        }
+
+        long units = Math.round(scaled);
+        if (value < 0 && units != 0) {
+            builder.append('-');
+        }
+        long scale = (long) POWERS_OF_TEN[decimals];
+        builder.append(units / scale);
+
+        if (decimals > 0) {
+            builder.append('.');
+            long fraction = units % scale;
+            for (long digit = scale / 10; digit > fraction && digit > 1; digit /= 10) {
+                builder.append('0');
+            }
+            builder.append(fraction);
+        }
+        return builder;
+    }
+
+    public static String toString(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
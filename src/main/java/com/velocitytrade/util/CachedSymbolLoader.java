@@ -0,0 +1,138 @@
+package com.velocitytrade.util;
+
+import com.velocitytrade.marketdata.Symbol;
+import com.velocitytrade.util.SymbolSnapshotCache.CachedPrice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves prices from the on-disk snapshot cache and only fetches entries older than the TTL.
+ * <p>
+ * Symbols with no cached price are fetched before returning. Stale cached prices are returned as-is and
+ * refreshed in the background when {@code refreshInBackground} is set, otherwise fetched before returning.
+ */
+@Slf4j
+public class CachedSymbolLoader implements SymbolDataSource {
+    private final SymbolPriceFetcher fetcher;
+    private final SymbolDataSource referenceLoader;
+    private final SymbolSnapshotCache cache;
+    private final long ttlMillis;
+    private final boolean refreshInBackground;
+
+    private final Object cacheLock = new Object();
+    private volatile CompletableFuture<List<Symbol>> backgroundRefresh = CompletableFuture.completedFuture(List.of());
+
+    public CachedSymbolLoader(SymbolPriceFetcher fetcher, SymbolDataSource referenceLoader, SymbolSnapshotCache cache,
+                              long ttlMillis, boolean refreshInBackground) {
+        this.fetcher = fetcher;
+        this.referenceLoader = referenceLoader;
+        this.cache = cache;
+        this.ttlMillis = ttlMillis;
+        this.refreshInBackground = refreshInBackground;
+    }
+
+    @Override
+    public List<Symbol> loadSymbols() {
+        long startNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+
+        List<Symbol> referenceSymbols = referenceLoader.loadSymbols();
+        Map<String, CachedPrice> cached = cache.read();
+
+        List<Symbol> missing = new ArrayList<>();
+        List<Symbol> stale = new ArrayList<>();
+
+        for (Symbol symbol : referenceSymbols) {
+            CachedPrice entry = cached.get(symbol.ticker());
+            if (entry == null) {
+                missing.add(symbol);
+            } else if (!entry.isFresh(nowMillis, ttlMillis)) {
+                stale.add(symbol);
+            }
+        }
+
+        log.info("Symbol cache {}: {} fresh, {} stale, {} missing",
+                cache.getPath(), referenceSymbols.size() - stale.size() - missing.size(), stale.size(), missing.size());
+
+        List<Symbol> toFetchNow = new ArrayList<>(missing);
+        if (!refreshInBackground) {
+            toFetchNow.addAll(stale);
+        }
+
+        if (!toFetchNow.isEmpty()) {
+            cached = refresh(toFetchNow);
+        }
+
+        List<Symbol> symbols = merge(referenceSymbols, cached);
+
+        if (refreshInBackground && !stale.isEmpty()) {
+            backgroundRefresh = CompletableFuture.supplyAsync(() -> merge(referenceSymbols, refresh(stale)), runnable -> {
+                Thread thread = new Thread(runnable, "Symbol-Cache-Refresh");
+                thread.setDaemon(true);
+                thread.start();
+            });
+        }
+
+        log.info("Loaded {} symbols via cache in {} ms", symbols.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        return symbols;
+    }
+
+    /**
+     * Completes with the refreshed symbol list once a background refresh started by
+     * {@link #loadSymbols()} has been written to the cache.
+     */
+    public CompletableFuture<List<Symbol>> getBackgroundRefresh() {
+        return backgroundRefresh;
+    }
+
+    private Map<String, CachedPrice> refresh(List<Symbol> symbols) {
+        Map<String, Double> prices = fetcher.fetchPrices(symbols);
+        long fetchedAtMillis = System.currentTimeMillis();
+
+        synchronized (cacheLock) {
+            Map<String, CachedPrice> entries = new HashMap<>(cache.read());
+            prices.forEach((ticker, price) -> entries.put(ticker, new CachedPrice(price, fetchedAtMillis)));
+
+            if (!prices.isEmpty()) {
+                try {
+                    cache.write(entries);
+                } catch (IOException e) {
+                    log.warn("Failed to write symbol cache {}: {}", cache.getPath(), e.getMessage());
+                }
+            }
+
+            log.info("Refreshed {} of {} symbols into cache", prices.size(), symbols.size());
+            return entries;
+        }
+    }
+
+    private static List<Symbol> merge(List<Symbol> referenceSymbols, Map<String, CachedPrice> cached) {
+        List<Symbol> symbols = new ArrayList<>(referenceSymbols.size());
+
+        for (Symbol symbol : referenceSymbols) {
+            CachedPrice entry = cached.get(symbol.ticker());
+
+            if (entry != null) {
+                symbols.add(new Symbol(symbol.id(), symbol.ticker(), symbol.name(), entry.price(), symbol.volatility()));
+            } else {
+                symbols.add(symbol);
+            }
+        }
+
+        return symbols;
+    }
+
+    @Override
+    public String getSourceName() {
+        return "Cached (" + cache.getPath() + ")";
+    }
+}
@@ -0,0 +1,292 @@
+package com.velocitytrade.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocitytrade.marketdata.Symbol;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches live prices with a bounded number of async requests in flight, rate limited by a token bucket.
+ * Tries the multi-symbol quote endpoint first, then the per-symbol chart endpoint, then the CSV values.
+ */
+@Slf4j
+public class ConcurrentYahooFinanceSymbolLoader implements SymbolDataSource, SymbolPriceFetcher {
+
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    private static final double DEFAULT_REQUESTS_PER_SECOND = 5.0;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final long DEFAULT_RETRY_BACKOFF_MS = 250;
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
+    private final String baseUrl;
+    private final OkHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final SymbolDataSource fallbackLoader;
+    private final int maxConcurrentRequests;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final int batchSize;
+
+    public ConcurrentYahooFinanceSymbolLoader(String baseUrl, int timeoutSeconds, String fallbackCsvPath) {
+        this(baseUrl, timeoutSeconds, fallbackCsvPath, DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_REQUESTS_PER_SECOND,
+                DEFAULT_MAX_RETRIES, DEFAULT_RETRY_BACKOFF_MS, DEFAULT_BATCH_SIZE);
+    }
+
+    public ConcurrentYahooFinanceSymbolLoader(String baseUrl, int timeoutSeconds, String fallbackCsvPath,
+                                              int maxConcurrentRequests, double requestsPerSecond,
+                                              int maxRetries, long retryBackoffMs, int batchSize) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1: " + maxConcurrentRequests);
+        }
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrentRequests);
+        dispatcher.setMaxRequestsPerHost(maxConcurrentRequests);
+
+        this.baseUrl = baseUrl;
+        this.httpClient = new OkHttpClient.Builder()
+                .connectTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .readTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .dispatcher(dispatcher)
+                .build();
+        this.objectMapper = new ObjectMapper();
+        this.fallbackLoader = new CsvSymbolLoader(fallbackCsvPath);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerSecond, maxConcurrentRequests);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = Math.max(0, retryBackoffMs);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public List<Symbol> loadSymbols() {
+        log.info("Fetching live data from Yahoo Finance API (max {} in flight)..", maxConcurrentRequests);
+        long startNanos = System.nanoTime();
+
+        List<Symbol> csvSymbols = fallbackLoader.loadSymbols();
+        Map<String, Double> prices = fetchPrices(csvSymbols);
+
+        List<Symbol> apiSymbols = new ArrayList<>(csvSymbols.size());
+        int successCount = 0;
+        int failCount = 0;
+
+        for (Symbol csvSymbol : csvSymbols) {
+            Double currentPrice = prices.get(csvSymbol.ticker());
+
+            if (currentPrice != null) {
+                apiSymbols.add(new Symbol(
+                        csvSymbol.id(),
+                        csvSymbol.ticker(),
+                        csvSymbol.name(),
+                        currentPrice,
+                        csvSymbol.volatility()
+                ));
+                successCount++;
+            } else {
+                log.warn("Failed to fetch data for {}, using CSV fallback", csvSymbol.ticker());
+                apiSymbols.add(csvSymbol);
+                failCount++;
+            }
+        }
+
+        log.info("Loaded {} symbols from Yahoo Finance ({} success, {} fallback) in {} ms",
+                apiSymbols.size(), successCount, failCount,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        return apiSymbols;
+    }
+
+    @Override
+    public Map<String, Double> fetchPrices(List<Symbol> symbols) {
+        Map<String, Double> prices = new ConcurrentHashMap<>();
+
+        ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Yahoo-Retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            if (batchSize > 1) {
+                fetchAll(batchFetches(symbols, prices), retryScheduler);
+            }
+
+            List<Fetch> chartFetches = new ArrayList<>();
+            for (Symbol symbol : symbols) {
+                if (!prices.containsKey(symbol.ticker())) {
+                    chartFetches.add(chartFetch(symbol.ticker(), prices));
+                }
+            }
+            fetchAll(chartFetches, retryScheduler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while fetching prices, {} of {} fetched", prices.size(), symbols.size());
+        } finally {
+            retryScheduler.shutdownNow();
+        }
+
+        return prices;
+    }
+
+    private List<Fetch> batchFetches(List<Symbol> symbols, Map<String, Double> prices) {
+        List<Fetch> fetches = new ArrayList<>();
+
+        for (int from = 0; from < symbols.size(); from += batchSize) {
+            List<Symbol> batch = symbols.subList(from, Math.min(from + batchSize, symbols.size()));
+
+            StringBuilder tickers = new StringBuilder();
+            for (Symbol symbol : batch) {
+                if (tickers.length() > 0) {
+                    tickers.append(',');
+                }
+                tickers.append(symbol.ticker());
+            }
+
+            String url = String.format("%s/v7/finance/quote?symbols=%s", baseUrl, tickers);
+            fetches.add(new Fetch(url, "batch of " + batch.size(), body -> parseBatchQuotes(body, prices)));
+        }
+
+        return fetches;
+    }
+
+    private Fetch chartFetch(String ticker, Map<String, Double> prices) {
+        String url = String.format("%s/v8/finance/chart/%s?interval=1d&range=1d", baseUrl, ticker);
+        return new Fetch(url, ticker, body -> prices.put(ticker, parseChartPrice(body)));
+    }
+
+    private void parseBatchQuotes(String body, Map<String, Double> prices) throws IOException {
+        JsonNode results = objectMapper.readTree(body).path("quoteResponse").path("result");
+        if (!results.isArray()) {
+            throw new IOException("Missing quoteResponse.result in batch response");
+        }
+
+        for (JsonNode quote : results) {
+            String ticker = quote.path("symbol").asText(null);
+            double price = quote.path("regularMarketPrice").asDouble();
+
+            if (ticker != null && price > 0.0) {
+                prices.put(ticker, price);
+            }
+        }
+    }
+
+    private double parseChartPrice(String body) throws IOException {
+        JsonNode meta = objectMapper.readTree(body).path("chart").path("result").path(0).path("meta");
+        double price = meta.path("regularMarketPrice").asDouble();
+
+        if (price == 0.0) {
+            throw new IOException("Invalid price from API");
+        }
+
+        return price;
+    }
+
+    private void fetchAll(List<Fetch> fetches, ScheduledExecutorService retryScheduler) throws InterruptedException {
+        if (fetches.isEmpty()) {
+            return;
+        }
+
+        Semaphore inFlight = new Semaphore(maxConcurrentRequests);
+        CountDownLatch done = new CountDownLatch(fetches.size());
+
+        for (Fetch fetch : fetches) {
+            inFlight.acquire();
+            rateLimiter.acquire();
+            enqueue(fetch, 0, () -> {
+                inFlight.release();
+                done.countDown();
+            }, retryScheduler);
+        }
+
+        done.await();
+    }
+
+    private void enqueue(Fetch fetch, int attempt, Runnable onComplete, ScheduledExecutorService retryScheduler) {
+        Request request = new Request.Builder()
+                .url(fetch.url())
+                .addHeader("user-agent", "Mozilla/5.0")
+                .build();
+
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                retryOrComplete(fetch, attempt, e.getMessage(), onComplete, retryScheduler);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    int code = response.code();
+                    if (code == 429 || code >= 500) {
+                        retryOrComplete(fetch, attempt, "HTTP " + code, onComplete, retryScheduler);
+                        return;
+                    }
+
+                    if (!response.isSuccessful()) {
+                        log.debug("Request for {} failed: HTTP {}", fetch.description(), code);
+                    } else if (response.body() != null) {
+                        fetch.handler().handle(response.body().string());
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Request for {} failed: {}", fetch.description(), e.getMessage());
+                }
+
+                onComplete.run();
+            }
+        });
+    }
+
+    private void retryOrComplete(Fetch fetch, int attempt, String reason, Runnable onComplete,
+                                 ScheduledExecutorService retryScheduler) {
+        if (attempt >= maxRetries || retryScheduler.isShutdown()) {
+            log.debug("Giving up on {} after {} attempts: {}", fetch.description(), attempt + 1, reason);
+            onComplete.run();
+            return;
+        }
+
+        long backoffMs = retryBackoffMs << attempt;
+        log.debug("Retrying {} in {} ms ({})", fetch.description(), backoffMs, reason);
+
+        retryScheduler.schedule(() -> {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                onComplete.run();
+                return;
+            }
+            enqueue(fetch, attempt + 1, onComplete, retryScheduler);
+        }, backoffMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String getSourceName() {
+        return "Yahoo Finance API (concurrent)";
+    }
+
+    @FunctionalInterface
+    private interface ResponseHandler {
+        void handle(String body) throws IOException;
+    }
+
+    private record Fetch(String url, String description, ResponseHandler handler) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.velocitytrade.util;
+
+import com.velocitytrade.marketdata.Symbol;
+import com.velocitytrade.marketdata.SymbolStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Loads the same id,ticker,name,price,volatility CSV as {@link CsvSymbolLoader} for large universes:
+ * the file is memory-mapped, split at line boundaries into chunks, and each chunk is parsed in parallel
+ * straight from the mapped bytes into a {@link SymbolStore}.
+ */
+@Slf4j
+public class MappedCsvSymbolLoader implements SymbolDataSource {
+    private static final int FIELD_COUNT = 5;
+    private static final int MIN_CHUNK_BYTES = 256 * 1024;
+    private static final int ESTIMATED_BYTES_PER_ROW = 40;
+
+    private final String filepath;
+    private final int parallelism;
+
+    public MappedCsvSymbolLoader(String filepath) {
+        this(filepath, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MappedCsvSymbolLoader(String filepath, int parallelism) {
+        this.filepath = filepath;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public List<Symbol> loadSymbols() {
+        return loadStore().toSymbols();
+    }
+
+    public SymbolStore loadStore() {
+        log.info("Loading symbols from CSV (memory-mapped): {}", filepath);
+        long startNanos = System.nanoTime();
+        Path path = Paths.get(filepath);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("CSV file too large to map: " + fileSize + " bytes");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            int end = (int) fileSize;
+            int dataStart = Math.min(nextLine(buffer, 0, end), end);  // skip header
+
+            int[] bounds = chunkBounds(buffer, dataStart, end);
+            int chunks = bounds.length - 1;
+
+            List<SymbolStore> parts = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(i -> parseChunk(buffer, bounds[i], bounds[i + 1]))
+                    .toList();
+
+            SymbolStore store = SymbolStore.concat(parts);
+
+            log.info("Loaded {} symbols from CSV ({} chunks) in {} ms", store.size(), chunks,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return store;
+        } catch (IOException e) {
+            log.error("Failed to load symbols from CSV: {}", filepath, e);
+            throw new RuntimeException("Failed to load symbols from CSV", e);
+        }
+    }
+
+    private int[] chunkBounds(MappedByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        int chunks = (int) Math.max(1, Math.min(parallelism, length / MIN_CHUNK_BYTES));
+
+        int[] bounds = new int[chunks + 1];
+        bounds[0] = start;
+        for (int i = 1; i < chunks; i++) {
+            int nominal = start + (int) ((long) length * i / chunks);
+            bounds[i] = Math.max(bounds[i - 1], Math.min(nextLine(buffer, nominal, end), end));
+        }
+        bounds[chunks] = end;
+        return bounds;
+    }
+
+    private static SymbolStore parseChunk(MappedByteBuffer buffer, int start, int end) {
+        SymbolStore.Builder builder = new SymbolStore.Builder((end - start) / ESTIMATED_BYTES_PER_ROW);
+        int[] fieldStarts = new int[FIELD_COUNT];
+        int[] fieldEnds = new int[FIELD_COUNT];
+
+        int pos = start;
+        while (pos < end) {
+            int lineEnd = indexOf(buffer, (byte) '\n', pos, end);
+            int limit = lineEnd;
+            if (limit > pos && buffer.get(limit - 1) == '\r') {
+                limit--;
+            }
+
+            if (limit > pos) {
+                parseLine(buffer, pos, limit, fieldStarts, fieldEnds, builder);
+            }
+            pos = lineEnd + 1;
+        }
+
+        return builder.build();
+    }
+
+    private static void parseLine(MappedByteBuffer buffer, int start, int end,
+                                  int[] fieldStarts, int[] fieldEnds, SymbolStore.Builder builder) {
+        int fieldStart = start;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int comma = indexOf(buffer, (byte) ',', fieldStart, end);
+            if (comma == end && field < FIELD_COUNT - 1) {
+                throw new IllegalArgumentException("Invalid CSV line: " + AsciiNumbers.toString(buffer, start, end));
+            }
+
+            int s = fieldStart;
+            int e = comma;
+            while (s < e && buffer.get(s) <= ' ') {
+                s++;
+            }
+            while (e > s && buffer.get(e - 1) <= ' ') {
+                e--;
+            }
+            fieldStarts[field] = s;
+            fieldEnds[field] = e;
+            fieldStart = comma + 1;
+        }
+
+        builder.add(
+                AsciiNumbers.parseInt(buffer, fieldStarts[0], fieldEnds[0]),  // id
+                buffer,
+                fieldStarts[1], fieldEnds[1],  // ticker
+                fieldStarts[2], fieldEnds[2],  // name
+                AsciiNumbers.parseDouble(buffer, fieldStarts[3], fieldEnds[3]),  // price
+                AsciiNumbers.parseDouble(buffer, fieldStarts[4], fieldEnds[4])   // volatility
+        );
+    }
+
+    private static int nextLine(MappedByteBuffer buffer, int from, int end) {
+        return indexOf(buffer, (byte) '\n', from, end) + 1;
+    }
+
+    private static int indexOf(MappedByteBuffer buffer, byte value, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    @Override
+    public String getSourceName() {
+        return "CSV mapped (" + filepath + ")";
+    }
+}
@@ -4,6 +4,9 @@ import com.velocitytrade.config.ConfigLoader.AppConfig;
 import com.velocitytrade.config.ConfigLoader.MarketDataConfig;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 public class SymbolLoaderFactory {
 
@@ -22,7 +25,7 @@ public class SymbolLoaderFactory {
 
     private static SymbolDataSource createCsvLoader(MarketDataConfig config) {
         String filepath = config.getCsv().getFilepath();
-        return new CsvSymbolLoader(filepath);
+        return new MappedCsvSymbolLoader(filepath);
     }
 
     private static SymbolDataSource createApiLoader(MarketDataConfig config) {
@@ -33,6 +36,27 @@ public class SymbolLoaderFactory {
         int timeout = apiConfig.getTimeout_seconds();
         String fallbackCsv = csvConfig.getFilepath();
 
-        return new YahooFinanceSymbolLoader(baseUrl, timeout, fallbackCsv);
+        var loader = new ConcurrentYahooFinanceSymbolLoader(
+                baseUrl,
+                timeout,
+                fallbackCsv,
+                apiConfig.getMax_concurrent_requests(),
+                apiConfig.getRequests_per_second(),
+                apiConfig.getMax_retries(),
+                apiConfig.getRetry_backoff_ms(),
+                apiConfig.getBatch_size()
+        );
+
+        if (apiConfig.getCache_ttl_hours() <= 0) {
+            return loader;
+        }
+
+        return new CachedSymbolLoader(
+                loader,
+                new CsvSymbolLoader(fallbackCsv),
+                new SymbolSnapshotCache(Paths.get(apiConfig.getCache_path())),
+                TimeUnit.HOURS.toMillis(apiConfig.getCache_ttl_hours()),
+                apiConfig.isRefresh_stale_in_background()
+        );
     }
 }
@@ -0,0 +1,13 @@
+package com.velocitytrade.util;
+
+import com.velocitytrade.marketdata.Symbol;
+
+import java.util.List;
+import java.util.Map;
+
+public interface SymbolPriceFetcher {
+    /**
+     * Returns ticker -> latest price for the symbols that could be fetched; failures are simply absent.
+     */
+    Map<String, Double> fetchPrices(List<Symbol> symbols);
+}
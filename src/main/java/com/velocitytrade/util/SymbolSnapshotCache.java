@@ -0,0 +1,134 @@
+package com.velocitytrade.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary file of fetched prices keyed by ticker.
+ * <p>
+ * Layout: magic, version, count, then per entry {fetchedAtMillis, price, tickerLength, ticker ASCII},
+ * followed by a CRC32 of the entries. Written to a temp file and atomically moved into place.
+ */
+@Slf4j
+public class SymbolSnapshotCache {
+    private static final int MAGIC = 0x56545343;  // "VTSC"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+    private static final int MAX_TICKER_BYTES = 255;
+
+    private final Path path;
+
+    public SymbolSnapshotCache(Path path) {
+        this.path = path;
+    }
+
+    public Map<String, CachedPrice> read() {
+        Map<String, CachedPrice> entries = new HashMap<>();
+        if (!Files.isRegularFile(path)) {
+            return entries;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < HEADER_BYTES + Long.BYTES
+                    || buffer.getInt() != MAGIC
+                    || buffer.getInt() != VERSION) {
+                log.warn("Ignoring unrecognised symbol cache: {}", path);
+                return entries;
+            }
+
+            int count = buffer.getInt();
+            int entriesStart = buffer.position();
+            byte[] tickerBytes = new byte[MAX_TICKER_BYTES];
+
+            for (int i = 0; i < count; i++) {
+                long fetchedAtMillis = buffer.getLong();
+                double price = buffer.getDouble();
+                int tickerLength = buffer.get() & 0xFF;
+                buffer.get(tickerBytes, 0, tickerLength);
+
+                String ticker = new String(tickerBytes, 0, tickerLength, StandardCharsets.US_ASCII);
+                entries.put(ticker, new CachedPrice(price, fetchedAtMillis));
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().position(entriesStart).limit(buffer.position()));
+            if (buffer.getLong() != crc.getValue()) {
+                log.warn("Symbol cache checksum mismatch, ignoring: {}", path);
+                entries.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read symbol cache {}: {}", path, e.toString());
+            entries.clear();
+        }
+
+        return entries;
+    }
+
+    public void write(Map<String, CachedPrice> entries) throws IOException {
+        int size = HEADER_BYTES + Long.BYTES;
+        for (String ticker : entries.keySet()) {
+            size += Long.BYTES + Double.BYTES + 1 + tickerLength(ticker);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(entries.size());
+
+        for (Map.Entry<String, CachedPrice> entry : entries.entrySet()) {
+            byte[] ticker = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            buffer.putLong(entry.getValue().fetchedAtMillis());
+            buffer.putDouble(entry.getValue().price());
+            buffer.put((byte) ticker.length);
+            buffer.put(ticker);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, buffer.position() - HEADER_BYTES);
+        buffer.putLong(crc.getValue());
+        buffer.flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private static int tickerLength(String ticker) {
+        int length = ticker.getBytes(StandardCharsets.US_ASCII).length;
+        if (length > MAX_TICKER_BYTES) {
+            throw new IllegalArgumentException("Ticker too long for cache: " + ticker);
+        }
+        return length;
+    }
+
+    public record CachedPrice(double price, long fetchedAtMillis) {
+        public boolean isFresh(long nowMillis, long ttlMillis) {
+            return nowMillis - fetchedAtMillis <= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.velocitytrade.warmup;
+
+import com.velocitytrade.config.ConfigLoader.WarmupConfig;
+import com.velocitytrade.marketdata.FixedPriceQuote;
+import com.velocitytrade.marketdata.PriceGenerator;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import io.prometheus.client.Gauge;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives synthetic ticks from {@link PriceGenerator} through registered {@link TickStage}s until their
+ * latencies settle, then flips the {@link ReadinessGate} to live.
+ * <p>
+ * Ticks run in rounds; per round and stage the p50 and p99 latencies are logged and published as
+ * {@code velocitytrade_warmup_stage_latency_nanos}. A stage is stable once its p50 has moved less than
+ * the configured tolerance for {@code stable_rounds} consecutive rounds. The gate opens when every stage
+ * is stable and {@code min_iterations} have run, or, with a warning, after {@code max_iterations}.
+ */
+@Slf4j
+public class JitWarmup {
+    public static final String GENERATOR = "generator";
+
+    private static final Gauge STAGE_LATENCY = Gauge.build()
+            .name("velocitytrade_warmup_stage_latency_nanos")
+            .help("Per-round warm-up latency of each pipeline stage")
+            .labelNames("stage", "quantile")
+            .register();
+    private static final Gauge ITERATIONS = Gauge.build()
+            .name("velocitytrade_warmup_iterations")
+            .help("Synthetic ticks driven through the pipeline during warm-up")
+            .register();
+
+    private final SymbolRegistry registry;
+    private final PriceScales scales;
+    private final PriceGenerator generator;
+    private final ReadinessGate gate;
+
+    private final long minIterations;
+    private final long maxIterations;
+    private final int roundSize;
+    private final int stableRounds;
+    private final double tolerance;
+
+    private final List<String> stageNames = new ArrayList<>();
+    private final List<TickStage> stages = new ArrayList<>();
+
+    public JitWarmup(WarmupConfig config, SymbolRegistry registry, PriceScales scales, ReadinessGate gate) {
+        this(registry, scales, gate, new PriceGenerator(config.getSeed()), config.getMin_iterations(),
+                config.getMax_iterations(), config.getRound_size(), config.getStable_rounds(),
+                config.getTolerance_pct() / 100.0);
+    }
+
+    public JitWarmup(SymbolRegistry registry, PriceScales scales, ReadinessGate gate, PriceGenerator generator,
+                     long minIterations, long maxIterations, int roundSize, int stableRounds, double tolerance) {
+        if (roundSize < 1 || stableRounds < 1 || maxIterations < minIterations) {
+            throw new IllegalArgumentException("Invalid warm-up settings: rounds of " + roundSize + ", "
+                    + stableRounds + " stable rounds, iterations " + minIterations + ".." + maxIterations);
+        }
+        if (registry.size() == 0) {
+            throw new IllegalArgumentException("Warm-up needs at least one symbol");
+        }
+
+        this.registry = registry;
+        this.scales = scales;
+        this.gate = gate;
+        this.generator = generator;
+        this.minIterations = minIterations;
+        this.maxIterations = maxIterations;
+        this.roundSize = roundSize;
+        this.stableRounds = stableRounds;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Stages run in registration order after the generator stage.
+     */
+    public JitWarmup addStage(String name, TickStage stage) {
+        stageNames.add(name);
+        stages.add(stage);
+        return this;
+    }
+
+    public Result run() {
+        int stageCount = stages.size() + 1;
+        String[] names = new String[stageCount];
+        names[0] = GENERATOR;
+        for (int i = 1; i < stageCount; i++) {
+            names[i] = stageNames.get(i - 1);
+        }
+
+        int[] symbolIds = new int[registry.size()];
+        long[] mids = new long[registry.idLimit()];
+        double[] liquidity = new double[registry.idLimit()];
+        int symbols = 0;
+        for (int id = 0; id < registry.idLimit(); id++) {
+            if (registry.contains(id)) {
+                symbolIds[symbols++] = id;
+                mids[id] = scales.toUnits(id, registry.initialPrice(id));
+                liquidity[id] = PriceGenerator.estimateLiquidity(registry.symbol(id));
+            }
+        }
+
+        long[][] samples = new long[stageCount][roundSize];
+        long[] previousP50 = new long[stageCount];
+        int[] stableStreak = new int[stageCount];
+        List<StageLatency> curve = new ArrayList<>();
+
+        log.info("JIT warm-up: {} stages {}, {}..{} iterations in rounds of {}",
+                stageCount, Arrays.toString(names), minIterations, maxIterations, roundSize);
+
+        long start = System.nanoTime();
+        long iterations = 0;
+        int round = 0;
+        boolean stable = false;
+
+        while (iterations < maxIterations) {
+            int ticks = (int) Math.min(roundSize, maxIterations - iterations);
+
+            for (int i = 0; i < ticks; i++) {
+                int id = symbolIds[(int) ((iterations + i) % symbols)];
+
+                long t0 = System.nanoTime();
+                FixedPriceQuote quote = generator.nextQuote(mids[id], registry.volatility(id), liquidity[id],
+                        scales.forSymbol(id));
+                long t1 = System.nanoTime();
+                samples[0][i] = t1 - t0;
+                mids[id] = quote.mid();
+
+                for (int s = 0; s < stages.size(); s++) {
+                    stages.get(s).onTick(id, quote.mid(), quote.bid(), quote.ask(), quote.timestamp());
+                    long t2 = System.nanoTime();
+                    samples[s + 1][i] = t2 - t1;
+                    t1 = t2;
+                }
+            }
+            iterations += ticks;
+            round++;
+
+            boolean allStable = true;
+            StringBuilder line = new StringBuilder();
+            for (int s = 0; s < stageCount; s++) {
+                Arrays.sort(samples[s], 0, ticks);
+                long p50 = samples[s][ticks / 2];
+                long p99 = samples[s][Math.min(ticks - 1, (int) (ticks * 0.99))];
+
+                long previous = previousP50[s];
+                boolean settled = round > 1 && Math.abs(p50 - previous) <= Math.max(1, previous * tolerance);
+                stableStreak[s] = settled ? stableStreak[s] + 1 : 0;
+                previousP50[s] = p50;
+                allStable &= stableStreak[s] >= stableRounds;
+
+                curve.add(new StageLatency(round, iterations, names[s], p50, p99));
+                STAGE_LATENCY.labels(names[s], "0.5").set(p50);
+                STAGE_LATENCY.labels(names[s], "0.99").set(p99);
+                line.append(' ').append(names[s]).append('=').append(p50).append('/').append(p99);
+            }
+            ITERATIONS.set(iterations);
+            log.info("Warm-up round {} ({} ticks) p50/p99 ns:{}", round, iterations, line);
+
+            if (allStable && iterations >= minIterations) {
+                stable = true;
+                break;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (stable) {
+            gate.goLive("stage latencies stable after " + iterations + " warm-up ticks in "
+                    + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+        } else {
+            log.warn("Stage latencies did not stabilize within {} warm-up ticks", maxIterations);
+            gate.goLive("warm-up limit of " + maxIterations + " ticks reached");
+        }
+
+        return new Result(iterations, round, stable, elapsed, curve);
+    }
+
+    public record StageLatency(int round, long iterations, String stage, long p50Nanos, long p99Nanos) {
+    }
+
+    /**
+     * @param curve per-round, per-stage latencies in round order
+     */
+    public record Result(long iterations, int rounds, boolean stabilized, long elapsedNanos,
+                         List<StageLatency> curve) {
+    }
+}
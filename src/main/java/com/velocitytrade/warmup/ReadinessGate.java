@@ -0,0 +1,44 @@
+package com.velocitytrade.warmup;
+
+import io.prometheus.client.Gauge;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whether the process has finished warming up and may take live traffic. Flips once, from warming up
+ * to live; published as {@code velocitytrade_ready}.
+ */
+@Slf4j
+public class ReadinessGate {
+    private static final Gauge READY = Gauge.build()
+            .name("velocitytrade_ready")
+            .help("1 once JIT warm-up has finished and the system is live, 0 while warming up")
+            .register();
+
+    private final CountDownLatch live = new CountDownLatch(1);
+
+    public ReadinessGate() {
+        READY.set(0);
+    }
+
+    public boolean isLive() {
+        return live.getCount() == 0;
+    }
+
+    public void goLive(String reason) {
+        if (!isLive()) {
+            live.countDown();
+            READY.set(1);
+            log.info("System is LIVE: {}", reason);
+        }
+    }
+
+    /**
+     * @return false if the timeout elapsed while still warming up
+     */
+    public boolean awaitLive(long timeout, TimeUnit unit) throws InterruptedException {
+        return live.await(timeout, unit);
+    }
+}
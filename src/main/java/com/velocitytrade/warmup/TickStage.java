@@ -0,0 +1,11 @@
+package com.velocitytrade.warmup;
+
+/**
+ * One pipeline step driven per tick during warm-up. Implementations must route side effects to scratch
+ * state (never live books, orders or outbound channels) while running the same code as the live path.
+ */
+@FunctionalInterface
+public interface TickStage {
+
+    void onTick(int symbolId, long mid, long bid, long ask, long timestamp);
+}
@@ -0,0 +1,90 @@
+package com.velocitytrade.warmup;
+
+import com.velocitytrade.gateway.OrderEntryProtocol;
+import com.velocitytrade.ipc.TickMessage;
+import com.velocitytrade.marketdata.LastQuotes;
+import com.velocitytrade.oms.OrderManager;
+import com.velocitytrade.oms.OrderStore;
+import com.velocitytrade.oms.PositionBook;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.velocitytrade.gateway.OrderEntryProtocol.*;
+
+/**
+ * Warm-up stages for the pipeline components, each running the live classes against its own scratch state.
+ */
+public final class WarmupStages {
+    public static final String BOOK = "book";
+    public static final String CODEC = "codec";
+    public static final String OMS = "oms";
+    public static final String POSITIONS = "positions";
+
+    private WarmupStages() {
+    }
+
+    /**
+     * Registers book, codec, OMS and position stages sized for {@code idLimit} symbol ids.
+     */
+    public static void registerDefaults(JitWarmup warmup, int idLimit) {
+        warmup.addStage(BOOK, book(new LastQuotes(idLimit)));
+        warmup.addStage(CODEC, codec());
+        warmup.addStage(OMS, orders(new OrderManager(new OrderStore(1 << 16))));
+        warmup.addStage(POSITIONS, positions(new PositionBook(idLimit)));
+    }
+
+    public static TickStage book(LastQuotes scratch) {
+        return scratch::update;
+    }
+
+    /**
+     * Encodes and decodes the shared-memory tick message and an order-entry frame per tick.
+     */
+    public static TickStage codec() {
+        ByteBuffer tick = ByteBuffer.allocateDirect(TickMessage.LENGTH).order(ByteOrder.nativeOrder());
+        ByteBuffer frame = ByteBuffer.allocateDirect(LENGTH_FIELD_BYTES + MAX_FRAME_BYTES);
+        long[] sink = new long[1];
+
+        return (symbolId, mid, bid, ask, timestamp) -> {
+            tick.putInt(TickMessage.SYMBOL_OFFSET, symbolId)
+                    .putLong(TickMessage.MID_OFFSET, mid)
+                    .putLong(TickMessage.BID_OFFSET, bid)
+                    .putLong(TickMessage.ASK_OFFSET, ask)
+                    .putLong(TickMessage.TIMESTAMP_OFFSET, timestamp);
+
+            frame.clear();
+            OrderEntryProtocol.putNewOrder(frame, timestamp, timestamp, TickMessage.symbolId(tick, 0),
+                    SIDE_BUY, TickMessage.bid(tick, 0), 100, timestamp);
+
+            int body = LENGTH_FIELD_BYTES;
+            sink[0] += frame.getLong(body + NEW_ORDER_PRICE_OFFSET) + frame.getInt(body + NEW_ORDER_QUANTITY_OFFSET)
+                    + TickMessage.ask(tick, 0) + TickMessage.mid(tick, 0);
+        };
+    }
+
+    /**
+     * Each tick places an order at the bid, acks it and fills it, so the store churns through eviction.
+     */
+    public static TickStage orders(OrderManager scratch) {
+        long[] nextOrderId = {1};
+
+        return (symbolId, mid, bid, ask, timestamp) -> {
+            long orderId = nextOrderId[0]++;
+            byte side = (orderId & 1) == 0 ? SIDE_BUY : SIDE_SELL;
+            scratch.onNewOrder(orderId, 0, symbolId, side, bid, 100, timestamp);
+            scratch.onAck(orderId, timestamp);
+            scratch.onFill(orderId, 40, bid, timestamp);
+            scratch.onFill(orderId, 60, mid, timestamp);
+        };
+    }
+
+    public static TickStage positions(PositionBook scratch) {
+        long[] fills = {0};
+
+        return (symbolId, mid, bid, ask, timestamp) -> {
+            boolean buy = (fills[0]++ & 1) == 0;
+            scratch.onFill(symbolId, buy ? SIDE_BUY : SIDE_SELL, 100, buy ? ask : bid);
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.velocitytrade.backtest;
+
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.marketdata.TestSymbols;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BacktestRunnerTest {
+    private final SymbolRegistry registry = TestSymbols.registry();
+    private final PriceScales scales = TestSymbols.scales(registry);
+
+    private static Map<String, Double> momentum(double threshold, double stopLoss, double takeProfit) {
+        Map<String, Double> parameters = new LinkedHashMap<>();
+        parameters.put("momentum_threshold", threshold);
+        parameters.put("stop_loss", stopLoss);
+        parameters.put("take_profit", takeProfit);
+        parameters.put("position_size", 100.0);
+        return parameters;
+    }
+
+    @Test
+    void testGridExpandsCartesianProductOverBase() {
+        Map<String, List<Double>> grid = new LinkedHashMap<>();
+        grid.put("momentum_threshold", List.of(0.001, 0.002));
+        grid.put("stop_loss", List.of(0.005, 0.01, 0.02));
+
+        List<Map<String, Double>> sets = Parameters.grid(momentum(0.5, 0.5, 0.01), grid);
+
+        assertEquals(6, sets.size());
+        assertEquals(Map.of("momentum_threshold", 0.001, "stop_loss", 0.005, "take_profit", 0.01,
+                "position_size", 100.0), sets.get(0));
+        assertEquals(0.002, sets.get(5).get("momentum_threshold").doubleValue());
+        assertEquals(0.02, sets.get(5).get("stop_loss").doubleValue());
+        assertEquals(6, sets.stream().distinct().count());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Parameters.grid(momentum(0.5, 0.5, 0.01), Map.of("stop_loss", List.of())));
+    }
+
+    @Test
+    void testResultsAreIdenticalSerialAndParallel() {
+        List<Map<String, Double>> sets = new ArrayList<>();
+        for (double threshold : new double[]{0.0005, 0.001, 0.002}) {
+            for (double stopLoss : new double[]{0.0025, 0.01}) {
+                sets.add(momentum(threshold, stopLoss, 0.01));
+            }
+        }
+
+        List<BacktestResult> serial = new BacktestRunner(registry, scales, RiskLimits.NONE, "momentum",
+                7, 5_000, 1).run(sets);
+        List<BacktestResult> parallel = new BacktestRunner(registry, scales, RiskLimits.NONE, "momentum",
+                7, 5_000, 4).run(sets);
+
+        assertEquals(sets.size(), serial.size());
+        for (int i = 0; i < serial.size(); i++) {
+            BacktestResult a = serial.get(i);
+            BacktestResult b = parallel.get(i);
+            assertEquals(a.parameters(), b.parameters());
+            assertEquals(a.totalPnl(), b.totalPnl());
+            assertEquals(a.maxDrawdown(), b.maxDrawdown());
+            assertEquals(a.trades(), b.trades());
+            assertEquals(15_000, a.ticks());
+        }
+        for (int i = 1; i < serial.size(); i++) {
+            assertTrue(serial.get(i - 1).totalPnl() >= serial.get(i).totalPnl());
+        }
+        assertTrue(serial.stream().anyMatch(r -> r.trades() > 0));
+    }
+
+    @Test
+    void testSimulationsDoNotShareState() throws Exception {
+        Map<String, Double> parameters = momentum(0.001, 0.005, 0.01);
+        double[] liquidity = {0.97, 0.97, 0.97};
+
+        BacktestResult alone = new Simulation(registry, scales, liquidity, "momentum", parameters,
+                RiskLimits.NONE, 3, 2_000).call();
+        List<BacktestResult> crowded = new BacktestRunner(registry, scales, RiskLimits.NONE, "momentum",
+                3, 2_000, 4).run(List.of(momentum(0.0005, 0.0025, 0.005), momentum(0.004, 0.02, 0.02)));
+        BacktestResult again = new Simulation(registry, scales, liquidity, "momentum", parameters,
+                RiskLimits.NONE, 3, 2_000).call();
+
+        assertEquals(2, crowded.size());
+        assertEquals(alone.totalPnl(), again.totalPnl());
+        assertEquals(alone.trades(), again.trades());
+        assertEquals(alone.sharesTraded(), again.sharesTraded());
+    }
+
+    @Test
+    void testRiskLimitsClampPositionsAndHaltOnLoss() throws Exception {
+        double[] liquidity = {0.97, 0.97, 0.97};
+
+        // Every move enters; positions of 500 are clamped to 200
+        BacktestResult clamped = new Simulation(registry, scales, liquidity, "momentum",
+                Map.of("momentum_threshold", 0.0, "stop_loss", 1.0, "take_profit", 1.0, "position_size", 500.0),
+                new RiskLimits(200, Double.MAX_VALUE, 0), 11, 1_000).call();
+        assertTrue(clamped.riskRejects() > 0);
+        assertTrue(clamped.sharesTraded() <= clamped.trades() * 200);
+
+        // Orders over the value cap are refused outright
+        BacktestResult refused = new Simulation(registry, scales, liquidity, "momentum",
+                Map.of("momentum_threshold", 0.0, "stop_loss", 1.0, "take_profit", 1.0, "position_size", 100.0),
+                new RiskLimits(Long.MAX_VALUE, 1_000, 0), 11, 1_000).call();
+        assertEquals(0, refused.trades());
+        assertTrue(refused.riskRejects() > 0);
+
+        // Paying the spread on every flip loses money until the loss limit flattens and stops the run
+        BacktestResult halted = new Simulation(registry, scales, liquidity, "momentum",
+                Map.of("momentum_threshold", 0.0, "stop_loss", 0.0, "take_profit", 0.0, "position_size", 1000.0),
+                new RiskLimits(Long.MAX_VALUE, Double.MAX_VALUE, 500), 11, 10_000).call();
+        assertTrue(halted.halted());
+        assertTrue(halted.ticks() < 30_000);
+        assertEquals(halted.totalPnl(), halted.realizedPnl(), 1e-6, "flat after the halt");
+        assertTrue(halted.totalPnl() <= -500);
+    }
+
+    @Test
+    void testSummaryTableHasRowPerResult() {
+        List<BacktestResult> results = new BacktestRunner(registry, scales, RiskLimits.NONE, "arbitrage", 5, 2_000, 2)
+                .run(List.of(
+                        Map.of("lookback_window", 50.0, "entry_threshold_zscore", 2.0,
+                                "exit_threshold_zscore", 0.5, "position_size", 100.0),
+                        Map.of("lookback_window", 100.0, "entry_threshold_zscore", 1.5,
+                                "exit_threshold_zscore", 0.25, "position_size", 100.0)));
+
+        String table = BacktestRunner.summaryTable(results);
+        String[] lines = table.split("\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("lookback_window"));
+        assertTrue(lines[0].contains("total_pnl"));
+        assertTrue(lines[1].trim().startsWith("1"));
+        assertTrue(lines[2].trim().startsWith("2"));
+
+        assertThrows(IllegalArgumentException.class, () -> new BacktestRunner(registry, scales, RiskLimits.NONE,
+                "arbitrage", 5, 2_000, 2).run(List.of(Map.of("lookback_window", 50.0))));
+    }
+}
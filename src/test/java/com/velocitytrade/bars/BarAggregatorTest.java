@@ -0,0 +1,141 @@
+package com.velocitytrade.bars;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BarAggregatorTest {
+    private static final long T0 = 1_699_999_980_000L;  // minute-aligned
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testTimeframeParsing() {
+        assertEquals(1_000, Timeframe.parse("1s").millis());
+        assertEquals(300_000, Timeframe.parse("5m").millis());
+        assertEquals(3_600_000, Timeframe.parse("1h").millis());
+        assertEquals(T0 + 60_000, Timeframe.parse("1m").bucketStart(T0 + 60_999));
+        assertThrows(IllegalArgumentException.class, () -> Timeframe.parse("5x"));
+        assertThrows(IllegalArgumentException.class, () -> Timeframe.parse("m"));
+        assertThrows(IllegalArgumentException.class, () -> Timeframe.parse("0s"));
+    }
+
+    @Test
+    void testBarsCloseOnNextBucketAcrossTimeframes() {
+        List<long[]> bars = new ArrayList<>();
+        BarAggregator aggregator = new BarAggregator(4,
+                List.of(Timeframe.parse("1s"), Timeframe.parse("1m")),
+                (tf, symbolId, start, open, high, low, close, volume, count) ->
+                        bars.add(new long[]{tf, symbolId, start, open, high, low, close, volume, count}));
+
+        aggregator.onTick(2, 100, 10, T0);
+        aggregator.onTick(2, 105, 5, T0 + 200);
+        aggregator.onTick(2, 98, 0, T0 + 400);
+        aggregator.onTick(2, 101, 1, T0 + 999);
+        assertTrue(bars.isEmpty());
+        assertEquals(105, aggregator.openBarHigh(0, 2));
+
+        aggregator.onTick(2, 103, 2, T0 + 1_000);
+        assertEquals(1, bars.size());
+        assertArrayEquals(new long[]{0, 2, T0, 100, 105, 98, 101, 16, 4}, bars.get(0));
+
+        aggregator.onTick(2, 110, 1, T0 + 60_000);
+        assertEquals(3, bars.size());
+        assertArrayEquals(new long[]{0, 2, T0 + 1_000, 103, 103, 103, 103, 2, 1}, bars.get(1));
+        assertArrayEquals(new long[]{1, 2, T0, 100, 105, 98, 103, 18, 5}, bars.get(2));
+    }
+
+    @Test
+    void testQuietSymbolsCloseOnTimerAndLateTicksAreDropped() {
+        List<long[]> bars = new ArrayList<>();
+        BarAggregator aggregator = new BarAggregator(4, List.of(Timeframe.parse("1s")),
+                (tf, symbolId, start, open, high, low, close, volume, count) ->
+                        bars.add(new long[]{symbolId, start, close}));
+
+        aggregator.onTick(0, 100, 1, T0 + 10);
+        aggregator.onTick(1, 200, 1, T0 + 20);
+        aggregator.onTick(1, 201, 1, T0 + 5);
+
+        assertEquals(0, aggregator.closeElapsed(T0 + 999));
+        assertEquals(2, aggregator.closeElapsed(T0 + 1_000));
+        assertEquals(201, bars.get(1)[2], "Out-of-order tick folded into the open bar");
+        assertFalse(aggregator.hasOpenBar(0, 0));
+
+        aggregator.onTick(0, 99, 1, T0 + 500);
+        assertEquals(1, aggregator.getLateTicks());
+        assertEquals(2, aggregator.getBarsClosed());
+    }
+
+    @Test
+    void testTickForAnEarlierBucketDoesNotTouchTheOpenBar() {
+        List<long[]> bars = new ArrayList<>();
+        BarAggregator aggregator = new BarAggregator(4, List.of(Timeframe.parse("1s")),
+                (tf, symbolId, start, open, high, low, close, volume, count) ->
+                        bars.add(new long[]{start, close, count}));
+
+        aggregator.onTick(0, 100, 1, T0 + 1_000);
+        aggregator.onTick(0, 90, 1, T0 + 500);
+
+        assertEquals(1, aggregator.getLateTicks());
+        assertEquals(100, aggregator.openBarClose(0, 0));
+        assertEquals(100, aggregator.openBarLow(0, 0));
+
+        aggregator.closeElapsed(T0 + 2_000);
+        assertArrayEquals(new long[]{T0 + 1_000, 100, 1}, bars.get(0));
+    }
+
+    @Test
+    void testClosedBarsAreStoredInColumnarSegments() throws IOException {
+        Timeframe oneSecond = Timeframe.parse("1s");
+
+        try (BarStores stores = new BarStores(tempDir, List.of(oneSecond), 4)) {
+            BarAggregator aggregator = new BarAggregator(2, stores.getTimeframes(), stores);
+            for (int second = 0; second < 7; second++) {
+                aggregator.onTick(0, 1_000 + second, 1, T0 + second * 1_000L);
+                aggregator.onTick(1, 2_000 + second, 2, T0 + second * 1_000L);
+            }
+            aggregator.closeElapsed(T0 + 7_000);
+            assertEquals(14, stores.store(0).getTotalRows());
+        }
+
+        List<BarSegment> segments = BarStore.openSegments(tempDir, oneSecond);
+        assertEquals(5, BarStore.segmentPaths(tempDir, oneSecond).size(), "Next segment is pre-allocated");
+        assertEquals(4, segments.size());
+        assertEquals(4, segments.get(0).rows());
+        assertEquals(2, segments.get(3).rows());
+
+        long sumOfCloses = 0;
+        int rows = 0;
+        for (BarSegment segment : segments) {
+            LongBuffer closes = segment.closes();
+            while (closes.hasRemaining()) {
+                sumOfCloses += closes.get();
+                rows++;
+            }
+        }
+        assertEquals(14, rows);
+        assertEquals(7 * 1_000 + 7 * 2_000 + 2 * 21, sumOfCloses);
+
+        BarSegment first = segments.get(0);
+        assertEquals(0, first.symbolId(0));
+        assertEquals(T0, first.start(0));
+        assertEquals(2, first.volume(1));
+        assertEquals(1, first.count(1));
+        assertEquals(1_000, first.timeframeMillis());
+
+        // Reopening continues the last segment
+        try (BarStore store = new BarStore(tempDir, oneSecond, 4)) {
+            assertEquals(14, store.getTotalRows());
+            store.append(0, T0 + 7_000, 1, 1, 1, 1, 0, 1);
+        }
+        assertEquals(3, BarStore.openSegments(tempDir, oneSecond).get(3).rows());
+    }
+}
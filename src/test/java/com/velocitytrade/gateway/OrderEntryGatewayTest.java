@@ -0,0 +1,211 @@
+package com.velocitytrade.gateway;
+
+import com.velocitytrade.config.ConfigLoader.GatewayConfig;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.marketdata.TestSymbols;
+import com.velocitytrade.stats.StatsCounters;
+import com.velocitytrade.threading.IdleStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.velocitytrade.gateway.OrderEntryProtocol.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEntryGatewayTest {
+
+    private final List<long[]> received = new CopyOnWriteArrayList<>();
+    private final SymbolRegistry registry = TestSymbols.registry();
+
+    private OrderEntryGateway gateway;
+
+    private OrderEntryGateway startGateway(int maxOrdersPerSecond) throws IOException {
+        GatewayConfig config = new GatewayConfig();
+        config.setPort(0);
+
+        OrderHandler handler = (sessionId, orderId, symbolId, side, price, quantity, timestamp) -> {
+            received.add(new long[]{sessionId, orderId, symbolId, side, price, quantity});
+            return REJECT_NONE;
+        };
+
+        gateway = new OrderEntryGateway(config, maxOrdersPerSecond, handler, registry,
+                new IdleStrategy.PhasedBackoff(10_000, 100_000, 1_000_000));
+        gateway.start(task -> new Thread(task, "test-gateway"));
+        return gateway;
+    }
+
+    private OrderEntryClient connect() throws IOException {
+        return new OrderEntryClient(new InetSocketAddress("127.0.0.1", gateway.getPort()));
+    }
+
+    @AfterEach
+    void teardown() {
+        if (gateway != null) {
+            gateway.close();
+        }
+    }
+
+    @Test
+    void testOrdersAreAcknowledgedInSequence() throws IOException {
+        startGateway(100);
+
+        try (OrderEntryClient client = connect()) {
+            client.queueNewOrder(1001, 0, SIDE_BUY, 1_500_000, 100);
+            client.queueNewOrder(1002, 1, SIDE_SELL, 3_802_500, 50);
+            client.queueNewOrder(1003, 0, SIDE_SELL, 1_500_100, 100);
+            client.flush();
+
+            for (int i = 0; i < 3; i++) {
+                OrderEntryClient.Response response = client.readResponse();
+                assertTrue(response.isAck(), "Expected ACK, got reject " + response.rejectReason());
+                assertEquals(i + 1, response.sequence());
+                assertEquals(1001 + i, response.orderId());
+            }
+        }
+
+        assertEquals(3, received.size());
+        long[] second = received.get(1);
+        assertEquals(1002, second[1]);
+        assertEquals(1, second[2]);
+        assertEquals(SIDE_SELL, second[3]);
+        assertEquals(3_802_500, second[4]);
+        assertEquals(50, second[5]);
+    }
+
+    @Test
+    void testThrottleUsesMaxOrdersPerSecond() throws IOException {
+        startGateway(5);
+
+        try (OrderEntryClient client = connect()) {
+            for (int i = 0; i < 10; i++) {
+                client.queueNewOrder(i, 0, SIDE_BUY, 1_500_000, 100);
+            }
+            client.flush();
+
+            int acks = 0;
+            int throttled = 0;
+            for (int i = 0; i < 10; i++) {
+                OrderEntryClient.Response response = client.readResponse();
+                if (response.isAck()) {
+                    acks++;
+                } else if (response.rejectReason() == REJECT_THROTTLED) {
+                    throttled++;
+                }
+            }
+
+            assertEquals(5, acks);
+            assertEquals(5, throttled);
+        }
+
+        StatsCounters stats = gateway.getStats();
+        assertEquals(10, stats.get(StatsCounters.MESSAGES));
+        assertEquals(5, stats.get(OrderEntryGateway.STAT_ACCEPTED));
+        assertEquals(5, stats.get(OrderEntryGateway.STAT_THROTTLED));
+    }
+
+    @Test
+    void testThrottleIsSharedAcrossSessionsAndSkipsInvalidOrders() throws IOException {
+        startGateway(4);
+
+        try (OrderEntryClient first = connect(); OrderEntryClient second = connect()) {
+            for (int i = 0; i < 3; i++) {
+                first.queueNewOrder(i, 0, SIDE_BUY, 1_500_000, 0);
+            }
+            first.flush();
+            for (int i = 0; i < 3; i++) {
+                assertEquals(REJECT_INVALID_ORDER, first.readResponse().rejectReason());
+            }
+
+            for (int i = 0; i < 3; i++) {
+                first.sendNewOrder(10 + i, 0, SIDE_BUY, 1_500_000, 100);
+                assertTrue(first.readResponse().isAck(), "Invalid orders must not spend throttle tokens");
+            }
+
+            int acks = 0;
+            int throttled = 0;
+            for (int i = 0; i < 3; i++) {
+                second.sendNewOrder(20 + i, 1, SIDE_SELL, 3_802_500, 50);
+                OrderEntryClient.Response response = second.readResponse();
+                if (response.isAck()) {
+                    acks++;
+                } else if (response.rejectReason() == REJECT_THROTTLED) {
+                    throttled++;
+                }
+            }
+
+            assertEquals(1, acks, "Second session only gets what is left of the shared budget");
+            assertEquals(2, throttled);
+        }
+
+        assertEquals(2, gateway.getStats().get(OrderEntryGateway.STAT_THROTTLED));
+    }
+
+    @Test
+    void testInvalidOrdersRejected() throws IOException {
+        startGateway(100);
+
+        try (OrderEntryClient client = connect()) {
+            client.sendNewOrder(1, 99, SIDE_BUY, 1_500_000, 100);
+            assertEquals(REJECT_UNKNOWN_SYMBOL, client.readResponse().rejectReason());
+
+            client.sendNewOrder(2, 0, (byte) 'X', 1_500_000, 100);
+            assertEquals(REJECT_INVALID_ORDER, client.readResponse().rejectReason());
+
+            client.sendNewOrder(3, 0, SIDE_BUY, 1_500_000, 0);
+            assertEquals(REJECT_INVALID_ORDER, client.readResponse().rejectReason());
+        }
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void testSequenceGapClosesSession() throws IOException {
+        startGateway(100);
+
+        try (OrderEntryClient client = connect()) {
+            client.queueNewOrder(1, 1, 0, SIDE_BUY, 1_500_000, 100);
+            client.flush();
+            assertTrue(client.readResponse().isAck());
+
+            client.queueNewOrder(3, 2, 0, SIDE_BUY, 1_500_000, 100);
+            client.flush();
+
+            OrderEntryClient.Response response = client.readResponse();
+            assertEquals(REJECT, response.type());
+            assertEquals(REJECT_SEQUENCE_GAP, response.rejectReason());
+            assertThrows(EOFException.class, client::readResponse);
+        }
+    }
+
+    @Test
+    void testManyConcurrentSessions() throws IOException {
+        int sessions = 500;
+        startGateway(sessions);
+
+        List<OrderEntryClient> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < sessions; i++) {
+                OrderEntryClient client = connect();
+                clients.add(client);
+                client.sendNewOrder(i, i % 2, SIDE_BUY, 1_500_000, 100);
+            }
+
+            for (OrderEntryClient client : clients) {
+                assertTrue(client.readResponse().isAck());
+            }
+            assertEquals(sessions, gateway.getSessionCount());
+        } finally {
+            for (OrderEntryClient client : clients) {
+                client.close();
+            }
+        }
+
+        assertEquals(sessions, received.size());
+    }
+}
@@ -0,0 +1,199 @@
+package com.velocitytrade.ipc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShmRingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadersKeepIndependentCursors() throws IOException {
+        Path path = tempDir.resolve("ticks");
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 16, 64)) {
+            ShmRingReader fast = new ShmRingReader(path);
+            ShmRingReader slow = new ShmRingReader(path);
+
+            for (int i = 0; i < 5; i++) {
+                TickMessage.publish(writer, i, 1_500_000 + i, 1_499_900, 1_500_100, i);
+            }
+
+            List<Integer> fastSymbols = new ArrayList<>();
+            assertEquals(5, fast.poll((buffer, offset, length, sequence) -> {
+                assertEquals(TickMessage.LENGTH, length);
+                assertEquals(1_500_000 + sequence, TickMessage.mid(buffer, offset));
+                fastSymbols.add(TickMessage.symbolId(buffer, offset));
+            }, 100));
+            assertEquals(List.of(0, 1, 2, 3, 4), fastSymbols);
+
+            assertEquals(2, slow.poll((buffer, offset, length, sequence) -> { }, 2));
+            assertEquals(2, slow.getPosition());
+            assertEquals(3, slow.getLag());
+            assertEquals(0, fast.getLag());
+            assertEquals(3, slow.poll((buffer, offset, length, sequence) -> { }, 100));
+        }
+    }
+
+    @Test
+    void testNewReaderStartsLiveOrFromOldest() throws IOException {
+        Path path = tempDir.resolve("ticks");
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 8, 64)) {
+            for (int i = 0; i < 12; i++) {
+                TickMessage.publish(writer, i, 1, 1, 1, i);
+            }
+
+            ShmRingReader live = new ShmRingReader(path);
+            ShmRingReader replay = new ShmRingReader(path, true);
+
+            assertEquals(12, live.getPosition());
+            assertEquals(0, live.poll((buffer, offset, length, sequence) -> { }, 100));
+
+            List<Long> sequences = new ArrayList<>();
+            replay.poll((buffer, offset, length, sequence) -> sequences.add(sequence), 100);
+            assertEquals(List.of(4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L), sequences);
+            assertEquals(0, replay.getOverruns());
+        }
+    }
+
+    @Test
+    void testSlowReaderOverrunIsDetected() throws IOException {
+        Path path = tempDir.resolve("ticks");
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 8, 64)) {
+            ShmRingReader reader = new ShmRingReader(path);
+
+            for (int i = 0; i < 20; i++) {
+                TickMessage.publish(writer, i, 1, 1, 1, i);
+            }
+            assertEquals(0, reader.poll((buffer, offset, length, sequence) -> fail("overrun slot delivered"), 100));
+            assertEquals(1, reader.getOverruns());
+            assertEquals(20, reader.getMessagesLost());
+
+            TickMessage.publish(writer, 42, 1, 1, 1, 0);
+            int[] symbol = {-1};
+            assertEquals(1, reader.poll((buffer, offset, length, sequence) ->
+                    symbol[0] = TickMessage.symbolId(buffer, offset), 100));
+            assertEquals(42, symbol[0]);
+        }
+    }
+
+    @Test
+    void testWriterRestartResumesSequence() throws IOException {
+        Path path = tempDir.resolve("ticks");
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 16, 64)) {
+            TickMessage.publish(writer, 1, 1, 1, 1, 0);
+            TickMessage.publish(writer, 2, 1, 1, 1, 0);
+        }
+        ShmRingReader reader = new ShmRingReader(path);
+
+        try (ShmRingWriter restarted = new ShmRingWriter(path, 16, 64)) {
+            assertEquals(2, restarted.getSequence());
+            TickMessage.publish(restarted, 3, 1, 1, 1, 0);
+        }
+
+        int[] symbol = {-1};
+        assertEquals(1, reader.poll((buffer, offset, length, sequence) ->
+                symbol[0] = TickMessage.symbolId(buffer, offset), 100));
+        assertEquals(3, symbol[0]);
+
+        try (ShmRingWriter resized = new ShmRingWriter(path, 32, 64)) {
+            assertEquals(0, resized.getSequence());
+        }
+    }
+
+    @Test
+    void testInvalidGeometryAndOversizedMessagesRejected() throws IOException {
+        Path path = tempDir.resolve("ticks");
+
+        assertThrows(IllegalArgumentException.class, () -> new ShmRingWriter(path, 10, 64));
+        assertThrows(IllegalArgumentException.class, () -> new ShmRingWriter(path, 16, 20));
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 16, 64)) {
+            ByteBuffer tooBig = ByteBuffer.allocate(writer.getMaxPayloadBytes() + 1);
+            assertThrows(IllegalArgumentException.class, () -> writer.publish(tooBig, 0, tooBig.capacity()));
+        }
+
+        assertThrows(IOException.class, () -> new ShmRingReader(tempDir.resolve("missing")));
+    }
+
+    @Test
+    void testOversizedPublishLeavesRingIntact() throws IOException {
+        Path path = tempDir.resolve("ticks");
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 4, 64)) {
+            ShmRingReader reader = new ShmRingReader(path);
+            TickMessage.publish(writer, 1, 1_500_000, 1_499_900, 1_500_100, 1);
+
+            ByteBuffer tooBig = ByteBuffer.allocate(writer.getMaxPayloadBytes() + 16);
+            for (int i = 0; i < tooBig.capacity(); i++) {
+                tooBig.put(i, (byte) 0x7F);
+            }
+            assertThrows(IllegalArgumentException.class, () -> writer.publish(tooBig, 0, tooBig.capacity()));
+            assertEquals(1, writer.getSequence());
+
+            TickMessage.publish(writer, 2, 1_600_000, 1_599_900, 1_600_100, 2);
+
+            List<Long> mids = new ArrayList<>();
+            List<Long> sequences = new ArrayList<>();
+            assertEquals(2, reader.poll((buffer, offset, length, sequence) -> {
+                assertEquals(TickMessage.LENGTH, length);
+                mids.add(TickMessage.mid(buffer, offset));
+                sequences.add(sequence);
+            }, 100));
+            assertEquals(List.of(1_500_000L, 1_600_000L), mids);
+            assertEquals(List.of(0L, 1L), sequences);
+            assertEquals(0, reader.getOverruns());
+
+            assertThrows(IllegalStateException.class, () -> writer.commit(0));
+        }
+    }
+
+    @Test
+    void testConcurrentWriterNeverDeliversTornMessages() throws Exception {
+        Path path = tempDir.resolve("ticks");
+        int messages = 500_000;
+
+        try (ShmRingWriter writer = new ShmRingWriter(path, 1024, 64)) {
+            ShmRingReader reader = new ShmRingReader(path);
+
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < messages; i++) {
+                    TickMessage.publish(writer, i, i * 3L, i * 5L, i * 7L, i);
+                }
+            });
+            producer.start();
+
+            long[] delivered = {0};
+            ShmMessageHandler check = (buffer, offset, length, sequence) -> {
+                long i = TickMessage.timestamp(buffer, offset);
+                assertEquals(sequence, i);
+                assertEquals(i * 3, TickMessage.mid(buffer, offset));
+                assertEquals(i * 5, TickMessage.bid(buffer, offset));
+                assertEquals(i * 7, TickMessage.ask(buffer, offset));
+                delivered[0]++;
+            };
+
+            while (producer.isAlive() || reader.getLag() > 0) {
+                if (reader.poll(check, 256) == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+            producer.join();
+
+            assertEquals(messages, reader.getPosition());
+            assertEquals(messages, delivered[0] + reader.getMessagesLost());
+        }
+    }
+}
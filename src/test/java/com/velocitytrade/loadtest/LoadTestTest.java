@@ -0,0 +1,148 @@
+package com.velocitytrade.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.velocitytrade.config.ConfigLoader.LoadTestConfig;
+import com.velocitytrade.marketdata.LastQuotes;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.marketdata.TestSymbols;
+import com.velocitytrade.oms.OrderManager;
+import com.velocitytrade.oms.OrderStore;
+import com.velocitytrade.threading.IdleStrategy;
+import com.velocitytrade.warmup.WarmupStages;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestTest {
+    private final SymbolRegistry registry = TestSymbols.registry();
+    private final PriceScales scales = TestSymbols.scales(registry);
+    private final TickTape tape = TickTape.generate(registry, scales, 42, 4_096);
+
+    @TempDir
+    Path dir;
+
+    private static IdleStrategy idle() {
+        return new IdleStrategy.PhasedBackoff(TimeUnit.MICROSECONDS.toNanos(20), TimeUnit.MICROSECONDS.toNanos(50),
+                TimeUnit.MICROSECONDS.toNanos(200));
+    }
+
+    private static LoadStep step(long rate, long millis, boolean warmup) {
+        return new LoadStep(rate, TimeUnit.MILLISECONDS.toNanos(millis), warmup);
+    }
+
+    @Test
+    void testPlanBuildsWarmupAndRampSteps() {
+        LoadTestConfig config = new LoadTestConfig();
+        config.setWarmup_sec(2);
+        config.setStep_duration_sec(5);
+        config.setRates(List.of(1_000L, 2_000L));
+
+        List<LoadStep> steps = LoadStep.plan(config);
+        assertEquals(3, steps.size());
+        assertTrue(steps.get(0).warmup());
+        assertEquals(1_000, steps.get(0).rate());
+        assertEquals(2_000, steps.get(0).ticks());
+        assertEquals(10_000, steps.get(2).ticks());
+        assertEquals(500_000, steps.get(2).intendedOffset(1));
+
+        config.setRamp_start_rate(100_000);
+        config.setRamp_end_rate(400_000);
+        config.setRamp_step_rate(100_000);
+        config.setWarmup_sec(0);
+        steps = LoadStep.plan(config);
+        assertEquals(List.of(100_000L, 200_000L, 300_000L, 400_000L),
+                steps.stream().map(LoadStep::rate).toList());
+        assertFalse(steps.get(0).warmup());
+    }
+
+    @Test
+    void testRunMeasuresEveryTickThroughThePipeline() throws Exception {
+        LoadTest test = new LoadTest(tape, List.of(step(5_000, 100, true), step(5_000, 200, false),
+                step(10_000, 200, false)), dir.resolve("ring"), 1 << 14, TimeUnit.SECONDS.toNanos(10), 0.05, idle())
+                .addStage(WarmupStages.BOOK, WarmupStages.book(new LastQuotes(registry.idLimit())))
+                .addStage(WarmupStages.CODEC, WarmupStages.codec())
+                .addStage(WarmupStages.OMS, WarmupStages.orders(new OrderManager(new OrderStore(1 << 12))));
+
+        LoadTestReport report = test.run(Executors.defaultThreadFactory(), Executors.defaultThreadFactory());
+
+        assertEquals(List.of("book", "codec", "oms"), report.pipeline());
+        assertEquals(3, report.symbols());
+        assertEquals(2, report.steps().size(), "warm-up step not reported");
+
+        StepResult first = report.steps().get(0);
+        assertEquals(5_000, first.targetRate());
+        assertEquals(1_000, first.ticksSent());
+        assertEquals(0, first.ticksLost());
+        assertEquals(1_000, first.corrected().count());
+        assertEquals(1_000, first.uncorrected().count());
+        assertTrue(first.corrected().p50Nanos() >= first.uncorrected().p50Nanos());
+        assertTrue(first.corrected().maxNanos() >= first.corrected().p999Nanos());
+        assertTrue(first.endSec() > first.startSec());
+
+        assertEquals(2_000, report.steps().get(1).ticksProcessed());
+        assertFalse(Files.exists(dir.resolve("ring")), "ring removed after the run");
+
+        Path json = dir.resolve("out/report.json");
+        Path log = dir.resolve("out/report.hlog");
+        report.writeJson(json);
+        report.writeHistogramLog(log);
+
+        JsonNode node = new ObjectMapper().readTree(json.toFile());
+        assertEquals(2, node.get("steps").size());
+        assertEquals(10_000, node.get("steps").get(1).get("target_rate").asLong());
+        assertTrue(node.get("steps").get(0).get("corrected").has("p999_nanos"));
+        assertFalse(node.get("steps").get(0).has("corrected_histogram"));
+
+        List<String> lines = Files.readAllLines(log);
+        assertEquals(1, lines.stream().filter(l -> l.startsWith("Tag=corrected-5000,")).count());
+        assertEquals(1, lines.stream().filter(l -> l.startsWith("Tag=uncorrected-10000,")).count());
+    }
+
+    @Test
+    void testSlowPipelineIsReportedAsSaturated() throws Exception {
+        LoadTest test = new LoadTest(tape, List.of(step(200, 200, false), step(20_000, 100, false)),
+                dir.resolve("ring"), 1 << 14, TimeUnit.SECONDS.toNanos(10), 0.05, idle())
+                .addStage("slow", (symbolId, mid, bid, ask, timestamp) -> LockSupport.parkNanos(200_000));
+
+        LoadTestReport report = test.run(Executors.defaultThreadFactory(), Executors.defaultThreadFactory());
+
+        assertFalse(report.steps().get(0).saturated());
+        StepResult overloaded = report.steps().get(1);
+        assertTrue(overloaded.saturated());
+        assertEquals(Long.valueOf(20_000), report.saturationRate());
+        assertTrue(overloaded.achievedRate() < 20_000 * 0.95);
+        assertEquals(2_000, overloaded.ticksProcessed(), "backlog drained, nothing lost");
+
+        // Queueing behind the stall is charged to every tick from its scheduled send time
+        assertTrue(overloaded.corrected().p99Nanos() > TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void testTicksOverwrittenInASmallRingRecordMaximumLatency() throws Exception {
+        long maxLatency = TimeUnit.SECONDS.toNanos(10);
+        LoadTest test = new LoadTest(tape, List.of(step(20_000, 100, false)), dir.resolve("ring"), 256, maxLatency,
+                0.05, idle())
+                .addStage("slow", (symbolId, mid, bid, ask, timestamp) -> LockSupport.parkNanos(200_000));
+
+        LoadTestReport report = test.run(Executors.defaultThreadFactory(), Executors.defaultThreadFactory());
+
+        StepResult overrun = report.steps().get(0);
+        assertTrue(overrun.saturated());
+        assertEquals(2_000, overrun.ticksSent());
+        assertTrue(overrun.ticksLost() > 0, "backlog larger than the ring");
+        assertEquals(overrun.ticksSent(), overrun.ticksProcessed() + overrun.ticksLost());
+        assertEquals(overrun.ticksSent(), overrun.corrected().count(), "lost ticks charged to the corrected histogram");
+        assertEquals(overrun.ticksProcessed(), overrun.uncorrected().count());
+        assertTrue(overrun.corrected().maxNanos() >= maxLatency);
+    }
+}
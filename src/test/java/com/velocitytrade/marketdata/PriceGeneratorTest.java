@@ -1,5 +1,7 @@
 package com.velocitytrade.marketdata;
 
+import com.velocitytrade.stats.StatsCounters;
+import com.velocitytrade.stats.StatsReporter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
@@ -7,6 +9,7 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -127,6 +130,40 @@ class PriceGeneratorTest {
         System.out.println("Quote: " + quote);
     }
 
+    @Test
+    void testQuoteToStringUsesFixedDecimals() {
+        PriceQuote quote = new PriceQuote(150.256, 149.9, 150.1, 13.3333, 0);
+        assertEquals("Quote[mid=150.26, bid=149.90, ask=150.10, spread=13.3bps]", quote.toString());
+    }
+
+    @Test
+    void testJumpEventsCounted() {
+        PriceGenerator jumpy = new PriceGenerator(7, 0.0, 0.01, 1.0, 0.0, 0.005, false);
+        for (int i = 0; i < 100; i++) {
+            jumpy.nextPrice(INITIAL_PRICE, VOLATILITY);
+        }
+        assertEquals(100, jumpy.getJumpEvents());
+    }
+
+    @Test
+    void testJumpEventsReportedThroughStats() {
+        List<String> lines = new ArrayList<>();
+        StatsReporter reporter = new StatsReporter(10, TimeUnit.SECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(5),
+                8, false, (level, line) -> lines.add(line));
+        PriceGenerator jumpy = new PriceGenerator(7, 0.0, 0.01, 1.0, 0.0, 0.005, false, reporter);
+
+        for (int i = 0; i < 10; i++) {
+            jumpy.nextPrice(INITIAL_PRICE, VOLATILITY);
+        }
+        reporter.poll(System.nanoTime());
+
+        assertEquals(10, jumpy.getStats().get(StatsCounters.MESSAGES));
+        assertEquals(10, jumpy.getStats().get(PriceGenerator.STAT_JUMPS));
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("generator: "), lines.get(0));
+        assertTrue(lines.get(0).contains("jumps=+10"), lines.get(0));
+    }
+
     @Test
     void testLiquidityImpactsSpread() {
         // High liquidity should have tighter spread
@@ -250,6 +287,82 @@ class PriceGeneratorTest {
         System.out.printf("StdDev: %.4f (expected: %.4f)\n", stdDevReturn, expectedStdDev);
     }
 
+    @Test
+    void testFixedPointPricesAreTickAligned() {
+        PriceScale scale = PriceScale.of(10_000, 0.05);
+        long price = scale.toUnits(INITIAL_PRICE);
+
+        for (int i = 0; i < 10000; i++) {
+            price = generator.nextPrice(price, VOLATILITY, scale);
+            assertTrue(scale.isTickAligned(price), "Price must be tick aligned, got: " + price);
+            assertTrue(price >= scale.tickUnits(), "Price must be at least one tick, got: " + price);
+        }
+    }
+
+    @Test
+    void testFixedPointReplayIsExact() {
+        PriceScale scale = PriceScale.of(10_000, 0.01);
+        PriceGenerator gen1 = new PriceGenerator(99999L);
+        PriceGenerator gen2 = new PriceGenerator(99999L);
+        LocalTime time = LocalTime.of(11, 0);
+
+        long price1 = scale.toUnits(INITIAL_PRICE);
+        long price2 = price1;
+
+        for (int i = 0; i < 1000; i++) {
+            price1 = gen1.nextPrice(price1, VOLATILITY, scale, time);
+            price2 = gen2.nextPrice(price2, VOLATILITY, scale, time);
+            assertEquals(price1, price2);
+        }
+    }
+
+    @Test
+    void testFixedPointQuoteValid() {
+        PriceScale scale = PriceScale.of(10_000, 0.01);
+        FixedPriceQuote quote = generator.nextQuote(scale.toUnits(INITIAL_PRICE), VOLATILITY, 0.95, scale);
+
+        assertTrue(quote.isValid(), "Quote should be valid: " + quote);
+        assertTrue(scale.isTickAligned(quote.bid()) && scale.isTickAligned(quote.ask()));
+        assertTrue(quote.spreadUnits() >= 2 * scale.tickUnits());
+
+        PriceQuote doubleQuote = quote.toPriceQuote(scale);
+        assertEquals(scale.toDouble(quote.mid()), doubleQuote.mid(), 0.0);
+    }
+
+    @Test
+    void testFixedPointBidNeverBelowOneTick() {
+        PriceScale scale = PriceScale.of(10_000, 0.01);
+        long mid = scale.tickUnits();
+
+        for (int i = 0; i < 1_000; i++) {
+            FixedPriceQuote quote = generator.nextQuote(mid, 5.0, 0.1, scale);
+            assertTrue(quote.isValid(), "Quote should be valid: " + quote);
+            assertTrue(quote.bid() >= scale.tickUnits(), "Bid below one tick: " + quote);
+            assertTrue(quote.ask() > quote.mid());
+            mid = Math.min(quote.mid(), 3 * scale.tickUnits());
+        }
+    }
+
+    @Test
+    void testInPlaceQuoteMatchesRecordQuote() {
+        PriceScale scale = PriceScale.of(10_000, 0.01);
+        PriceGenerator recordGenerator = new PriceGenerator(7);
+        PriceGenerator inPlaceGenerator = new PriceGenerator(7);
+        LastQuotes quotes = new LastQuotes(1);
+        long mid = scale.toUnits(INITIAL_PRICE);
+        quotes.update(0, mid, 0, 0, 0);
+
+        for (int i = 0; i < 1_000; i++) {
+            FixedPriceQuote quote = recordGenerator.nextQuote(mid, VOLATILITY, 0.95, scale, LocalTime.NOON);
+            inPlaceGenerator.nextQuote(0, VOLATILITY, 0.95, scale, LocalTime.NOON, quotes);
+
+            assertEquals(quote.mid(), quotes.mid(0));
+            assertEquals(quote.bid(), quotes.bid(0));
+            assertEquals(quote.ask(), quotes.ask(0));
+            mid = quote.mid();
+        }
+    }
+
     /**
      * Helper: Calculate standard deviation
      */
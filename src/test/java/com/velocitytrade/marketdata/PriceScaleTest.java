@@ -0,0 +1,78 @@
+package com.velocitytrade.marketdata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceScaleTest {
+
+    private final PriceScale cents = PriceScale.of(10_000, 0.01);
+
+    @Test
+    void testConversionRoundTrip() {
+        assertEquals(100, cents.tickUnits());
+        assertEquals(1_955_000, cents.toUnits(195.50));
+        assertEquals(195.50, cents.toDouble(1_955_000), 0.0);
+        assertEquals(0.01, cents.tickSize(), 1e-12);
+
+        // Float noise never moves a price off its tick
+        assertEquals(3_000, cents.toUnits(0.1 + 0.2));
+        assertEquals(1_955_000, cents.toUnitsFloor(195.50));
+        assertEquals(1_955_000, cents.toUnitsCeil(195.50));
+    }
+
+    @Test
+    void testRounding() {
+        assertEquals(1_955_100, cents.toUnits(195.5051));
+        assertEquals(1_955_000, cents.toUnitsFloor(195.5099));
+        assertEquals(1_955_100, cents.toUnitsCeil(195.5001));
+
+        assertEquals(1_000, cents.roundToTick(1_049));
+        assertEquals(1_100, cents.roundToTick(1_050));
+        assertEquals(1_000, cents.floorToTick(1_099));
+        assertEquals(1_100, cents.ceilToTick(1_001));
+        assertEquals(-1_000, cents.ceilToTick(-1_099));
+        assertTrue(cents.isTickAligned(1_200));
+        assertFalse(cents.isTickAligned(1_201));
+        assertEquals(12, cents.toTicks(1_200));
+
+        PriceScale halves = new PriceScale(10_000, 5_000);
+        assertEquals(10_000, halves.toUnits(0.75));
+        assertEquals(-5_000, halves.toUnits(-0.75), "Ties round towards positive infinity");
+    }
+
+    @Test
+    void testConvertBetweenScales() {
+        PriceScale wire = new PriceScale(100, 1);  // Main's test message: 15000 == $150.00
+
+        assertEquals(1_500_000, cents.convertFrom(15_000, wire));
+        assertEquals(15_000, wire.convertFrom(1_500_000, cents));
+    }
+
+    @Test
+    void testInvalidTickSize() {
+        assertThrows(IllegalArgumentException.class, () -> PriceScale.of(100, 0.001));
+        assertThrows(IllegalArgumentException.class, () -> PriceScale.of(10_000, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new PriceScale(0, 1));
+    }
+
+    @Test
+    void testPerSymbolOverrides() {
+        List<Symbol> symbols = new ArrayList<>(TestSymbols.symbols());
+        symbols.add(new Symbol(3, "BRK-A", 600_000.0, 0.015));
+        SymbolRegistry registry = SymbolRegistry.of(symbols);
+
+        PriceScales scales = PriceScales.of(registry, 10_000, 0.01, Map.of("BRK-A", 1.0));
+
+        assertEquals(100, scales.forSymbol(0).tickUnits());
+        assertEquals(10_000, scales.forSymbol(3).tickUnits());
+        assertEquals(6_000_000_000L, scales.toUnits(3, 600_000.40));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PriceScales.of(registry, 10_000, 0.01, Map.of("GOOG", 0.05)));
+    }
+}
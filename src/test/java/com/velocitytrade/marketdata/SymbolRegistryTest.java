@@ -0,0 +1,101 @@
+package com.velocitytrade.marketdata;
+
+import com.velocitytrade.util.CsvSymbolLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolRegistryTest {
+
+    private List<Symbol> symbols;
+    private SymbolRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        symbols = new CsvSymbolLoader("config/sp100.csv").loadSymbols();
+        registry = SymbolRegistry.of(symbols);
+    }
+
+    @Test
+    void testResolvesEveryTicker() {
+        assertEquals(100, registry.size());
+
+        for (Symbol symbol : symbols) {
+            assertEquals(symbol.id(), registry.idOf(symbol.ticker()));
+            assertEquals(symbol.ticker(), registry.ticker(symbol.id()));
+            assertEquals(symbol.initialPrice(), registry.initialPrice(symbol.id()), 0.0);
+            assertEquals(symbol.volatility(), registry.volatility(symbol.id()), 0.0);
+            assertEquals(symbol, registry.symbol(symbol.id()));
+        }
+    }
+
+    @Test
+    void testLookupFromBytesBufferAndCharSequence() {
+        byte[] message = "SUB|MSFT|100".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(message.length).put(message);
+
+        assertEquals(1, registry.idOf(message, 4, 4));
+        assertEquals(1, registry.idOf(direct, 4, 4));
+        assertEquals(message.length, direct.position(), "Buffer position must be untouched");
+
+        StringBuilder builder = new StringBuilder("AAP").append('L');
+        assertEquals(0, registry.idOf(builder));
+    }
+
+    @Test
+    void testUnknownTickers() {
+        assertEquals(SymbolRegistry.NOT_FOUND, registry.idOf("ZZZZ"));
+        assertEquals(SymbolRegistry.NOT_FOUND, registry.idOf("AAP"));
+        assertEquals(SymbolRegistry.NOT_FOUND, registry.idOf("AAPLX"));
+        assertEquals(SymbolRegistry.NOT_FOUND, registry.idOf("ÄAPL"));
+        assertEquals(SymbolRegistry.NOT_FOUND, registry.idOf(new byte[0], 0, 0));
+        assertFalse(registry.contains(100));
+        assertFalse(registry.contains(-1));
+    }
+
+    @Test
+    void testDuplicateTickerRejected() {
+        List<Symbol> duplicates = List.of(
+                new Symbol(0, "AAA", 1.0, 0.01),
+                new Symbol(1, "AAA", 2.0, 0.01));
+
+        assertThrows(IllegalArgumentException.class, () -> SymbolRegistry.of(duplicates));
+    }
+
+    @Test
+    void testLargeUniverse() {
+        List<Symbol> universe = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            universe.add(new Symbol(i, "OPT" + i, 1.0 + i, 0.02));
+        }
+        SymbolRegistry large = SymbolRegistry.of(universe);
+
+        StringBuilder ticker = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            ticker.setLength(0);
+            ticker.append("OPT").append(i);
+            assertEquals(i, large.idOf(ticker));
+        }
+    }
+
+    @Test
+    void testFingerprintTracksIdToTickerMapping() {
+        List<Symbol> reversed = new ArrayList<>(symbols);
+        Collections.reverse(reversed);
+        assertEquals(registry.fingerprint(), SymbolRegistry.of(reversed).fingerprint(), "Row order does not matter");
+
+        List<Symbol> swapped = new ArrayList<>(symbols);
+        Symbol first = symbols.get(0);
+        Symbol second = symbols.get(1);
+        swapped.set(0, new Symbol(first.id(), second.ticker(), first.initialPrice(), first.volatility()));
+        swapped.set(1, new Symbol(second.id(), first.ticker(), second.initialPrice(), second.volatility()));
+        assertNotEquals(registry.fingerprint(), SymbolRegistry.of(swapped).fingerprint());
+    }
+}
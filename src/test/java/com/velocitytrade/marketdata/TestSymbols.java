@@ -0,0 +1,28 @@
+package com.velocitytrade.marketdata;
+
+import java.util.List;
+
+/**
+ * Three-symbol universe shared by the pipeline tests, priced in cents at a scale of 10,000 units.
+ */
+public final class TestSymbols {
+    public static final PriceScale SCALE = PriceScale.of(10_000, 0.01);
+
+    private TestSymbols() {
+    }
+
+    public static List<Symbol> symbols() {
+        return List.of(
+                new Symbol(0, "AAPL", 195.50, 0.022),
+                new Symbol(1, "MSFT", 380.25, 0.0195),
+                new Symbol(2, "TSLA", 245.00, 0.045));
+    }
+
+    public static SymbolRegistry registry() {
+        return SymbolRegistry.of(symbols());
+    }
+
+    public static PriceScales scales(SymbolRegistry registry) {
+        return PriceScales.uniform(registry.idLimit(), SCALE);
+    }
+}
@@ -0,0 +1,141 @@
+package com.velocitytrade.monitoring;
+
+import com.velocitytrade.config.ConfigLoader;
+import com.velocitytrade.config.ConfigLoader.AllocationConfig;
+import com.velocitytrade.config.ConfigLoader.AppConfig;
+import com.velocitytrade.loadtest.TickTape;
+import com.velocitytrade.marketdata.LastQuotes;
+import com.velocitytrade.marketdata.PriceGenerator;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.marketdata.TestSymbols;
+import com.velocitytrade.oms.OrderManager;
+import com.velocitytrade.oms.OrderStore;
+import com.velocitytrade.oms.PositionBook;
+import com.velocitytrade.threading.CpuSet;
+import com.velocitytrade.threading.PipelineThreads;
+import com.velocitytrade.threading.WaitStrategyType;
+import com.velocitytrade.warmup.JitWarmup;
+import com.velocitytrade.warmup.TickStage;
+import com.velocitytrade.warmup.WarmupStages;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationMonitorTest {
+    private final SymbolRegistry registry = TestSymbols.registry();
+    private final PriceScales scales = TestSymbols.scales(registry);
+    private final TickTape tape = TickTape.generate(registry, scales, 42, 4_096);
+
+    @Test
+    void testSteadyStateStagesStayWithinAllocationBudget() throws Exception {
+        AppConfig config = ConfigLoader.loadConfig("config/application.yaml");
+        AllocationConfig allocation = config.getAllocation();
+        assertNotNull(allocation);
+
+        PriceGenerator generator = new PriceGenerator(42);
+        LastQuotes generated = new LastQuotes(registry.idLimit());
+        for (int id = 0; id < registry.idLimit(); id++) {
+            generated.update(id, scales.toUnits(id, registry.initialPrice(id)), 0, 0, 0);
+        }
+
+        Map<String, TickStage> stages = new LinkedHashMap<>();
+        stages.put(JitWarmup.GENERATOR, (symbolId, mid, bid, ask, timestamp) -> generator.nextQuote(symbolId,
+                registry.volatility(symbolId), 0.95, scales.forSymbol(symbolId), LocalTime.NOON, generated));
+        stages.put(WarmupStages.BOOK, WarmupStages.book(new LastQuotes(registry.idLimit())));
+        stages.put(WarmupStages.CODEC, WarmupStages.codec());
+        stages.put(WarmupStages.OMS, WarmupStages.orders(new OrderManager(new OrderStore(1 << 12))));
+        stages.put(WarmupStages.POSITIONS, WarmupStages.positions(new PositionBook(registry.idLimit())));
+
+        List<String> overBudget = new ArrayList<>();
+        for (Map.Entry<String, TickStage> stage : stages.entrySet()) {
+            StageAllocation result = AllocationProbe.measure(stage.getKey(), stage.getValue(), tape,
+                    allocation.getWarmup_ticks(), allocation.getMeasure_ticks());
+            assertEquals(allocation.getMeasure_ticks(), result.ticks());
+            if (!result.isWithinBudget(allocation.getBudget_bytes_per_million_ticks())) {
+                overBudget.add(stage.getKey() + "=" + (long) result.bytesPerMillionTicks());
+            }
+        }
+
+        assertTrue(overBudget.isEmpty(), "Stages over " + allocation.getBudget_bytes_per_million_ticks()
+                + " bytes per million ticks: " + overBudget);
+    }
+
+    @Test
+    void testAllocatingStageExceedsBudget() {
+        long[] sink = {0};
+        TickStage formatting = (symbolId, mid, bid, ask, timestamp) -> sink[0] += Long.toString(mid).length();
+
+        StageAllocation result = AllocationProbe.measure("formatting", formatting, tape, 10_000, 100_000);
+
+        assertTrue(result.allocatedBytes() > 100_000, "allocated " + result.allocatedBytes());
+        assertFalse(result.isWithinBudget(64 * 1024));
+        assertTrue(sink[0] > 0);
+    }
+
+    @Test
+    void testMeasureRejectsEmptyRun() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AllocationProbe.measure(WarmupStages.CODEC, WarmupStages.codec(), tape, 0, 0));
+    }
+
+    @Test
+    void testOnlyStopTheWorldCollectorsCountAsPauses() {
+        for (String name : List.of("G1 Young Generation", "G1 Old Generation", "ZGC Pauses", "ZGC Major Pauses",
+                "Shenandoah Pauses", "Copy", "MarkSweepCompact", "PS Scavenge", "PS MarkSweep")) {
+            assertTrue(AllocationMonitor.isPauseCollector(name), name);
+        }
+        for (String name : List.of("G1 Concurrent GC", "ZGC Cycles", "ZGC Major Cycles", "Shenandoah Cycles")) {
+            assertFalse(AllocationMonitor.isPauseCollector(name), name);
+        }
+    }
+
+    @Test
+    void testMonitorTracksPipelineThreadAllocation() throws Exception {
+        AllocationMonitor monitor = new AllocationMonitor(TimeUnit.MILLISECONDS.toNanos(10));
+        PipelineThreads threads = new PipelineThreads(WaitStrategyType.SLEEPING, 1_000, 1_000)
+                .configure(PipelineThreads.STRATEGY, WaitStrategyType.SLEEPING, CpuSet.EMPTY)
+                .monitorAllocations(monitor);
+
+        byte[][] garbage = new byte[64][];
+        CountDownLatch allocated = new CountDownLatch(1);
+        CountDownLatch sampled = new CountDownLatch(1);
+        Thread thread = threads.newThread(PipelineThreads.STRATEGY, () -> {
+            for (int i = 0; i < garbage.length; i++) {
+                garbage[i] = new byte[16 * 1024];
+            }
+            allocated.countDown();
+            try {
+                sampled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        assertTrue(allocated.await(5, TimeUnit.SECONDS));
+
+        List<AllocationMonitor.StageSample> samples = monitor.sample(System.nanoTime());
+        sampled.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals(1, samples.size());
+        AllocationMonitor.StageSample sample = samples.get(0);
+        assertEquals(PipelineThreads.STRATEGY, sample.stage());
+        assertTrue(sample.allocatedBytes() >= 64 * 16 * 1024, "allocated " + sample.allocatedBytes());
+        assertTrue(sample.bytesPerSecond() > 0);
+
+        // The thread has exited; its last reading is kept and nothing new is attributed to the stage
+        AllocationMonitor.StageSample next = monitor.sample(System.nanoTime()).get(0);
+        assertEquals(sample.allocatedBytes(), next.allocatedBytes());
+        assertEquals(0.0, next.bytesPerSecond());
+        assertEquals(sample.gcPauses(), next.gcPauses());
+    }
+}
@@ -0,0 +1,170 @@
+package com.velocitytrade.oms;
+
+import com.velocitytrade.config.ConfigLoader.OmsConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderManagerTest {
+    private static final byte BUY = 'B';
+
+    private OrderManager manager(int capacity) {
+        OmsConfig config = new OmsConfig();
+        config.setMax_orders(capacity);
+        return new OrderManager(config);
+    }
+
+    @Test
+    void testFullLifecycleWithPartialFills() {
+        OrderManager oms = manager(16);
+
+        assertTrue(oms.onNewOrder(1001, 7, 3, BUY, 1_500_000, 100, 10));
+        assertEquals(OrderState.PENDING_NEW, oms.state(1001));
+
+        assertTrue(oms.onAck(1001, 20));
+        assertTrue(oms.onFill(1001, 40, 1_500_000, 30));
+        assertEquals(OrderState.PARTIALLY_FILLED, oms.state(1001));
+
+        assertTrue(oms.onFill(1001, 60, 1_500_100, 40));
+        assertEquals(OrderState.FILLED, oms.state(1001));
+
+        OrderStore store = oms.store();
+        int slot = store.slotOf(1001);
+        assertEquals(7, store.sessionId(slot));
+        assertEquals(3, store.symbolId(slot));
+        assertEquals(100, store.filledQuantity(slot));
+        assertEquals(0, store.leavesQuantity(slot));
+        assertEquals(1_500_060.0, store.averageFillPrice(slot), 1e-9);
+        assertEquals(10, store.createdTime(slot));
+        assertEquals(40, store.updatedTime(slot));
+        assertEquals(0, store.openOrders());
+    }
+
+    @Test
+    void testCancelFlows() {
+        OrderManager oms = manager(16);
+
+        oms.onNewOrder(1, 0, 0, BUY, 100, 10, 0);
+        oms.onAck(1, 0);
+        assertTrue(oms.onCancelRequest(1, 0));
+        assertEquals(OrderState.CANCEL_PENDING, oms.state(1));
+        assertTrue(oms.onCancelled(1, 0));
+        assertEquals(OrderState.CANCELLED, oms.state(1));
+
+        oms.onNewOrder(2, 0, 0, BUY, 100, 10, 0);
+        oms.onAck(2, 0);
+        oms.onFill(2, 4, 100, 0);
+        oms.onCancelRequest(2, 0);
+        assertTrue(oms.onCancelReject(2, 0));
+        assertEquals(OrderState.PARTIALLY_FILLED, oms.state(2));
+
+        oms.onCancelRequest(2, 0);
+        assertTrue(oms.onFill(2, 6, 100, 0), "Fill racing a cancel is applied");
+        assertEquals(OrderState.FILLED, oms.state(2));
+        assertFalse(oms.onCancelled(2, 0));
+
+        oms.onNewOrder(3, 0, 0, BUY, 100, 10, 0);
+        assertTrue(oms.onReject(3, (byte) 6, 0));
+        assertEquals(OrderState.REJECTED, oms.state(3));
+        assertEquals(6, oms.store().rejectReason(oms.store().slotOf(3)));
+    }
+
+    @Test
+    void testInvalidEventsAreCountedAndIgnored() {
+        OrderManager oms = manager(16);
+
+        assertFalse(oms.onAck(99, 0));
+        assertEquals(1, oms.getUnknownOrderEvents());
+
+        oms.onNewOrder(1, 0, 0, BUY, 100, 10, 0);
+        assertFalse(oms.onNewOrder(1, 0, 0, BUY, 100, 10, 0));
+        assertFalse(oms.onNewOrder(2, 0, 0, BUY, 100, 0, 0));
+        assertEquals(2, oms.getOrdersRefused());
+
+        assertFalse(oms.onFill(1, 5, 100, 0), "Fill before ack");
+        oms.onAck(1, 0);
+        assertFalse(oms.onAck(1, 0));
+        assertFalse(oms.onFill(1, 11, 100, 0), "Overfill");
+        assertEquals(3, oms.getInvalidTransitions());
+        assertEquals(0, oms.store().filledQuantity(oms.store().slotOf(1)));
+    }
+
+    @Test
+    void testOldestTerminalOrdersAreEvictedWhenFull() {
+        OrderManager oms = manager(4);
+
+        for (long id = 1; id <= 4; id++) {
+            oms.onNewOrder(id, 0, 0, BUY, 100, 10, 0);
+        }
+        oms.onReject(2, (byte) 1, 0);
+        oms.onReject(4, (byte) 1, 0);
+
+        assertTrue(oms.onNewOrder(5, 0, 0, BUY, 100, 10, 0));
+        assertNull(oms.state(2), "Oldest terminal order evicted");
+        assertEquals(OrderState.REJECTED, oms.state(4));
+        assertEquals(OrderState.PENDING_NEW, oms.state(1));
+        assertEquals(1, oms.store().evicted());
+
+        assertTrue(oms.onNewOrder(6, 0, 0, BUY, 100, 10, 0));
+        assertNull(oms.state(4));
+        assertTrue(oms.store().isFull());
+        long refused = oms.getOrdersRefused();
+        assertFalse(oms.onNewOrder(7, 0, 0, BUY, 100, 10, 0), "Full store refuses rather than throws");
+        assertEquals(refused + 1, oms.getOrdersRefused());
+        assertNull(oms.state(7));
+        assertEquals(4, oms.store().openOrders());
+    }
+
+    @Test
+    void testIndexStaysConsistentUnderChurn() {
+        int capacity = 1 << 12;
+        OrderManager oms = manager(capacity);
+        OrderStore store = oms.store();
+        Random random = new Random(42);
+
+        Map<Long, OrderState> expected = new HashMap<>();
+        List<Long> open = new ArrayList<>();
+        List<Long> terminal = new ArrayList<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long id = random.nextLong();
+            if (open.size() < capacity / 2) {
+                assertTrue(oms.onNewOrder(id, 0, 0, BUY, 100, 10, i));
+                oms.onAck(id, i);
+                open.add(id);
+                expected.put(id, OrderState.ACKED);
+                if (store.size() == capacity && !terminal.isEmpty()) {
+                    expected.remove(terminal.remove(0));
+                }
+            }
+
+            if (!open.isEmpty() && random.nextInt(3) > 0) {
+                long done = open.remove(random.nextInt(open.size()));
+                oms.onFill(done, 10, 100, i);
+                terminal.add(done);
+                expected.put(done, OrderState.FILLED);
+            }
+        }
+
+        for (Map.Entry<Long, OrderState> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), oms.state(entry.getKey()));
+        }
+        assertEquals(open.size(), store.openOrders());
+
+        int[] visited = {0};
+        store.forEachOpen(slot -> {
+            assertTrue(open.contains(store.orderId(slot)));
+            visited[0]++;
+        });
+        assertEquals(open.size(), visited[0]);
+        for (int i = 0; i < store.openOrders(); i++) {
+            assertTrue(open.contains(store.orderId(store.openSlot(i))));
+        }
+    }
+}
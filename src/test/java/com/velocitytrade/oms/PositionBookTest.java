@@ -0,0 +1,44 @@
+package com.velocitytrade.oms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionBookTest {
+    private static final byte BUY = 'B';
+    private static final byte SELL = 'S';
+
+    @Test
+    void testAveragePriceAndRealizedPnl() {
+        PositionBook book = new PositionBook(4);
+
+        book.onFill(1, BUY, 100, 1_000_000);
+        book.onFill(1, BUY, 100, 1_010_000);
+        assertEquals(200, book.position(1));
+        assertEquals(1_005_000.0, book.averagePrice(1), 1e-9);
+
+        book.onFill(1, SELL, 50, 1_025_000);
+        assertEquals(150, book.position(1));
+        assertEquals(50 * 20_000.0, book.realizedPnl(1), 1e-9);
+        assertEquals(1_005_000.0, book.averagePrice(1), 1e-9);
+        assertEquals(150 * -5_000.0, book.unrealizedPnl(1, 1_000_000), 1e-9);
+
+        book.onFill(1, SELL, 150, 1_005_000);
+        assertEquals(0, book.position(1));
+        assertEquals(0.0, book.averagePrice(1));
+        assertEquals(0.0, book.unrealizedPnl(1, 2_000_000));
+    }
+
+    @Test
+    void testFillThroughFlatOpensOppositePosition() {
+        PositionBook book = new PositionBook(4);
+
+        book.onFill(2, SELL, 100, 2_000_000);
+        book.onFill(2, BUY, 150, 1_900_000);
+
+        assertEquals(50, book.position(2));
+        assertEquals(1_900_000.0, book.averagePrice(2), 1e-9);
+        assertEquals(100 * 100_000.0, book.realizedPnl(2), 1e-9);
+        assertEquals(book.realizedPnl(2), book.totalRealizedPnl(), 1e-9);
+    }
+}
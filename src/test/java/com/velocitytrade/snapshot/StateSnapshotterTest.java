@@ -0,0 +1,256 @@
+package com.velocitytrade.snapshot;
+
+import com.velocitytrade.marketdata.FeedSequences;
+import com.velocitytrade.marketdata.LastQuotes;
+import com.velocitytrade.marketdata.Symbol;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.oms.OrderManager;
+import com.velocitytrade.oms.OrderState;
+import com.velocitytrade.oms.OrderStore;
+import com.velocitytrade.oms.PositionBook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateSnapshotterTest {
+    private static final byte BUY = 'B';
+    private static final int SYMBOLS = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private LastQuotes quotes;
+    private PositionBook positions;
+    private OrderManager oms;
+    private FeedSequences feeds;
+
+    private static SymbolRegistry universe(int count, String prefix) {
+        List<Symbol> symbols = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            symbols.add(new Symbol(id, prefix + id, 100.0, 0.02));
+        }
+        return SymbolRegistry.of(symbols);
+    }
+
+    private StateSnapshotter newSnapshotter(Path path) {
+        return newSnapshotter(path, universe(SYMBOLS, "S"));
+    }
+
+    private StateSnapshotter newSnapshotter(Path path, SymbolRegistry registry) {
+        return newSnapshotter(path, registry, 10_000);
+    }
+
+    private StateSnapshotter newSnapshotter(Path path, SymbolRegistry registry, int maxOpenOrders) {
+        quotes = new LastQuotes(SYMBOLS);
+        positions = new PositionBook(SYMBOLS);
+        oms = new OrderManager(new OrderStore(10_000));
+        feeds = new FeedSequences(2);
+        return new StateSnapshotter(path, TimeUnit.MILLISECONDS.toNanos(100), maxOpenOrders, registry, quotes,
+                positions, oms.store(), feeds);
+    }
+
+    private static void awaitWritten(StateSnapshotter snapshotter, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (snapshotter.getSnapshotsWritten() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, snapshotter.getSnapshotsWritten());
+    }
+
+    @Test
+    void testRestoreRecoversQuotesPositionsOrdersAndSequences() throws Exception {
+        Path path = tempDir.resolve("state.bin");
+
+        try (StateSnapshotter snapshotter = newSnapshotter(path)) {
+            for (int id = 0; id < SYMBOLS; id++) {
+                quotes.update(id, 1_000_000 + id, 999_900 + id, 1_000_100 + id, id);
+            }
+            positions.onFill(7, BUY, 300, 1_500_000);
+            feeds.set(0, 123_456);
+            feeds.set(1, 42);
+
+            for (long orderId = 1; orderId <= 5_000; orderId++) {
+                oms.onNewOrder(orderId, 1, (int) (orderId % SYMBOLS), BUY, 1_000_000, 100, orderId);
+                oms.onAck(orderId, orderId);
+            }
+            oms.onFill(10, 40, 1_000_100, 99);
+            oms.onFill(11, 100, 1_000_100, 99);
+
+            snapshotter.start(task -> new Thread(task, "test-snapshot"));
+            assertTrue(snapshotter.capture(System.nanoTime()));
+            awaitWritten(snapshotter, 1);
+        }
+
+        try (StateSnapshotter restarted = newSnapshotter(path)) {
+            assertTrue(restarted.restore());
+
+            assertEquals(1_000_500, quotes.mid(500));
+            assertEquals(999_900 + 999, quotes.bid(999));
+            assertEquals(300, positions.position(7));
+            assertEquals(1_500_000.0, positions.averagePrice(7), 1e-9);
+            assertEquals(123_456, feeds.get(0));
+            assertEquals(42, feeds.get(1));
+
+            assertEquals(4_999, oms.store().openOrders(), "Filled order 11 is not restored");
+            assertNull(oms.state(11));
+            assertEquals(OrderState.PARTIALLY_FILLED, oms.state(10));
+            int slot = oms.store().slotOf(10);
+            assertEquals(40, oms.store().filledQuantity(slot));
+            assertEquals(1_000_100.0, oms.store().averageFillPrice(slot), 1e-9);
+
+            assertTrue(oms.onFill(10, 60, 1_000_000, 200), "Restored orders keep their lifecycle");
+            assertEquals(OrderState.FILLED, oms.state(10));
+        }
+    }
+
+    @Test
+    void testTornRegionFallsBackToPreviousSnapshot() throws Exception {
+        Path path = tempDir.resolve("state.bin");
+
+        try (StateSnapshotter snapshotter = newSnapshotter(path)) {
+            snapshotter.start(task -> new Thread(task, "test-snapshot"));
+
+            feeds.set(0, 1);
+            snapshotter.capture(System.nanoTime());
+            awaitWritten(snapshotter, 1);
+
+            feeds.set(0, 2);
+            snapshotter.capture(System.nanoTime());
+            awaitWritten(snapshotter, 2);
+        }
+        assertEquals(2, SnapshotFile.readLatest(path).generation());
+
+        // Corrupt the body of the newer snapshot (second region)
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long secondRegionBody = (channel.size() - 64) / 2 + 64 + 32;
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF, (byte) 0xFF}), secondRegionBody + 20);
+        }
+
+        try (StateSnapshotter restarted = newSnapshotter(path)) {
+            assertTrue(restarted.restore());
+            assertEquals(1, feeds.get(0));
+        }
+    }
+
+    @Test
+    void testCaptureIsSkippedWhileWriterBusyAndHonorsInterval() throws IOException {
+        StateSnapshotter snapshotter = newSnapshotter(tempDir.resolve("state.bin"));
+
+        long now = System.nanoTime();
+        assertTrue(snapshotter.captureIfDue(now));
+        assertFalse(snapshotter.captureIfDue(now + TimeUnit.MILLISECONDS.toNanos(50)));
+
+        // Writer thread never started, so the first capture is still pending
+        assertFalse(snapshotter.captureIfDue(now + TimeUnit.MILLISECONDS.toNanos(150)));
+        assertEquals(1, snapshotter.getCapturesSkipped());
+        assertFalse(snapshotter.restore());
+    }
+
+    @Test
+    void testCaptureIsSkippedWhileOpenOrdersExceedTheBound() throws Exception {
+        Path path = tempDir.resolve("state.bin");
+
+        try (StateSnapshotter snapshotter = newSnapshotter(path, universe(SYMBOLS, "S"), 2_000)) {
+            for (long orderId = 1; orderId <= 2_500; orderId++) {
+                oms.onNewOrder(orderId, 1, 0, BUY, 1_000_000, 100, orderId);
+                oms.onAck(orderId, orderId);
+            }
+            snapshotter.start(task -> new Thread(task, "test-snapshot"));
+
+            assertFalse(snapshotter.capture(System.nanoTime()));
+            assertEquals(1, snapshotter.getCapturesSkipped());
+
+            for (long orderId = 1; orderId <= 500; orderId++) {
+                oms.onFill(orderId, 100, 1_000_000, orderId);
+            }
+            assertTrue(snapshotter.capture(System.nanoTime()));
+            awaitWritten(snapshotter, 1);
+        }
+
+        assertEquals(2_000, SnapshotFile.readLatest(path).body().getInt(8));
+    }
+
+    @Test
+    void testMismatchedSymbolUniverseIsNotRestored() throws Exception {
+        Path path = tempDir.resolve("state.bin");
+
+        try (StateSnapshotter snapshotter = newSnapshotter(path)) {
+            snapshotter.start(task -> new Thread(task, "test-snapshot"));
+            snapshotter.capture(System.nanoTime());
+            awaitWritten(snapshotter, 1);
+        }
+
+        StateSnapshotter other = new StateSnapshotter(path, 1, 10, universe(10, "S"), new LastQuotes(10),
+                new PositionBook(10), new OrderStore(10), new FeedSequences(2));
+        assertFalse(other.restore());
+    }
+
+    @Test
+    void testSameSizeDifferentUniverseIsNotRestored() throws Exception {
+        Path path = tempDir.resolve("state.bin");
+
+        try (StateSnapshotter snapshotter = newSnapshotter(path)) {
+            quotes.update(0, 1_000_000, 999_900, 1_000_100, 1);
+            snapshotter.start(task -> new Thread(task, "test-snapshot"));
+            snapshotter.capture(System.nanoTime());
+            awaitWritten(snapshotter, 1);
+        }
+
+        List<Symbol> swapped = new ArrayList<>();
+        for (int id = 0; id < SYMBOLS; id++) {
+            int ticker = id < 2 ? 1 - id : id;
+            swapped.add(new Symbol(id, "S" + ticker, 100.0, 0.02));
+        }
+        try (StateSnapshotter reordered = newSnapshotter(path, SymbolRegistry.of(swapped))) {
+            assertFalse(reordered.restore());
+            assertEquals(0, quotes.mid(0));
+        }
+        try (StateSnapshotter substituted = newSnapshotter(path, universe(SYMBOLS, "T"))) {
+            assertFalse(substituted.restore());
+        }
+        try (StateSnapshotter same = newSnapshotter(path)) {
+            assertTrue(same.restore());
+            assertEquals(1_000_000, quotes.mid(0));
+        }
+    }
+
+    @Test
+    void testEncodeVisitsOnlyOpenOrders() throws Exception {
+        Path path = tempDir.resolve("state.bin");
+
+        try (StateSnapshotter snapshotter = newSnapshotter(path)) {
+            for (long orderId = 1; orderId <= 3_000; orderId++) {
+                oms.onNewOrder(orderId, 1, 0, BUY, 1_000_000, 100, orderId);
+                oms.onAck(orderId, orderId);
+                if (orderId % 3 != 0) {
+                    oms.onFill(orderId, 100, 1_000_000, orderId);
+                }
+            }
+            assertEquals(1_000, oms.store().openOrders());
+
+            snapshotter.start(task -> new Thread(task, "test-snapshot"));
+            snapshotter.capture(System.nanoTime());
+            awaitWritten(snapshotter, 1);
+        }
+
+        ByteBuffer body = SnapshotFile.readLatest(path).body();
+        assertEquals(1_000, body.getInt(8));
+
+        try (StateSnapshotter restarted = newSnapshotter(path)) {
+            assertTrue(restarted.restore());
+            assertEquals(1_000, oms.store().openOrders());
+            assertEquals(OrderState.ACKED, oms.state(3));
+            assertNull(oms.state(4));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.velocitytrade.stats;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsReporterTest {
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final List<Level> levels = new CopyOnWriteArrayList<>();
+
+    private StatsReporter reporter(long everyN, long detailedNanos) {
+        return new StatsReporter(everyN, detailedNanos, TimeUnit.MILLISECONDS.toNanos(5), 8, false,
+                (level, line) -> {
+                    levels.add(level);
+                    lines.add(line);
+                });
+    }
+
+    @Test
+    void testStatsLineEveryNMessagesAndDetailedReportOnInterval() {
+        StatsReporter reporter = reporter(1_000, TimeUnit.SECONDS.toNanos(10));
+        StatsCounters ticks = reporter.counters("ticks", "jumps", "quotes");
+        StatsCounters orders = reporter.counters("orders", "accepted");
+
+        for (int i = 0; i < 999; i++) {
+            ticks.onMessage();
+        }
+        ticks.add(1, 3);
+        long start = System.nanoTime();
+        reporter.poll(start);
+        assertTrue(lines.isEmpty(), "below log_every_n_messages");
+
+        ticks.onMessage();
+        orders.onMessage();
+        orders.increment(1);
+        reporter.poll(start + 1);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("Stats: messages=1001"), lines.get(0));
+        assertTrue(lines.get(0).contains("ticks: "), lines.get(0));
+        assertTrue(lines.get(0).contains("jumps=+3 quotes=+0"), lines.get(0));
+        assertTrue(lines.get(0).contains("accepted=+1"), lines.get(0));
+
+        reporter.poll(start + 2);
+        assertEquals(1, lines.size(), "same multiple of N reported once");
+
+        ticks.set(2, 42);
+        reporter.poll(start + TimeUnit.SECONDS.toNanos(11));
+        assertEquals(2, lines.size());
+        String detailed = lines.get(1);
+        assertTrue(detailed.startsWith("Detailed stats over "), detailed);
+        assertTrue(detailed.contains("\n  ticks:\n    messages = 1000"), detailed);
+        assertTrue(detailed.contains("quotes = 42"), detailed);
+        assertTrue(detailed.contains("\n  orders:"), detailed);
+    }
+
+    @Test
+    void testEventsAreFormattedByReporterAndOverflowIsCounted() {
+        StatsReporter reporter = reporter(0, 0);
+        int jump = reporter.defineEvent(Level.DEBUG, "Jump on {}: size={}%", EventArg.LONG, EventArg.DOUBLE);
+        int gap = reporter.defineEvent(Level.WARN, "Sequence gap: expected {}, got {}", EventArg.LONG, EventArg.LONG);
+        LogEventRing ring = reporter.eventRing("generator");
+
+        assertTrue(ring.write(jump, 7, Double.doubleToRawLongBits(-0.12345)));
+        assertTrue(ring.write(gap, 10, 12));
+        assertEquals(2, reporter.poll(System.nanoTime()));
+
+        assertEquals(List.of("[generator] Jump on 7: size=-0.123%", "[generator] Sequence gap: expected 10, got 12"),
+                lines);
+        assertEquals(List.of(Level.DEBUG, Level.WARN), levels);
+
+        for (int i = 0; i < 10; i++) {
+            ring.write(gap, i, i + 1);
+        }
+        assertEquals(8, ring.capacity());
+        assertEquals(2, ring.dropped());
+        assertEquals(8, reporter.poll(System.nanoTime()));
+        assertTrue(ring.write(gap, 100, 101), "space again after draining");
+
+        assertThrows(IllegalArgumentException.class, () -> reporter.defineEvent(Level.INFO, "{} {}", EventArg.LONG));
+    }
+
+    @Test
+    void testHotPathDoesNotAllocate() {
+        StatsReporter reporter = reporter(1_000, 0);
+        StatsCounters counters = reporter.counters("hot", "orders");
+        LogEventRing ring = reporter.eventRing("hot");
+        int template = reporter.defineEvent(Level.INFO, "tick {} {}", EventArg.LONG, EventArg.DOUBLE);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int round = 0; round < 3; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 200_000; i++) {
+                counters.onMessage();
+                counters.increment(1);
+                ring.write(template, i, Double.doubleToRawLongBits(i * 0.5));
+            }
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+            if (round == 2) {
+                assertTrue(allocated < 1024, "hot path allocated " + allocated + " bytes");
+            }
+        }
+        assertEquals(600_000, counters.get(StatsCounters.MESSAGES));
+        assertTrue(ring.dropped() > 0);
+    }
+
+    @Test
+    void testBackgroundThreadDrainsOnClose() {
+        StatsReporter reporter = new StatsReporter(0, TimeUnit.HOURS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(5),
+                64, true, (level, line) -> lines.add(line));
+        assertTrue(reporter.isLogIndividualMessages());
+        int template = reporter.defineEvent(Level.INFO, "message {}", EventArg.LONG);
+        LogEventRing ring = reporter.eventRing("feed");
+        StatsCounters counters = reporter.counters("feed");
+
+        reporter.start(Executors.defaultThreadFactory());
+        for (int i = 0; i < 10; i++) {
+            ring.write(template, i);
+            counters.onMessage();
+        }
+        reporter.close();
+
+        assertTrue(lines.contains("[feed] message 9"), lines.toString());
+        String last = lines.get(lines.size() - 1);
+        assertTrue(last.contains("messages = 10"), last);
+        assertTrue(last.contains("events[feed]: published=10 dropped=0"), last);
+    }
+}
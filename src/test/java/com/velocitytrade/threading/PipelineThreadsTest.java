@@ -0,0 +1,104 @@
+package com.velocitytrade.threading;
+
+import com.velocitytrade.config.ConfigLoader;
+import com.velocitytrade.config.ConfigLoader.AppConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineThreadsTest {
+
+    @Test
+    void testCpuSetParsing() {
+        assertEquals(CpuSet.of(2, 4, 5, 6), CpuSet.parse("2,4-6"));
+        assertEquals("2,4-6", CpuSet.parse(" 6, 4-5 ,2 ").toString());
+        assertTrue(CpuSet.parse("").isEmpty());
+        assertTrue(CpuSet.parse(null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> CpuSet.parse("3-1"));
+        assertThrows(IllegalArgumentException.class, () -> CpuSet.parse("a"));
+    }
+
+    @Test
+    void testWaitStrategyParsing() {
+        assertEquals(WaitStrategyType.PHASED_BACKOFF, WaitStrategyType.parse("phased-backoff"));
+        assertEquals(WaitStrategyType.BUSY_SPIN, WaitStrategyType.parse("BUSY_SPIN"));
+        assertThrows(IllegalArgumentException.class, () -> WaitStrategyType.parse("SPIN_HARDER"));
+
+        for (WaitStrategyType type : WaitStrategyType.values()) {
+            assertNotNull(type.newDisruptorWaitStrategy(1_000, 10_000));
+            assertNotNull(type.newIdleStrategy(1_000, 10_000));
+        }
+    }
+
+    @Test
+    void testConfiguredStages() throws Exception {
+        AppConfig config = ConfigLoader.loadConfig("config/application.yaml");
+        PipelineThreads pipelineThreads = PipelineThreads.fromConfig(config);
+
+        assertEquals(WaitStrategyType.SLEEPING, pipelineThreads.waitStrategyType(PipelineThreads.JOURNAL));
+        assertEquals(WaitStrategyType.PHASED_BACKOFF, pipelineThreads.waitStrategyType(PipelineThreads.PUBLISHER));
+        assertEquals(WaitStrategyType.BUSY_SPIN, pipelineThreads.waitStrategyType("unconfigured"));
+    }
+
+    @Test
+    void testThreadsArePinnedOrFallBack() throws InterruptedException {
+        CpuSet available = CpuAffinity.currentThreadCpus();
+        CpuSet target = available.isEmpty() ? CpuSet.of(0) : CpuSet.of(available.get(0));
+
+        PipelineThreads pipelineThreads = new PipelineThreads(WaitStrategyType.BUSY_SPIN, 1_000, 10_000)
+                .configure(PipelineThreads.GENERATOR, WaitStrategyType.YIELDING, target);
+
+        Thread thread = pipelineThreads.newThread(PipelineThreads.GENERATOR, () -> { });
+        thread.start();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<PipelineThreads.ThreadInfo> threads = pipelineThreads.threads();
+        assertEquals(1, threads.size());
+        assertEquals("vt-generator-0", threads.get(0).name());
+        assertEquals(WaitStrategyType.YIELDING, threads.get(0).waitStrategy());
+
+        assertEquals(target, threads.get(0).requestedCpus());
+        if (threads.get(0).pinned()) {
+            assertEquals(target, threads.get(0).actualCpus());
+        } else {
+            // Pinning unavailable (no taskset, restricted container): the thread keeps its inherited cpus
+            assertEquals(available, threads.get(0).actualCpus());
+        }
+    }
+
+    @Test
+    void testPhasedBackoffEscalates() {
+        IdleStrategy.PhasedBackoff idle = new IdleStrategy.PhasedBackoff(
+                TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(200), 16_000);
+
+        idle.idle(0);
+        assertEquals(IdleStrategy.PhasedBackoff.Phase.SPIN, idle.phase());
+
+        List<IdleStrategy.PhasedBackoff.Phase> phases = new ArrayList<>(List.of(idle.phase()));
+        List<Long> parks = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (parks.size() < 6 && System.nanoTime() < deadline) {
+            idle.idle(0);
+            if (phases.get(phases.size() - 1) != idle.phase()) {
+                phases.add(idle.phase());
+            }
+            if (idle.phase() == IdleStrategy.PhasedBackoff.Phase.PARK) {
+                parks.add(idle.parkNanos());
+            }
+        }
+
+        assertEquals(List.of(IdleStrategy.PhasedBackoff.Phase.SPIN, IdleStrategy.PhasedBackoff.Phase.YIELD,
+                IdleStrategy.PhasedBackoff.Phase.PARK), phases, "Spin, then yield, then park; never back");
+        assertEquals(List.of(1_000L, 2_000L, 4_000L, 8_000L, 16_000L, 16_000L), parks,
+                "Park interval doubles up to the cap");
+
+        idle.idle(1);  // work resets the backoff
+        assertEquals(0, idle.parkNanos());
+        idle.idle(0);
+        assertEquals(IdleStrategy.PhasedBackoff.Phase.SPIN, idle.phase());
+    }
+}
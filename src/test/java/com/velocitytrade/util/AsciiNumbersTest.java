@@ -0,0 +1,35 @@
+package com.velocitytrade.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiNumbersTest {
+    @Test
+    void testParseDoubleMatchesJdk() {
+        String[] samples = {"0", "195.50", "0.0220", "-3.25", "+7", "123456789.123456789", "1e-3", "0.1"};
+        for (String sample : samples) {
+            ByteBuffer buffer = ByteBuffer.wrap(sample.getBytes(StandardCharsets.US_ASCII));
+            assertEquals(Double.parseDouble(sample), AsciiNumbers.parseDouble(buffer, 0, buffer.limit()), 0.0, sample);
+        }
+    }
+
+    @Test
+    void testAppendFixed() {
+        StringBuilder builder = new StringBuilder();
+        assertEquals("1.500", AsciiNumbers.appendFixed(builder, 1.5, 3).toString());
+        builder.setLength(0);
+        assertEquals("-0.05", AsciiNumbers.appendFixed(builder, -0.049, 2).toString());
+        builder.setLength(0);
+        assertEquals("0.0", AsciiNumbers.appendFixed(builder, -0.01, 1).toString());
+        builder.setLength(0);
+        assertEquals("195.50", AsciiNumbers.appendFixed(builder, 195.4999999, 2).toString());
+        builder.setLength(0);
+        assertEquals("3", AsciiNumbers.appendFixed(builder, 2.5, 0).toString());
+        builder.setLength(0);
+        assertEquals("NaN", AsciiNumbers.appendFixed(builder, Double.NaN, 2).toString());
+    }
+}
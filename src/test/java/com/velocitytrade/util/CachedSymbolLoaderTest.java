@@ -0,0 +1,112 @@
+package com.velocitytrade.util;
+
+import com.velocitytrade.marketdata.Symbol;
+import com.velocitytrade.util.SymbolSnapshotCache.CachedPrice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedSymbolLoaderTest {
+
+    private static final long TTL_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    @TempDir
+    Path tempDir;
+
+    private CsvSymbolLoader csvLoader;
+    private SymbolSnapshotCache cache;
+    private final List<List<String>> fetchCalls = new ArrayList<>();
+
+    @BeforeEach
+    void setup() throws IOException {
+        Path csv = tempDir.resolve("symbols.csv");
+        Files.writeString(csv, """
+                id,ticker,name,price,volatility
+                0,AAA,Alpha Inc.,10.00,0.0200
+                1,BBB,Beta Corp.,20.00,0.0210
+                2,CCC,Gamma Ltd.,30.00,0.0220
+                """);
+        csvLoader = new CsvSymbolLoader(csv.toString());
+        cache = new SymbolSnapshotCache(tempDir.resolve("cache/symbols.bin"));
+    }
+
+    private SymbolPriceFetcher fetcher(double price) {
+        return symbols -> {
+            fetchCalls.add(symbols.stream().map(Symbol::ticker).toList());
+            Map<String, Double> prices = new HashMap<>();
+            symbols.forEach(s -> prices.put(s.ticker(), price));
+            return prices;
+        };
+    }
+
+    @Test
+    void testColdStartFetchesAndSecondStartIsServedFromCache() {
+        List<Symbol> first = new CachedSymbolLoader(fetcher(50.0), csvLoader, cache, TTL_MILLIS, true).loadSymbols();
+
+        assertEquals(1, fetchCalls.size());
+        assertEquals(List.of("AAA", "BBB", "CCC"), fetchCalls.get(0));
+        first.forEach(s -> assertEquals(50.0, s.initialPrice(), 1e-9));
+
+        List<Symbol> second = new CachedSymbolLoader(fetcher(60.0), csvLoader, cache, TTL_MILLIS, true).loadSymbols();
+
+        assertEquals(1, fetchCalls.size(), "Fresh cache should not hit the network");
+        second.forEach(s -> assertEquals(50.0, s.initialPrice(), 1e-9));
+        assertEquals("Beta Corp.", second.get(1).name());
+    }
+
+    @Test
+    void testOnlyStaleEntriesAreRefreshedInBackground() throws Exception {
+        long now = System.currentTimeMillis();
+        Map<String, CachedPrice> entries = new HashMap<>();
+        entries.put("AAA", new CachedPrice(11.0, now));
+        entries.put("BBB", new CachedPrice(21.0, now - TTL_MILLIS - 1000));
+        entries.put("CCC", new CachedPrice(31.0, now));
+        cache.write(entries);
+
+        CachedSymbolLoader loader = new CachedSymbolLoader(fetcher(99.0), csvLoader, cache, TTL_MILLIS, true);
+        List<Symbol> symbols = loader.loadSymbols();
+
+        // Stale price is served immediately
+        assertEquals(21.0, symbols.get(1).initialPrice(), 1e-9);
+
+        List<Symbol> refreshed = loader.getBackgroundRefresh().get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(List.of("BBB")), fetchCalls);
+        assertEquals(99.0, refreshed.get(1).initialPrice(), 1e-9);
+        assertEquals(11.0, refreshed.get(0).initialPrice(), 1e-9);
+        assertEquals(99.0, cache.read().get("BBB").price(), 1e-9);
+    }
+
+    @Test
+    void testNetworkFailureFallsBackToCsv() {
+        SymbolPriceFetcher offline = symbols -> Map.of();
+        List<Symbol> symbols = new CachedSymbolLoader(offline, csvLoader, cache, TTL_MILLIS, false).loadSymbols();
+
+        assertEquals(3, symbols.size());
+        assertEquals(30.0, symbols.get(2).initialPrice(), 1e-9);
+        assertFalse(Files.exists(cache.getPath()), "Nothing fetched, nothing cached");
+    }
+
+    @Test
+    void testCorruptCacheIsIgnored() throws IOException {
+        Map<String, CachedPrice> entries = new HashMap<>();
+        entries.put("AAA", new CachedPrice(11.0, System.currentTimeMillis()));
+        cache.write(entries);
+
+        byte[] bytes = Files.readAllBytes(cache.getPath());
+        bytes[bytes.length - 12] ^= 0x7F;
+        Files.write(cache.getPath(), bytes);
+
+        assertTrue(cache.read().isEmpty());
+    }
+}
@@ -0,0 +1,147 @@
+package com.velocitytrade.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.velocitytrade.marketdata.Symbol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentYahooFinanceSymbolLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private String csvPath;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        Path csv = tempDir.resolve("symbols.csv");
+        Files.writeString(csv, """
+                id,ticker,name,price,volatility
+                0,AAA,Alpha Inc.,10.00,0.0200
+                1,BBB,Beta Corp.,20.00,0.0210
+                2,CCC,Gamma Ltd.,30.00,0.0220
+                3,DDD,Delta Co.,40.00,0.0230
+                """);
+        csvPath = csv.toString();
+    }
+
+    @AfterEach
+    void teardown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testBatchThenChartThenCsvFallback() {
+        AtomicInteger cccAttempts = new AtomicInteger();
+
+        server.createContext("/v7/finance/quote", exchange -> respond(exchange, 200, """
+                {"quoteResponse":{"result":[
+                  {"symbol":"AAA","regularMarketPrice":11.5},
+                  {"symbol":"BBB","regularMarketPrice":21.5}
+                ]}}"""));
+        server.createContext("/v8/finance/chart/CCC", exchange -> {
+            if (cccAttempts.incrementAndGet() == 1) {
+                respond(exchange, 503, "");
+            } else {
+                respond(exchange, 200, chartJson(31.5));
+            }
+        });
+        server.createContext("/v8/finance/chart/DDD", exchange -> respond(exchange, 404, ""));
+        server.start();
+
+        var loader = new ConcurrentYahooFinanceSymbolLoader(baseUrl, 5, csvPath, 4, 100.0, 2, 10, 50);
+        List<Symbol> symbols = loader.loadSymbols();
+
+        assertEquals(4, symbols.size());
+        assertEquals(11.5, symbols.get(0).initialPrice(), 1e-9);
+        assertEquals(21.5, symbols.get(1).initialPrice(), 1e-9);
+        assertEquals(31.5, symbols.get(2).initialPrice(), 1e-9);
+        assertEquals(40.0, symbols.get(3).initialPrice(), 1e-9, "DDD should fall back to CSV price");
+        assertEquals(2, cccAttempts.get(), "CCC should be retried once after 503");
+
+        // Order, ids and reference data come from the CSV
+        assertEquals("Gamma Ltd.", symbols.get(2).name());
+        assertEquals(0.0220, symbols.get(2).volatility(), 1e-9);
+    }
+
+    @Test
+    void testInFlightRequestsAreBounded() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        server.createContext("/v8/finance/chart/", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            respond(exchange, 200, chartJson(99.0));
+        });
+        server.start();
+
+        // batchSize = 1 disables the multi-symbol endpoint
+        var loader = new ConcurrentYahooFinanceSymbolLoader(baseUrl, 5, csvPath, 2, 1000.0, 0, 0, 1);
+        List<Symbol> symbols = loader.loadSymbols();
+
+        assertEquals(4, symbols.size());
+        symbols.forEach(s -> assertEquals(99.0, s.initialPrice(), 1e-9));
+        assertTrue(maxInFlight.get() <= 2, "At most 2 requests in flight, saw " + maxInFlight.get());
+    }
+
+    @Test
+    void testTokenBucketLimitsBurst() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20.0, 3);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire(), "Burst capacity should be exhausted");
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // One token refills after ~50 ms at 20 permits/sec
+        assertTrue(waitedMs >= 30, "Expected to wait for refill, waited " + waitedMs + " ms");
+    }
+
+    private static String chartJson(double price) {
+        return "{\"chart\":{\"result\":[{\"meta\":{\"regularMarketPrice\":" + price + "}}]}}";
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
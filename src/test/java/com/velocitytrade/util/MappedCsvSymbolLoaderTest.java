@@ -0,0 +1,87 @@
+package com.velocitytrade.util;
+
+import com.velocitytrade.marketdata.Symbol;
+import com.velocitytrade.marketdata.SymbolStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCsvSymbolLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMatchesCsvLoader() {
+        List<Symbol> expected = new CsvSymbolLoader("config/sp100.csv").loadSymbols();
+        List<Symbol> actual = new MappedCsvSymbolLoader("config/sp100.csv", 4).loadSymbols();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testCrlfWhitespaceAndBlankLines() throws IOException {
+        Path csv = tempDir.resolve("symbols.csv");
+        Files.writeString(csv, "id,ticker,name,price,volatility\r\n"
+                + " 0 , AAA , Alpha Inc. , 10.5 , 0.02 \r\n"
+                + "\r\n"
+                + "1,BBB,Beta Corp.,1e2,-0.0210");
+
+        SymbolStore store = new MappedCsvSymbolLoader(csv.toString()).loadStore();
+
+        assertEquals(2, store.size());
+        assertEquals("AAA", store.ticker(0));
+        assertEquals("Alpha Inc.", store.name(0));
+        assertEquals(10.5, store.initialPrice(0), 0.0);
+        assertEquals(1, store.id(1));
+        assertEquals(100.0, store.initialPrice(1), 0.0);
+        assertEquals(-0.021, store.volatility(1), 0.0);
+    }
+
+    @Test
+    void testInvalidLineRejected() throws IOException {
+        Path csv = tempDir.resolve("bad.csv");
+        Files.writeString(csv, "id,ticker,name,price,volatility\n0,AAA,Alpha\n");
+
+        MappedCsvSymbolLoader loader = new MappedCsvSymbolLoader(csv.toString());
+        assertThrows(IllegalArgumentException.class, loader::loadStore);
+    }
+
+    @Test
+    void testMillionRowUniverse() throws IOException {
+        int rows = 1_000_000;
+        Path csv = tempDir.resolve("universe.csv");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+            writer.write("id,ticker,name,price,volatility\n");
+            for (int i = 0; i < rows; i++) {
+                writer.write(i + ",SYM" + i + ",Synthetic " + i + "," + (10 + i % 1000) + ".25,0.0" + (100 + i % 900) + "\n");
+            }
+        }
+
+        MappedCsvSymbolLoader loader = new MappedCsvSymbolLoader(csv.toString(), 8);
+        loader.loadStore();  // warm up
+
+        long start = System.nanoTime();
+        SymbolStore store = loader.loadStore();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(rows, store.size());
+        for (int row : new int[]{0, 1, 499_999, rows - 1}) {
+            assertEquals(row, store.id(row));
+            assertEquals("SYM" + row, store.ticker(row));
+            assertEquals("Synthetic " + row, store.name(row));
+            assertEquals(10 + row % 1000 + 0.25, store.initialPrice(row), 1e-9);
+        }
+
+        // A parallel mapped load takes a few hundred ms; 2 s leaves headroom for slow CI hosts
+        assertTrue(elapsedMs < 2_000, "Loaded " + rows + " rows in " + elapsedMs + " ms");
+    }
+}
@@ -0,0 +1,68 @@
+package com.velocitytrade.warmup;
+
+import com.velocitytrade.marketdata.PriceGenerator;
+import com.velocitytrade.marketdata.PriceScales;
+import com.velocitytrade.marketdata.SymbolRegistry;
+import com.velocitytrade.marketdata.TestSymbols;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JitWarmupTest {
+    private final SymbolRegistry registry = TestSymbols.registry();
+    private final PriceScales scales = TestSymbols.scales(registry);
+
+    @Test
+    void testWarmupDrivesAllStagesAndGoesLive() throws InterruptedException {
+        ReadinessGate gate = new ReadinessGate();
+        JitWarmup warmup = new JitWarmup(registry, scales, gate, new PriceGenerator(42),
+                20_000, 2_000_000, 5_000, 2, 0.5);
+        WarmupStages.registerDefaults(warmup, registry.idLimit());
+
+        long[] ticks = new long[registry.idLimit()];
+        warmup.addStage("counter", (symbolId, mid, bid, ask, timestamp) -> {
+            assertTrue(bid < mid && mid < ask);
+            ticks[symbolId]++;
+        });
+
+        assertFalse(gate.isLive());
+        JitWarmup.Result result = warmup.run();
+
+        assertTrue(gate.isLive());
+        assertTrue(gate.awaitLive(0, TimeUnit.MILLISECONDS));
+        assertTrue(result.iterations() >= 20_000);
+        assertEquals(result.iterations(), ticks[0] + ticks[1] + ticks[2]);
+        assertTrue(ticks[2] > 0);
+
+        assertEquals(result.rounds() * 6, result.curve().size(), "generator + 4 defaults + counter per round");
+        JitWarmup.StageLatency first = result.curve().get(0);
+        assertEquals(1, first.round());
+        assertEquals(JitWarmup.GENERATOR, first.stage());
+        assertTrue(first.p99Nanos() >= first.p50Nanos());
+    }
+
+    @Test
+    void testGoesLiveAtMaxIterationsWhenNeverStable() {
+        ReadinessGate gate = new ReadinessGate();
+        JitWarmup warmup = new JitWarmup(registry, scales, gate, new PriceGenerator(1),
+                0, 3_000, 1_000, 100, 0.0);
+
+        JitWarmup.Result result = warmup.run();
+
+        assertFalse(result.stabilized());
+        assertEquals(3_000, result.iterations());
+        assertEquals(3, result.rounds());
+        assertTrue(gate.isLive());
+    }
+
+    @Test
+    void testInvalidSettingsRejected() {
+        ReadinessGate gate = new ReadinessGate();
+        assertThrows(IllegalArgumentException.class, () -> new JitWarmup(registry, scales, gate,
+                new PriceGenerator(1), 10, 5, 1_000, 1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> new JitWarmup(registry, scales, gate,
+                new PriceGenerator(1), 0, 5, 0, 1, 0.1));
+    }
+}